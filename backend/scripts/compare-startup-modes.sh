@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# 기동 방식별 기동 시간/RSS 비교 (jar, 풀어 놓은 클래스패스, AppCDS, 네이티브 이미지)
+# 사용법: scripts/compare-startup-modes.sh <label>
+#   1) mvn package 후:                         scripts/compare-startup-modes.sh jvm
+#   2) mvn -Paot package 후 (AOT 적용 jar):     scripts/compare-startup-modes.sh aot
+#   3) mvn -Pnative native:compile 후 target/extension-blocker 실행 파일이 있으면 native 모드도 측정
+# 모드마다 RUNS번 띄워서 /actuator/health가 200을 반환할 때까지의 시간(프로세스 시작부터),
+# Spring이 보고한 기동 시간, 그 시점의 RSS(VmRSS)를 target/startup-modes-<label>.csv에 저장
+# health 검사에 DB가 포함되므로 DB를 띄워 둔 상태에서 실행 (AppCDS 학습 실행에는 DB가 필요 없음)
+set -euo pipefail
+
+LABEL=${1:?label required (e.g. jvm, aot)}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+MODES=${MODES:-"jar exploded cds native"}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-60}
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+JAR=$(ls "$BASE_DIR"/target/extension-blocker-*.jar | head -1)
+NATIVE="$BASE_DIR/target/extension-blocker"
+LAYOUT="$BASE_DIR/target/startup-layout"
+OUT="$BASE_DIR/target/startup-modes-$LABEL.csv"
+LOG="$BASE_DIR/target/startup-modes.log"
+
+sh "$BASE_DIR/scripts/extract-layout.sh" "$JAR" "$LAYOUT"
+AOT_FLAG=$(grep -x -- '-Dspring.aot.enabled=true' "$LAYOUT/app.args" || true)
+
+# AppCDS 학습 실행: 컨텍스트 refresh 직후(라이프사이클 빈 시작 전) 종료하며 그때까지 읽은 클래스를 아카이브
+java -XX:ArchiveClassesAtExit="$LAYOUT/app.jsa" -Dspring.context.exit=onRefresh @"$LAYOUT/app.args" > "$LOG" 2>&1
+
+command_for() {
+  case $1 in
+    jar) echo "java $AOT_FLAG -jar $JAR" ;;
+    exploded) echo "java @$LAYOUT/app.args" ;;
+    cds) echo "java -XX:SharedArchiveFile=$LAYOUT/app.jsa -Xlog:cds=off -Xlog:cds+dynamic=off @$LAYOUT/app.args" ;;
+    native) [ -x "$NATIVE" ] && echo "$NATIVE" ;;
+  esac
+}
+
+now_millis() {
+  date +%s%3N
+}
+
+echo "label,mode,run,ready_millis,spring_started_seconds,rss_mb" > "$OUT"
+for mode in $MODES; do
+  cmd=$(command_for "$mode") || { echo "skip $mode (target/extension-blocker not found)"; continue; }
+  for run in $(seq 1 "$RUNS"); do
+    start=$(now_millis)
+    $cmd --server.port="$PORT" > "$LOG" 2>&1 &
+    pid=$!
+    ready=""
+    while kill -0 "$pid" 2>/dev/null && [ $(( $(now_millis) - start )) -lt $(( TIMEOUT_SECONDS * 1000 )) ]; do
+      if curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; then
+        ready=$(( $(now_millis) - start ))
+        break
+      fi
+      sleep 0.05
+    done
+    rss=$(awk '/^VmRSS/ {printf "%.1f", $2 / 1024}' "/proc/$pid/status" 2>/dev/null || echo "")
+    started=$(sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' "$LOG" | head -1)
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [ -z "$ready" ]; then
+      echo "$mode run $run did not become ready, see $LOG" >&2
+      exit 1
+    fi
+    echo "$LABEL,$mode,$run,$ready,$started,$rss" | tee -a "$OUT"
+  done
+done
@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드의 처리량/p99 비교
+# 사용법: scripts/compare-thread-modes.sh <label> [base-url] [namespace]
+#   1) 기본 모드로 실행한 서버에 대해:   scripts/compare-thread-modes.sh platform
+#   2) -Pjava21 빌드 + SPRING_PROFILES_ACTIVE=virtual 서버에 대해: scripts/compare-thread-modes.sh virtual
+#   TARGET=policy 로 실행하면 GET /api/policies/{namespace}를 측정 (기본: POST /api/validate/file)
+# 부하 도구로 hey(https://github.com/rakyll/hey)를 사용하며, 결과는 target/thread-modes-<label>-<target>.csv에 저장
+# 측정 전에 WARMUP(기본 60s) 동안 가장 낮은 동시성으로 부하를 주고 결과는 버림 (JIT 워밍업)
+# errors는 응답을 받지 못한 요청 수 (연결 거부, 타임아웃 등)
+set -euo pipefail
+
+LABEL=${1:?label required (e.g. platform, virtual)}
+BASE_URL=${2:-http://localhost:8080}
+NAMESPACE=${3:-chat}
+DURATION=${DURATION:-60s}
+CONCURRENCY_LEVELS=${CONCURRENCY_LEVELS:-"1000 5000 10000"}
+TARGET=${TARGET:-file}
+WARMUP=${WARMUP:-60s}
+
+OUT_DIR=$(dirname "$0")/../target
+mkdir -p "$OUT_DIR"
+OUT="$OUT_DIR/thread-modes-$LABEL-$TARGET.csv"
+BODY="{\"filename\":\"report.exe\",\"namespace\":\"$NAMESPACE\"}"
+
+# 스냅샷 캐시 적재
+curl -sf -X POST "$BASE_URL/api/validate/file" -H 'Content-Type: application/json' -d "$BODY" > /dev/null
+
+run() {
+  if [ "$TARGET" = policy ]; then
+    hey -z "$1" -c "$2" "$BASE_URL/api/policies/$NAMESPACE"
+  else
+    hey -z "$1" -c "$2" -m POST -T application/json -d "$BODY" "$BASE_URL/api/validate/file"
+  fi
+}
+
+read -r first _ <<< "$CONCURRENCY_LEVELS"
+run "$WARMUP" "$first" > /dev/null
+
+echo "mode,target,concurrency,requests_per_sec,p99_seconds,non_2xx,errors" > "$OUT"
+for c in $CONCURRENCY_LEVELS; do
+  report=$(run "$DURATION" "$c")
+  rps=$(echo "$report" | awk '/Requests\/sec/ {print $2}')
+  p99=$(echo "$report" | awk '/99% in/ {print $3}')
+  # 상태 코드 분포는 "[코드] 개수 responses", 오류 분포는 "[개수] 메시지" 형식
+  non2xx=$(echo "$report" | awk '/^\s*\[[0-9]+\].*responses$/ && $1 !~ /\[2/ {sum += $2} END {print sum + 0}')
+  errors=$(echo "$report" | awk '/^\s*\[[0-9]+\]/ && !/responses$/ {gsub(/[^0-9]/, "", $1); sum += $1} END {print sum + 0}')
+  echo "$LABEL,$TARGET,$c,$rps,$p99,$non2xx,$errors" | tee -a "$OUT"
+done
@@ -0,0 +1,32 @@
+#!/bin/sh
+# 실행 가능한 Spring Boot jar를 AppCDS 아카이브를 쓸 수 있는 평범한 클래스패스로 풀어 놓음
+# (CDS는 중첩 jar와 클래스패스의 디렉터리에서 읽은 클래스를 아카이브하지 못함)
+# 사용법: scripts/extract-layout.sh <boot-jar> <out-dir>
+#   <out-dir>/application.jar  애플리케이션 클래스와 리소스 (BOOT-INF/classes)
+#   <out-dir>/lib/*.jar        의존성
+#   <out-dir>/app.args         java @<out-dir>/app.args 로 실행할 클래스패스(classpath.idx 순서)와 메인 클래스
+#                              -Paot로 빌드한 jar면 -Dspring.aot.enabled=true도 포함
+# Dockerfile과 scripts/compare-startup-modes.sh가 사용
+set -eu
+
+JAR=$(cd "$(dirname "$1")" && pwd)/$(basename "$1")
+mkdir -p "$2/lib"
+OUT=$(cd "$2" && pwd)
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+(cd "$WORK" && jar -xf "$JAR")
+cp "$WORK"/BOOT-INF/lib/*.jar "$OUT/lib/"
+rm -f "$OUT/application.jar"
+jar -cf "$OUT/application.jar" -C "$WORK/BOOT-INF/classes" .
+
+MAIN=$(tr -d '\r' < "$WORK/META-INF/MANIFEST.MF" | sed -n 's/^Start-Class: *//p')
+CLASSPATH="$OUT/application.jar:$(sed -n "s|^- \"BOOT-INF/lib/\(.*\)\"\$|$OUT/lib/\1|p" "$WORK/BOOT-INF/classpath.idx" | paste -sd: -)"
+
+{
+  if [ -f "$WORK/BOOT-INF/classes/$(echo "$MAIN" | tr . /)__ApplicationContextInitializer.class" ]; then
+    echo "-Dspring.aot.enabled=true"
+  fi
+  echo "-cp $CLASSPATH"
+  echo "$MAIN"
+} > "$OUT/app.args"
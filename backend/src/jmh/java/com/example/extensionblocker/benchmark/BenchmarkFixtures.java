@@ -0,0 +1,102 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.config.ChangeFeedProperties;
+import com.example.extensionblocker.config.ExtensionMatchingProperties;
+import com.example.extensionblocker.config.ReplicaDataSourceProperties;
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.datasource.ReadYourWrites;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import com.example.extensionblocker.service.ExtensionServiceImpl;
+import com.example.extensionblocker.type.ExtensionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공통 데이터 생성 유틸리티
+ */
+final class BenchmarkFixtures {
+
+    static final String NAMESPACE = "bench";
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 고정 확장자 전체와 무작위 커스텀 확장자로 구성된 규칙 목록 생성
+     *
+     * @param ruleCount 전체 규칙 개수 (고정 확장자 포함)
+     * @return 중복 없는 확장자 목록
+     */
+    static List<String> extensions(int ruleCount) {
+        List<String> extensions = new ArrayList<>(ExtensionConst.DEFAULT_FIXED_EXTENSIONS);
+        Random random = new Random(42);
+        while (extensions.size() < ruleCount) {
+            int length = 2 + random.nextInt(6);
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String extension = sb.toString();
+            if (!extensions.contains(extension)) {
+                extensions.add(extension);
+            }
+        }
+        return extensions;
+    }
+
+    /**
+     * 규칙이 채워진 인메모리 저장소 생성
+     *
+     * @param ruleCount 전체 규칙 개수
+     * @return 인메모리 저장소
+     */
+    static InMemoryRuleStore store(int ruleCount) {
+        InMemoryRuleStore store = new InMemoryRuleStore();
+        List<String> extensions = extensions(ruleCount);
+        for (int i = 0; i < extensions.size(); i++) {
+            ExtensionType type = i < ExtensionConst.DEFAULT_FIXED_EXTENSIONS.size()
+                    ? ExtensionType.FIXED
+                    : ExtensionType.CUSTOM;
+            store.add(NAMESPACE, extensions.get(i), type);
+        }
+        return store;
+    }
+
+    /**
+     * 인메모리 저장소를 사용하는 서비스 생성
+     *
+     * @param store 인메모리 저장소
+     * @return 서비스 구현체
+     */
+    static ExtensionServiceImpl service(InMemoryRuleStore store) {
+        return new ExtensionServiceImpl(store, store, new PolicySnapshotCache(store, new ExtensionMatchingProperties()),
+                store, new ChangeFeedProperties(), new ReadYourWrites(new ReplicaDataSourceProperties()));
+    }
+
+    /**
+     * 차단/허용 확장자가 섞인 파일명 목록 생성
+     *
+     * @param extensions 차단 확장자 목록
+     * @param count      파일명 개수 (2의 거듭제곱)
+     * @return 파일명 배열
+     */
+    static String[] filenames(List<String> extensions, int count) {
+        Random random = new Random(7);
+        String[] allowed = {"png", "jpg", "pdf", "docx", "xlsx", "zip", "txt", "hwp"};
+        String[] filenames = new String[count];
+        for (int i = 0; i < count; i++) {
+            String extension = random.nextBoolean()
+                    ? extensions.get(random.nextInt(extensions.size()))
+                    : allowed[random.nextInt(allowed.length)];
+            if (random.nextInt(4) == 0) {
+                extension = extension.toUpperCase();
+            }
+            filenames[i] = "report_2024_q" + (i % 4 + 1) + "_final." + extension;
+        }
+        return filenames;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.policy.ExtensionMatcher;
+import com.example.extensionblocker.type.MatchMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다중 구간 확장자 매칭 비용 측정
+ * 규칙 수가 늘어도 파일명당 비용이 일정한지 매칭 모드별로 확인
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompoundExtensionMatchBenchmark {
+
+    private static final int FILENAMES = 1024;
+
+    @Param({"10", "1000", "5000"})
+    private int ruleCount;
+
+    @Param({"SUFFIX", "ANY_SEGMENT"})
+    private MatchMode mode;
+
+    private ExtensionMatcher matcher;
+    private String[] filenames;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        List<String> extensions = new ArrayList<>(BenchmarkFixtures.extensions(ruleCount));
+        extensions.addAll(List.of("tar.gz", "user.js", "pdf.exe", "tar.bz2"));
+        matcher = ExtensionMatcher.compile(extensions, mode);
+
+        String[] base = BenchmarkFixtures.filenames(extensions, FILENAMES);
+        String[] compound = {"backup.2024.01.15.tar.gz", "script.user.js", "invoice.pdf.exe", "photo.exe.jpg",
+                "archive.TAR.BZ2", "notes.txt"};
+        filenames = new String[FILENAMES];
+        for (int i = 0; i < FILENAMES; i++) {
+            filenames[i] = i % 4 == 0 ? compound[i % compound.length] : base[i];
+        }
+    }
+
+    @Benchmark
+    public boolean matches() {
+        String filename = filenames[index++ & (FILENAMES - 1)];
+        return matcher.matches(filename);
+    }
+}
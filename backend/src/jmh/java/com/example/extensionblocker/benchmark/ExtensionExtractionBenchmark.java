@@ -0,0 +1,91 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.policy.CanonicalFilename;
+import com.example.extensionblocker.policy.ExtensionMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일명 형태별 확장자 추출/매칭 비용 측정
+ * 기존 lastIndexOf + substring + toLowerCase 경로와 CanonicalFilename 정규화(extractExtension), ExtensionMatcher를 비교
+ * trailingDots 이후의 형태는 기존 경로가 잘못된 확장자를 내는 우회 파일명 (정규화 결과는 모두 "exe")
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtensionExtractionBenchmark {
+
+    @Param({"short", "long", "manyDots", "unicode", "noExtension",
+            "trailingDots", "ntfsStream", "rtlOverride", "fullwidth", "percentEncoded"})
+    private String shape;
+
+    private String filename;
+
+    private ExtensionMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        filename = switch (shape) {
+            case "short" -> "a.EXE";
+            case "long" -> "quarterly_financial_statement_for_board_review_2024_final_v12_signed.pdf";
+            case "manyDots" -> "backup.2024.01.15.db.snapshot.tar.gz";
+            case "unicode" -> "회의록_최종본_수정.Hwp";
+            case "noExtension" -> "README_THIS_FILE_HAS_NO_EXTENSION_AT_ALL";
+            case "trailingDots" -> "invoice_2024.exe. . ";
+            case "ntfsStream" -> "invoice_2024.exe::$DATA";
+            case "rtlOverride" -> "invoice_2024\u202Efdp.exe";
+            case "fullwidth" -> "invoice_2024.\uFF45\uFF58\uFF45";
+            case "percentEncoded" -> "invoice_2024%2eexe";
+            default -> throw new IllegalArgumentException(shape);
+        };
+        matcher = ExtensionMatcher.compile(ExtensionConst.DEFAULT_FIXED_EXTENSIONS);
+    }
+
+    /**
+     * 기존 구현 (lastIndexOf + substring + toLowerCase + Set 조회 전 단계)
+     */
+    @Benchmark
+    public String substringLowerCase() {
+        int lastDot = filename.lastIndexOf('.');
+        if (lastDot == -1 || lastDot == filename.length() - 1) {
+            return "";
+        }
+        return filename.substring(lastDot + 1).toLowerCase();
+    }
+
+    /**
+     * CanonicalFilename 정규화 후 확장자 추출 (바꿀 문자가 없으면 원본 구간 참조)
+     */
+    @Benchmark
+    public String extractExtension() {
+        return ExtensionMatcher.extractExtension(filename);
+    }
+
+    /**
+     * 정규화만 (확장자 문자열 생성 없이 매처에 넘기는 형태, '%', ':', NUL이 없으면 끝부분만 읽은 상태)
+     */
+    @Benchmark
+    public CanonicalFilename canonicalize() {
+        return CanonicalFilename.of(filename);
+    }
+
+    @Benchmark
+    public boolean matcherProbe() {
+        return matcher.matches(filename);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.service.ExtensionServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 개수별 isFileAllowed 비용 측정 (인메모리 저장소 사용)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FileValidationBenchmark {
+
+    private static final int FILENAME_COUNT = 1024;
+
+    @Param({"7", "200", "10000"})
+    private int ruleCount;
+
+    private ExtensionServiceImpl service;
+
+    private String[] filenames;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        InMemoryRuleStore store = BenchmarkFixtures.store(ruleCount);
+        service = BenchmarkFixtures.service(store);
+        filenames = BenchmarkFixtures.filenames(BenchmarkFixtures.extensions(ruleCount), FILENAME_COUNT);
+        service.isFileAllowed(filenames[0], BenchmarkFixtures.NAMESPACE);
+    }
+
+    @Benchmark
+    public boolean isFileAllowed() {
+        String filename = filenames[index++ & (FILENAME_COUNT - 1)];
+        return service.isFileAllowed(filename, BenchmarkFixtures.NAMESPACE);
+    }
+}
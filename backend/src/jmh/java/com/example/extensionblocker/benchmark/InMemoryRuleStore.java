@@ -0,0 +1,258 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.mapper.ExtensionPolicyMapper;
+import com.example.extensionblocker.mapper.ExtensionRuleMapper;
+import com.example.extensionblocker.mapper.PolicyChangeMapper;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.model.PolicyChange;
+import com.example.extensionblocker.model.RuleRegistration;
+import com.example.extensionblocker.type.ChangeOperation;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.RuleEffect;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 인메모리 정책/규칙 저장소
+ * DB 없이 서비스 계층을 측정하기 위해 Mapper 인터페이스를 메모리로 구현 (변경 기록은 측정 대상이 아니므로 저장하지 않음)
+ */
+public class InMemoryRuleStore implements ExtensionPolicyMapper, ExtensionRuleMapper, PolicyChangeMapper {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, ExtensionPolicy> policies = new ConcurrentHashMap<>();
+    private final Map<Long, ExtensionRule> rules = new ConcurrentHashMap<>();
+
+    /**
+     * 네임스페이스에 확장자 규칙을 등록 (정책이 없으면 생성)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param extension 확장자명
+     * @param type      확장자 타입
+     */
+    public void add(String namespace, String extension, ExtensionType type) {
+        ExtensionPolicy policy = policies.computeIfAbsent(namespace, ns -> {
+            ExtensionPolicy created = new ExtensionPolicy(ns, ns + " Policy");
+            created.setId(sequence.incrementAndGet());
+            return created;
+        });
+        regExtensionRule(new ExtensionRule(policy.getId(), extension, type));
+    }
+
+    @Override
+    public void regExtensionPolicy(ExtensionPolicy policy) {
+        policy.setId(sequence.incrementAndGet());
+        policies.put(policy.getNamespace(), policy);
+    }
+
+    @Override
+    public int regExtensionPolicyIfAbsent(ExtensionPolicy policy) {
+        if (policies.containsKey(policy.getNamespace())) {
+            return 0;
+        }
+        regExtensionPolicy(policy);
+        return 1;
+    }
+
+    @Override
+    public Optional<ExtensionPolicy> getPolicyByNamespace(String namespace) {
+        return Optional.ofNullable(policies.get(namespace));
+    }
+
+    @Override
+    public Optional<ExtensionPolicy> getPolicyByNamespaceForUpdate(String namespace) {
+        return getPolicyByNamespace(namespace);
+    }
+
+    @Override
+    public List<ExtensionPolicy> getPoliciesByIdsForUpdate(Collection<Long> ids) {
+        return ids.stream()
+                .sorted()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public Optional<ExtensionPolicy> getPolicyWithRules(String namespace) {
+        return getPolicyByNamespace(namespace).map(policy -> new ExtensionPolicy(policy.getId(),
+                policy.getNamespace(), policy.getDescription(), policy.getStatus(), policy.getVersion(),
+                policy.getParentId(), findById(policy.getParentId()).map(ExtensionPolicy::getNamespace).orElse(null),
+                getRulesByPolicyId(policy.getId())));
+    }
+
+    @Override
+    public void updatePolicyParent(Long id, Long parentId) {
+        findById(id).ifPresent(policy -> policy.setParentId(parentId));
+    }
+
+    @Override
+    public List<Long> getAncestorIds(Long id, int maxDepth) {
+        List<Long> ancestors = new ArrayList<>();
+        Optional<ExtensionPolicy> current = findById(id);
+        while (ancestors.size() < maxDepth && current.isPresent() && current.get().getParentId() != null) {
+            ancestors.add(current.get().getParentId());
+            current = findById(current.get().getParentId());
+        }
+        return ancestors;
+    }
+
+    private Optional<ExtensionPolicy> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return policies.values().stream().filter(policy -> policy.getId().equals(id)).findFirst();
+    }
+
+    @Override
+    public ExtensionPolicy bumpPolicyVersion(Long id, String channel) {
+        for (ExtensionPolicy policy : policies.values()) {
+            if (policy.getId().equals(id)) {
+                policy.setVersion(policy.getVersion() + 1);
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Optional<ExtensionPolicy> bumpPolicyVersionByNamespace(String namespace, String channel) {
+        return getPolicyByNamespace(namespace).map(policy -> bumpPolicyVersion(policy.getId(), channel));
+    }
+
+    @Override
+    public List<ExtensionPolicy> getPolicyVersions() {
+        return new ArrayList<>(policies.values());
+    }
+
+    @Override
+    public int regExtensionRule(ExtensionRule rule) {
+        rule.setId(sequence.incrementAndGet());
+        rules.put(rule.getId(), rule);
+        return 1;
+    }
+
+    @Override
+    public RuleRegistration regExtensionRuleIfAllowed(Long policyId, long version, String extension,
+            ExtensionType type, RuleEffect effect, Integer maxCustom, int retainedVersions) {
+        RuleRegistration registration = new RuleRegistration();
+        registration.setAllowed(maxCustom == null
+                || getCountByPolicyIdAndType(policyId, ExtensionType.CUSTOM) < maxCustom);
+        if (registration.isAllowed() && getRuleByPolicyIdAndExtension(policyId, extension).isEmpty()) {
+            ExtensionRule rule = new ExtensionRule(policyId, extension, type, effect);
+            regExtensionRule(rule);
+            registration.setRuleId(rule.getId());
+        }
+        return registration;
+    }
+
+    @Override
+    public List<String> regExtensionRules(Long policyId, ExtensionType type, Collection<String> extensions) {
+        List<String> inserted = new ArrayList<>();
+        for (String extension : extensions) {
+            if (getRuleByPolicyIdAndExtension(policyId, extension).isEmpty()) {
+                regExtensionRule(new ExtensionRule(policyId, extension, type));
+                inserted.add(extension);
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<String> getExistingExtensions(Long policyId, Collection<String> extensions) {
+        return rules.values().stream()
+                .filter(r -> r.getPolicyId().equals(policyId) && extensions.contains(r.getExtension()))
+                .map(ExtensionRule::getExtension)
+                .toList();
+    }
+
+    @Override
+    public void streamRulesByPolicyIdAndType(Long policyId, ExtensionType type,
+            ResultHandler<ExtensionRule> handler) {
+        DefaultResultContext<ExtensionRule> context = new DefaultResultContext<>();
+        rules.values().stream()
+                .filter(r -> r.getPolicyId().equals(policyId) && r.getType() == type)
+                .sorted(Comparator.comparing(ExtensionRule::getId))
+                .forEach(rule -> {
+                    context.nextResultObject(rule);
+                    handler.handleResult(context);
+                });
+    }
+
+    @Override
+    public List<ExtensionRule> getRulesByPolicyId(Long policyId) {
+        List<ExtensionRule> result = new ArrayList<>();
+        for (ExtensionRule rule : rules.values()) {
+            if (rule.getPolicyId().equals(policyId)) {
+                result.add(rule);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<ExtensionRule> getRuleByPolicyIdAndExtension(Long policyId, String extension) {
+        return rules.values().stream()
+                .filter(r -> r.getPolicyId().equals(policyId) && r.getExtension().equals(extension))
+                .findFirst();
+    }
+
+    @Override
+    public long getCountByPolicyIdAndType(Long policyId, ExtensionType type) {
+        return rules.values().stream()
+                .filter(r -> r.getPolicyId().equals(policyId) && r.getType() == type)
+                .count();
+    }
+
+    @Override
+    public Optional<ExtensionRule> getRuleById(Long id) {
+        return Optional.ofNullable(rules.get(id));
+    }
+
+    @Override
+    public Optional<String> getNamespaceByRuleId(Long id) {
+        return Optional.ofNullable(rules.get(id))
+                .flatMap(rule -> findById(rule.getPolicyId()))
+                .map(ExtensionPolicy::getNamespace);
+    }
+
+    @Override
+    public Optional<ExtensionRule> delExtensionRuleById(Long id) {
+        return Optional.ofNullable(rules.remove(id));
+    }
+
+    @Override
+    public int regRuleChanges(Long policyId, long version, ChangeOperation operation,
+            Collection<String> extensions) {
+        return 0;
+    }
+
+    @Override
+    public int regRemovedRule(long version, ExtensionRule rule) {
+        return 0;
+    }
+
+    @Override
+    public int regParentChange(Long policyId, long version, String parentNamespace) {
+        return 0;
+    }
+
+    @Override
+    public List<PolicyChange> getChangesBetween(Long policyId, long since, long until) {
+        return List.of();
+    }
+
+    @Override
+    public int delChangesUpTo(Long policyId, long version) {
+        return 0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.policy.ExtensionDictionary;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.MatchMode;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 네임스페이스 수에 따른 정책 스냅샷 상주 메모리 보고서
+ * 테넌트마다 정책 하나를 두고, 대부분의 테넌트가 같은 수백 개의 확장자를 나눠 쓰는 상황을 가정하여
+ * 스냅샷 전체를 컴파일해 보관하기 전후의 힙 사용량 차이로 네임스페이스당 바이트 수를 계산
+ *
+ * 실행: mvn -Pbenchmark -DskipTests compile exec:java
+ *       -Dexec.mainClass=com.example.extensionblocker.benchmark.MemoryFootprintReport -Dexec.args="100000"
+ */
+public final class MemoryFootprintReport {
+
+    /**
+     * 테넌트들이 나눠 쓰는 커스텀 확장자 수
+     */
+    private static final int SHARED_EXTENSIONS = 400;
+
+    /**
+     * 테넌트당 커스텀 확장자 수
+     */
+    private static final int CUSTOM_PER_NAMESPACE = 30;
+
+    /**
+     * 고유 확장자를 하나 더 가진 테넌트 비율 (N개 중 1개)
+     */
+    private static final int UNIQUE_EVERY = 10;
+
+    private MemoryFootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        int namespaces = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<String> shared = BenchmarkFixtures.extensions(ExtensionConst.DEFAULT_FIXED_EXTENSIONS.size()
+                + SHARED_EXTENSIONS).subList(ExtensionConst.DEFAULT_FIXED_EXTENSIONS.size(),
+                        ExtensionConst.DEFAULT_FIXED_EXTENSIONS.size() + SHARED_EXTENSIONS);
+        Random random = new Random(42);
+
+        long before = usedHeap();
+        Map<String, PolicySnapshot> snapshots = new HashMap<>(namespaces * 2);
+        long sequence = 0;
+        for (int i = 0; i < namespaces; i++) {
+            String namespace = "tenant-" + i;
+            ExtensionPolicy policy = new ExtensionPolicy(namespace, namespace + " Policy");
+            policy.setId(++sequence);
+
+            // DB에서 읽은 것처럼 행마다 새 문자열을 사용
+            List<ExtensionRule> rules = new ArrayList<>();
+            for (String extension : ExtensionConst.DEFAULT_FIXED_EXTENSIONS) {
+                rules.add(rule(++sequence, policy.getId(), new String(extension), ExtensionType.FIXED));
+            }
+            int start = random.nextInt(SHARED_EXTENSIONS);
+            for (int k = 0; k < CUSTOM_PER_NAMESPACE; k++) {
+                String extension = shared.get((start + k * 7) % SHARED_EXTENSIONS);
+                rules.add(rule(++sequence, policy.getId(), new String(extension), ExtensionType.CUSTOM));
+            }
+            if (i % UNIQUE_EVERY == 0) {
+                rules.add(rule(++sequence, policy.getId(), "t" + i, ExtensionType.CUSTOM));
+            }
+            snapshots.put(namespace, PolicySnapshot.compile(policy, rules, MatchMode.SUFFIX));
+        }
+        long after = usedHeap();
+
+        long total = after - before;
+        System.out.printf("namespaces            : %,d%n", namespaces);
+        System.out.printf("rules per namespace   : %d fixed + %d custom (+1 unique for 1 in %d)%n",
+                ExtensionConst.DEFAULT_FIXED_EXTENSIONS.size(), CUSTOM_PER_NAMESPACE, UNIQUE_EVERY);
+        System.out.printf("dictionary            : %,d extensions, %,d trie nodes%n",
+                ExtensionDictionary.global().size(), ExtensionDictionary.global().nodeCount());
+        System.out.printf("retained heap         : %,d KB%n", total / 1024);
+        System.out.printf("bytes per namespace   : %,d%n", total / namespaces);
+        System.out.printf("sanity                : tenant-0 blocks t0=%s, exe=%s%n",
+                snapshots.get("tenant-0").isFileBlocked("a.t0"), snapshots.get("tenant-0").isFileBlocked("a.EXE"));
+    }
+
+    private static ExtensionRule rule(long id, Long policyId, String extension, ExtensionType type) {
+        ExtensionRule rule = new ExtensionRule(policyId, extension, type);
+        rule.setId(id);
+        return rule;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
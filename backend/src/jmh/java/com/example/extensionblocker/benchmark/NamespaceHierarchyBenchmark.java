@@ -0,0 +1,77 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.config.ExtensionMatchingProperties;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import com.example.extensionblocker.type.ExtensionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계층형 네임스페이스 비용 측정 (인메모리 저장소 사용)
+ * 최상위 정책 하나 아래에 팀 정책 여러 개를 두고, 하위 정책 검증과 최상위 정책 변경 시 하위 트리 재컴파일을 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamespaceHierarchyBenchmark {
+
+    private static final String ROOT = "org";
+
+    @Param({"10", "300"})
+    private int teamCount;
+
+    private PolicySnapshotCache cache;
+    private String leaf;
+
+    @Setup
+    public void setUp() {
+        InMemoryRuleStore store = new InMemoryRuleStore();
+        List<String> extensions = BenchmarkFixtures.extensions(200);
+        for (String extension : extensions) {
+            store.add(ROOT, extension, ExtensionType.CUSTOM);
+        }
+        Long rootId = store.getPolicyByNamespace(ROOT).orElseThrow().getId();
+        for (int i = 0; i < teamCount; i++) {
+            String team = ROOT + "-team" + i;
+            store.add(team, "team" + i, ExtensionType.CUSTOM);
+            store.updatePolicyParent(store.getPolicyByNamespace(team).orElseThrow().getId(), rootId);
+        }
+
+        cache = new PolicySnapshotCache(store, new ExtensionMatchingProperties());
+        for (int i = 0; i < teamCount; i++) {
+            cache.get(ROOT + "-team" + i);
+        }
+        leaf = ROOT + "-team" + (teamCount - 1);
+    }
+
+    /**
+     * 하위 정책 검증 (상속된 규칙 포함, 계층을 따라 올라가지 않음)
+     */
+    @Benchmark
+    public boolean validateLeaf() {
+        return cache.get(leaf).isFileBlocked("report_2024_q1_final.EXE");
+    }
+
+    /**
+     * 최상위 정책 변경 시 최상위 정책과 캐시된 하위 정책 전체 재컴파일
+     */
+    @Benchmark
+    public void refreshRoot() {
+        cache.refresh(ROOT);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.dto.PolicyResponse;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.policy.PolicyDocument;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.service.ExtensionServiceImpl;
+import com.example.extensionblocker.type.MatchMode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getPolicy 응답 비용 측정 (인메모리 저장소 사용)
+ * 캐시된 스냅샷 조회, 규칙 변경 시 스냅샷 컴파일(응답 조립 포함), 응답 직렬화를 각각 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyResponseBenchmark {
+
+    @Param({"7", "200"})
+    private int ruleCount;
+
+    private ExtensionServiceImpl service;
+    private ExtensionPolicy policy;
+    private PolicyResponse response;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        InMemoryRuleStore store = BenchmarkFixtures.store(ruleCount);
+        service = BenchmarkFixtures.service(store);
+        policy = store.getPolicyWithRules(BenchmarkFixtures.NAMESPACE).orElseThrow();
+        response = service.getPolicy(BenchmarkFixtures.NAMESPACE);
+        writer = new ObjectMapper().writerFor(PolicyResponse.class);
+        service.getPolicySnapshot(BenchmarkFixtures.NAMESPACE).getDocument(this::serialize);
+    }
+
+    private byte[] serialize(PolicyResponse value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public PolicyResponse getPolicy() {
+        return service.getPolicy(BenchmarkFixtures.NAMESPACE);
+    }
+
+    @Benchmark
+    public PolicySnapshot compileSnapshot() {
+        return PolicySnapshot.compile(policy, policy.getRules(), MatchMode.SUFFIX);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public PolicyDocument cachedDocument() {
+        return service.getPolicySnapshot(BenchmarkFixtures.NAMESPACE).getDocument(r -> {
+            throw new IllegalStateException("document should already be cached");
+        });
+    }
+}
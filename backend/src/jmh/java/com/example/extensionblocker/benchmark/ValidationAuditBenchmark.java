@@ -0,0 +1,66 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.audit.ValidationAuditEvent;
+import com.example.extensionblocker.audit.ValidationAuditLog;
+import com.example.extensionblocker.audit.ValidationAuditWriter;
+import com.example.extensionblocker.config.ValidationAuditProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 기록이 요청 스레드에 더하는 비용 측정
+ * DB 대신 버리기만 하는 기록기를 사용하여, 여러 요청 스레드가 동시에 버퍼에 넣는 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ValidationAuditBenchmark {
+
+    private ValidationAuditLog auditLog;
+
+    @Setup
+    public void setUp() {
+        ValidationAuditProperties properties = new ValidationAuditProperties();
+        properties.setFlushInterval(Duration.ofMillis(10));
+        ValidationAuditWriter writer = new ValidationAuditWriter(null) {
+            @Override
+            public void write(List<ValidationAuditEvent> events) {
+            }
+
+            @Override
+            public void preparePartitions() {
+            }
+        };
+        auditLog = new ValidationAuditLog(writer, properties, new SimpleMeterRegistry());
+        auditLog.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        auditLog.stop();
+    }
+
+    @Benchmark
+    public void record() {
+        auditLog.record(BenchmarkFixtures.NAMESPACE, "report_2024_q1_final.exe", "exe", false);
+    }
+}
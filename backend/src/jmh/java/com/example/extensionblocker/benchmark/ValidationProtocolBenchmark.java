@@ -0,0 +1,101 @@
+package com.example.extensionblocker.benchmark;
+
+import com.example.extensionblocker.binary.BinaryValidationClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST 검증 API와 바이너리 검증 프로토콜의 요청당 지연 시간 및 처리량 비교
+ * 실행 중인 서버가 필요함 (바이너리 프로토콜 활성화: --extension-blocker.binary.enabled=true)
+ * 같은 네임스페이스와 파일명으로 REST 단건, 바이너리 단건, 바이너리 파이프라이닝(batch개씩)을 측정
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationProtocolBenchmark {
+
+    private static final int BATCH = 64;
+
+    private static final String FILENAME = "report_2024_q1_final.exe";
+
+    @Param("http://localhost:8080")
+    private String restUrl;
+
+    @Param("localhost")
+    private String binaryHost;
+
+    @Param("9090")
+    private int binaryPort;
+
+    @Param("default")
+    private String namespace;
+
+    private HttpClient httpClient;
+    private HttpRequest restRequest;
+    private BinaryValidationClient binaryClient;
+    private int namespaceId;
+
+    @Setup
+    public void setUp() throws IOException {
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        restRequest = HttpRequest.newBuilder(URI.create(restUrl + "/api/validate/file"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"namespace\":\"" + namespace + "\",\"filename\":\"" + FILENAME + "\"}"))
+                .build();
+        binaryClient = new BinaryValidationClient(binaryHost, binaryPort);
+        namespaceId = binaryClient.bind(namespace);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        binaryClient.close();
+    }
+
+    @Benchmark
+    public String rest() throws IOException, InterruptedException {
+        return httpClient.send(restRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public BinaryValidationClient.Verdict binary() throws IOException {
+        return binaryClient.validate(namespace, FILENAME);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int binaryPipelined() throws IOException {
+        for (int i = 0; i < BATCH; i++) {
+            binaryClient.send(namespaceId, FILENAME);
+        }
+        binaryClient.flush();
+        int blocked = 0;
+        for (int i = 0; i < BATCH; i++) {
+            if (!binaryClient.receive().allowed()) {
+                blocked++;
+            }
+        }
+        return blocked;
+    }
+}
@@ -1,13 +1,13 @@
-package com.example.extensionblocker;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication
-public class ExtensionBlockerApplication {
-
-	public static void main(String[] args) {
-		SpringApplication.run(ExtensionBlockerApplication.class, args);
-	}
-
-}
+package com.example.extensionblocker;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ExtensionBlockerApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ExtensionBlockerApplication.class, args);
+	}
+
+}
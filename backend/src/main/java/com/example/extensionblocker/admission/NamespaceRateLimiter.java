@@ -0,0 +1,240 @@
+package com.example.extensionblocker.admission;
+
+import com.example.extensionblocker.config.RateLimitProperties;
+import com.example.extensionblocker.type.ApiClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 네임스페이스 + API 분류별 요청 수 제한
+ * 한 네임스페이스의 과도한 요청이 다른 네임스페이스의 요청 스레드와 DB 커넥션을 차지하지 않도록,
+ * 제한을 넘은 요청은 대기열에 넣지 않고 바로 429로 거절
+ * 버킷 수는 maxNamespaces로 제한되어 네임스페이스 종류가 늘어나도 메모리 사용량이 일정함
+ * 일괄/스트리밍 검증은 파일 수만큼 토큰을 사용하므로 파일을 묶어 보내도 허용량은 같음
+ */
+@Component
+public class NamespaceRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(NamespaceRateLimiter.class);
+
+    /**
+     * 네임스페이스를 지정하지 않은 요청의 버킷 키
+     */
+    private static final String NONE = "";
+
+    /**
+     * 버킷 정리를 다시 시도하기까지의 최소 간격 (자리가 없을 때 요청마다 전체를 훑지 않도록)
+     */
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<ApiClass, Limiter> limiters = new EnumMap<>(ApiClass.class);
+
+    public NamespaceRateLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        limiters.put(ApiClass.VALIDATE, new Limiter(ApiClass.VALIDATE, properties.getValidate(),
+                properties.getMaxNamespaces(), registry));
+        limiters.put(ApiClass.MUTATION, new Limiter(ApiClass.MUTATION, properties.getMutation(),
+                properties.getMaxNamespaces(), registry));
+    }
+
+    /**
+     * 요청 하나를 허용할 수 있는지 확인하고 토큰 사용
+     *
+     * @param apiClass  API 분류
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @throws RateLimitedException 제한을 넘은 경우
+     */
+    public void acquire(ApiClass apiClass, String namespace) {
+        acquire(apiClass, namespace, 1);
+    }
+
+    /**
+     * 요청 여러 개(파일 수)만큼 토큰 사용
+     * 버킷 용량보다 많으면 버킷이 가득 찼을 때만 허용하고, 넘는 만큼은 이후 요청이 기다림
+     *
+     * @param apiClass  API 분류
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @param count     사용할 토큰 수
+     * @throws RateLimitedException 제한을 넘은 경우 (토큰은 사용하지 않음)
+     */
+    public void acquire(ApiClass apiClass, String namespace, int count) {
+        limiters.get(apiClass).acquire(keyOf(namespace), count);
+    }
+
+    /**
+     * 여러 네임스페이스의 토큰을 한꺼번에 사용
+     * 하나라도 제한을 넘으면 앞서 차감한 네임스페이스의 토큰도 돌려주고 거절
+     *
+     * @param apiClass API 분류
+     * @param counts   네임스페이스(null 가능)별 사용할 토큰 수
+     * @throws RateLimitedException 제한을 넘은 경우 (어느 네임스페이스의 토큰도 사용하지 않음)
+     */
+    public void acquire(ApiClass apiClass, Map<String, Integer> counts) {
+        limiters.get(apiClass).acquire(counts);
+    }
+
+    /**
+     * 이미 시작한 스트림에서 토큰 사용 (거절하지 않고 토큰이 찰 때까지 기다림)
+     *
+     * @param apiClass  API 분류
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @param count     사용할 토큰 수
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public void await(ApiClass apiClass, String namespace, int count) throws InterruptedException {
+        limiters.get(apiClass).await(keyOf(namespace), count);
+    }
+
+    /**
+     * 거절하지 않고 토큰 사용 (모자란 만큼은 이후 요청이 기다림, 끝난 스트림의 남은 줄 수 반영용)
+     *
+     * @param apiClass  API 분류
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @param count     사용할 토큰 수
+     */
+    public void charge(ApiClass apiClass, String namespace, int count) {
+        limiters.get(apiClass).charge(keyOf(namespace), count);
+    }
+
+    private static String keyOf(String namespace) {
+        return namespace == null ? NONE : namespace;
+    }
+
+    /**
+     * API 분류 하나의 네임스페이스별 버킷
+     */
+    private static final class Limiter {
+
+        private final ApiClass apiClass;
+        private final boolean enabled;
+        private final long interval;
+        private final long tolerance;
+        private final int burst;
+        private final int maxNamespaces;
+        private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+        /**
+         * maxNamespaces를 넘은 네임스페이스가 함께 사용하는 버킷
+         */
+        private final TokenBucket overflow = new TokenBucket(System.nanoTime());
+        private final AtomicLong lastSweep = new AtomicLong(System.nanoTime() - SWEEP_INTERVAL_NANOS);
+        private final Counter rejected;
+
+        Limiter(ApiClass apiClass, RateLimitProperties.Limit limit, int maxNamespaces, MeterRegistry registry) {
+            this.apiClass = apiClass;
+            this.enabled = limit.getRate() > 0;
+            this.interval = enabled ? Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRate())) : 0;
+            this.burst = limit.getBurst() > 0 ? limit.getBurst() : Math.max(1, (int) Math.ceil(limit.getRate()));
+            this.tolerance = interval * (burst - 1);
+            this.maxNamespaces = maxNamespaces;
+
+            String api = apiClass.name().toLowerCase(Locale.ROOT);
+            this.rejected = Counter.builder("extension.admission.rejected")
+                    .description("Requests rejected by the per-namespace rate limit")
+                    .tag("api", api)
+                    .register(registry);
+            Gauge.builder("extension.admission.buckets", buckets, Map::size)
+                    .description("Namespaces with their own rate limit bucket")
+                    .tag("api", api)
+                    .register(registry);
+        }
+
+        void acquire(String namespace, int count) {
+            if (!enabled) {
+                return;
+            }
+            long now = System.nanoTime();
+            long wait = bucket(namespace, now).tryAcquire(now, interval, tolerance, count, Math.min(count, burst));
+            if (wait > 0) {
+                reject(namespace, wait);
+            }
+        }
+
+        void acquire(Map<String, Integer> counts) {
+            if (!enabled) {
+                return;
+            }
+            long now = System.nanoTime();
+            TokenBucket[] charged = new TokenBucket[counts.size()];
+            int[] chargedCounts = new int[counts.size()];
+            int size = 0;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                String namespace = keyOf(entry.getKey());
+                int count = entry.getValue();
+                TokenBucket bucket = bucket(namespace, now);
+                long wait = bucket.tryAcquire(now, interval, tolerance, count, Math.min(count, burst));
+                if (wait > 0) {
+                    // 앞서 차감한 네임스페이스의 토큰을 돌려주고 요청 전체를 거절
+                    for (int i = 0; i < size; i++) {
+                        charged[i].release(chargedCounts[i], interval);
+                    }
+                    reject(namespace, wait);
+                }
+                charged[size] = bucket;
+                chargedCounts[size++] = count;
+            }
+        }
+
+        void charge(String namespace, int count) {
+            if (!enabled) {
+                return;
+            }
+            long now = System.nanoTime();
+            bucket(namespace, now).reserve(now, interval, tolerance, count, Math.min(count, burst));
+        }
+
+        void await(String namespace, int count) throws InterruptedException {
+            if (!enabled) {
+                return;
+            }
+            long now = System.nanoTime();
+            long wait = bucket(namespace, now).reserve(now, interval, tolerance, count, Math.min(count, burst));
+            if (wait > 0) {
+                log.debug("[await] Throttled: api={}, namespace={}, waitNanos={}", apiClass, namespace, wait);
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+
+        private void reject(String namespace, long wait) {
+            rejected.increment();
+            log.debug("[acquire] Rate limited: api={}, namespace={}, waitNanos={}", apiClass, namespace, wait);
+            long retryAfter = Math.max(1, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new RateLimitedException("Too many requests for namespace: " + namespace, retryAfter);
+        }
+
+        private TokenBucket bucket(String namespace, long now) {
+            TokenBucket bucket = buckets.get(namespace);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxNamespaces && !sweep(now)) {
+                return overflow;
+            }
+            return buckets.computeIfAbsent(namespace, key -> new TokenBucket(now));
+        }
+
+        /**
+         * 가득 찬(최근 요청이 없는) 버킷 정리
+         *
+         * @return 새 버킷을 만들 자리가 있으면 true
+         */
+        private boolean sweep(long now) {
+            long last = lastSweep.get();
+            if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            return buckets.size() < maxNamespaces;
+        }
+    }
+}
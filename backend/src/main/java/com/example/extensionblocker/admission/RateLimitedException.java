@@ -0,0 +1,22 @@
+package com.example.extensionblocker.admission;
+
+import com.example.extensionblocker.exception.BusinessException;
+import com.example.extensionblocker.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 네임스페이스의 요청 수 제한을 넘은 경우 (429 + Retry-After)
+ */
+@Getter
+public class RateLimitedException extends BusinessException {
+
+    /**
+     * 다시 요청할 수 있을 때까지의 시간 (초, 최소 1)
+     */
+    private final long retryAfterSeconds;
+
+    public RateLimitedException(String message, long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
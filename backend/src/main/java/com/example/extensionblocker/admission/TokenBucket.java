@@ -0,0 +1,90 @@
+package com.example.extensionblocker.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA)
+ * 토큰 수 대신 버킷이 다시 가득 차는 시각(theoretical arrival time) 하나만 저장하므로,
+ * 허용 여부 판단과 토큰 차감이 CAS 한 번으로 끝나고 거절 시 기다릴 시간도 바로 계산됨
+ */
+final class TokenBucket {
+
+    /**
+     * 이 시각 이후에는 버킷이 가득 참 (System.nanoTime 기준)
+     */
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @param now       현재 시각 (nanos)
+     * @param interval  토큰 하나가 채워지는 시간 (nanos)
+     * @param tolerance 버킷 용량에서 토큰 하나를 뺀 만큼이 채워지는 시간 (nanos)
+     * @return 0이면 허용, 양수면 거절이며 다음 토큰까지 기다릴 시간 (nanos)
+     */
+    long tryAcquire(long now, long interval, long tolerance) {
+        return tryAcquire(now, interval, tolerance, 1, 1);
+    }
+
+    /**
+     * 토큰 여러 개 사용
+     * required개가 남아 있으면 허용하고 count개를 차감하므로, 버킷 용량보다 큰 요청도 허용되지만
+     * 모자란 만큼은 다음 요청들이 기다림 (장기적으로 허용량은 초당 토큰 수를 넘지 않음)
+     *
+     * @param now       현재 시각 (nanos)
+     * @param interval  토큰 하나가 채워지는 시간 (nanos)
+     * @param tolerance 버킷 용량에서 토큰 하나를 뺀 만큼이 채워지는 시간 (nanos)
+     * @param count     차감할 토큰 수
+     * @param required  허용에 필요한 토큰 수 (버킷 용량 이하)
+     * @return 0이면 허용, 양수면 거절이며 required개가 찰 때까지 기다릴 시간 (nanos)
+     */
+    long tryAcquire(long now, long interval, long tolerance, long count, long required) {
+        while (true) {
+            long current = fullAt.get();
+            long start = Math.max(current, now);
+            long wait = start + (required - 1) * interval - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, start + count * interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 토큰 여러 개를 거절 없이 차감하고, required개가 남아 있게 될 때까지 기다릴 시간 반환 (이미 시작한 스트림의 속도 조절용)
+     *
+     * @return 기다릴 시간 (nanos, 바로 진행하면 0)
+     */
+    long reserve(long now, long interval, long tolerance, long count, long required) {
+        while (true) {
+            long current = fullAt.get();
+            long start = Math.max(current, now);
+            if (fullAt.compareAndSet(current, start + count * interval)) {
+                return Math.max(0, start + (required - 1) * interval - now - tolerance);
+            }
+        }
+    }
+
+    /**
+     * 차감한 토큰 반환 (여러 버킷 중 하나가 거절되어 요청 전체를 거절할 때)
+     *
+     * @param count    반환할 토큰 수
+     * @param interval 토큰 하나가 채워지는 시간 (nanos)
+     */
+    void release(long count, long interval) {
+        fullAt.addAndGet(-count * interval);
+    }
+
+    /**
+     * 요청이 없어 버킷이 가득 찼는지 확인 (새 버킷과 같은 상태이므로 버려도 됨)
+     */
+    boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.extensionblocker.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 락 없는 링 버퍼 (여러 생산자, 소비자 하나)
+ * 슬롯마다 순번을 두어 생산자는 꼬리 위치를 CAS로 차지한 뒤 값을 쓰고 순번으로 공개하며,
+ * 가득 차면 기다리지 않고 바로 false를 반환 (Dmitry Vyukov의 bounded MPMC 큐와 같은 방식)
+ *
+ * @param <E> 원소 타입
+ */
+final class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+
+    /**
+     * 슬롯별 순번: 위치 p에 쓸 수 있으면 p, p의 값이 공개되었으면 p + 1
+     */
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 다음에 읽을 위치 (소비자만 씀, 크기 조회용으로 volatile)
+     */
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소 추가 (대기하지 않음)
+     *
+     * @param element 추가할 원소
+     * @return 추가했으면 true, 버퍼가 가득 찼으면 false
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 공개된 원소를 최대 maxElements개까지 꺼내 목록에 추가 (소비자 스레드에서만 호출)
+     *
+     * @param target      꺼낸 원소를 담을 목록
+     * @param maxElements 최대 개수
+     * @return 꺼낸 개수
+     */
+    int drainTo(List<E> target, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 버퍼에 남은 원소 수 (추정치)
+     *
+     * @return 원소 수
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * 버퍼 크기
+     *
+     * @return 담을 수 있는 최대 원소 수
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.extensionblocker.audit;
+
+/**
+ * 검증 판정 감사 기록 한 건
+ *
+ * @param decidedAt 판정 시각 (epoch millis)
+ * @param namespace 정책 네임스페이스 (null 가능)
+ * @param filename  검증한 파일명 (null 가능)
+ * @param extension 판정에 사용한 확장자 (null 가능)
+ * @param allowed   허용 여부
+ */
+public record ValidationAuditEvent(long decidedAt, String namespace, String filename, String extension,
+        boolean allowed) {
+}
@@ -0,0 +1,229 @@
+package com.example.extensionblocker.audit;
+
+import com.example.extensionblocker.config.ValidationAuditProperties;
+import com.example.extensionblocker.type.AuditOverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 검증 판정 감사 로그
+ * 요청 스레드는 판정을 락 없는 링 버퍼에 한 번 넣기만 하고, 전용 스레드가 버퍼를 비워 배치 단위로 COPY 기록
+ * 버퍼가 가득 차면 설정에 따라 버리거나(DROP) 자리가 날 때까지 기다림(BLOCK)
+ * 종료 시에는 웹 서버가 요청을 더 받지 않게 된 뒤에 멈추며, 남은 판정을 모두 기록하고 종료
+ * 일 단위 파티션도 전용 스레드가 시작할 때와 PARTITION_CHECK_INTERVAL마다 미리 생성 (판정이 없는 날에도 생성됨)
+ */
+@Component
+public class ValidationAuditLog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidationAuditLog.class);
+
+    /**
+     * 웹 서버(정상 종료 포함)보다 늦게 멈추도록 더 낮은 단계 사용
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long MAX_BLOCK_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * 파티션을 미리 생성하는 주기 (다음 날 파티션을 만들어 두므로 자정 전에 여러 번 확인됨)
+     */
+    private static final long PARTITION_CHECK_INTERVAL = TimeUnit.MINUTES.toNanos(10);
+
+    private final ValidationAuditWriter writer;
+    private final ValidationAuditProperties properties;
+    private final AuditRingBuffer<ValidationAuditEvent> buffer;
+
+    private final Counter written;
+    private final Counter droppedOverflow;
+    private final Counter droppedError;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ValidationAuditLog(ValidationAuditWriter writer, ValidationAuditProperties properties,
+            MeterRegistry registry) {
+        this.writer = writer;
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer<>(properties.getCapacity());
+        this.written = Counter.builder("extension.audit.written")
+                .description("Validation decisions written to validation_audit")
+                .register(registry);
+        this.droppedOverflow = dropped(registry, "overflow");
+        this.droppedError = dropped(registry, "error");
+        this.flushTimer = Timer.builder("extension.audit.flush")
+                .description("COPY of one audit batch")
+                .register(registry);
+        Gauge.builder("extension.audit.queue.size", buffer, AuditRingBuffer::size)
+                .description("Validation decisions waiting to be written")
+                .register(registry);
+    }
+
+    private static Counter dropped(MeterRegistry registry, String reason) {
+        return Counter.builder("extension.audit.dropped")
+                .description("Validation decisions not written to validation_audit")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * 판정 기록 (요청 스레드에서 호출)
+     * DROP 방식이면 버퍼에 한 번 넣기만 하고 대기하지 않음
+     *
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @param filename  검증한 파일명 (null 가능)
+     * @param extension 판정에 사용한 확장자 (null 가능)
+     * @param allowed   허용 여부
+     */
+    public void record(String namespace, String filename, String extension, boolean allowed) {
+        if (!running) {
+            return;
+        }
+        ValidationAuditEvent event = new ValidationAuditEvent(System.currentTimeMillis(), namespace, filename,
+                extension, allowed);
+        if (buffer.offer(event)) {
+            return;
+        }
+        if (properties.getOverflow() != AuditOverflowPolicy.BLOCK || !offerBlocking(event)) {
+            droppedOverflow.increment();
+        }
+    }
+
+    /**
+     * 자리가 날 때까지 점점 길게 쉬면서 다시 시도 (기록 스레드가 멈췄거나 제한 시간이 지나면 포기)
+     */
+    private boolean offerBlocking(ValidationAuditEvent event) {
+        long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        long parkNanos = TimeUnit.MICROSECONDS.toNanos(50);
+        while (running && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(parkNanos);
+            if (buffer.offer(event)) {
+                return true;
+            }
+            parkNanos = Math.min(parkNanos * 2, MAX_BLOCK_PARK_NANOS);
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("[start] Validation audit log disabled");
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "validation-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[start] Validation audit log started: capacity={}, batchSize={}, overflow={}",
+                buffer.capacity(), properties.getBatchSize(), properties.getOverflow());
+    }
+
+    @Override
+    public void stop() {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("[stop] Validation audit writer did not finish within {}ms, pending={}",
+                    properties.getShutdownTimeout().toMillis(), buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 버퍼에 배치 하나만큼 쌓이거나 기록 주기가 지나면 기록, 종료 요청 시 남은 판정을 모두 기록
+     * 기록할 때만 버퍼에서 꺼내므로 대기 중인 판정은 모두 버퍼 안에 있고 메모리 사용량은 버퍼 크기로 제한됨
+     */
+    private void run() {
+        int batchSize = properties.getBatchSize();
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        List<ValidationAuditEvent> batch = new ArrayList<>(batchSize);
+        preparePartitions();
+        long lastPartitionCheck = System.nanoTime();
+        long lastFlush = System.nanoTime();
+        while (running) {
+            if (System.nanoTime() - lastPartitionCheck >= PARTITION_CHECK_INTERVAL) {
+                preparePartitions();
+                lastPartitionCheck = System.nanoTime();
+            }
+            long waited = System.nanoTime() - lastFlush;
+            if (buffer.size() < batchSize && waited < intervalNanos) {
+                LockSupport.parkNanos(Math.min(intervalNanos - waited, TimeUnit.MILLISECONDS.toNanos(50)));
+                continue;
+            }
+            if (buffer.drainTo(batch, batchSize) > 0) {
+                flush(batch);
+            }
+            lastFlush = System.nanoTime();
+        }
+
+        int remaining = buffer.size();
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+        log.info("[run] Validation audit writer stopped, flushed {} pending decisions", remaining);
+    }
+
+    private void preparePartitions() {
+        try {
+            writer.preparePartitions();
+        } catch (RuntimeException e) {
+            log.warn("[preparePartitions] Failed to prepare audit partitions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 기록 (실패하면 설정된 횟수만큼 다시 시도하고, 모두 실패하면 버림)
+     */
+    private void flush(List<ValidationAuditEvent> batch) {
+        for (int attempt = 0; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                writer.write(batch);
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                written.increment(batch.size());
+                break;
+            } catch (SQLException | RuntimeException e) {
+                if (attempt >= properties.getMaxRetries()) {
+                    log.error("[flush] Dropping {} audit records after {} attempts: {}", batch.size(), attempt + 1,
+                            e.getMessage());
+                    droppedError.increment(batch.size());
+                    break;
+                }
+                log.warn("[flush] Failed to write {} audit records (attempt {}), retrying: {}", batch.size(),
+                        attempt + 1, e.getMessage());
+                LockSupport.parkNanos(properties.getFlushInterval().toNanos());
+            }
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.extensionblocker.audit;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 감사 기록을 PostgreSQL COPY로 validation_audit 테이블에 한 번에 기록
+ * 테이블은 판정 시각(UTC) 기준 일 단위로 파티션되며, 오늘과 다음 날 파티션은 preparePartitions로 미리 생성
+ * (기록 스레드가 시작할 때와 주기적으로 호출하므로 다음 날 파티션은 자정 전에 만들어져 있음)
+ * 생성에 실패한 날짜는 기본 파티션(validation_audit_default)에 기록되므로 판정은 유실되지 않으며,
+ * 실패는 날짜마다 한 번만 경고하고 배치마다 DDL을 다시 실행하지 않음
+ * (기본 파티션에 이미 그 날짜의 행이 있으면 PostgreSQL이 파티션 생성을 거부함)
+ */
+@Component
+public class ValidationAuditWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidationAuditWriter.class);
+
+    private static final String COPY_SQL =
+            "COPY validation_audit (decided_at, namespace, filename, extension, allowed) FROM STDIN";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 미리 생성할 파티션 일수 (오늘 포함)
+     */
+    private static final int PARTITION_DAYS_AHEAD = 2;
+
+    /**
+     * 컬럼 하나에 기록할 최대 문자 수 (요청 값이 그대로 기록되므로 길이 제한)
+     */
+    private static final int MAX_VALUE_LENGTH = 255;
+
+    private final DataSource dataSource;
+
+    /**
+     * 생성을 확인한 파티션 날짜 (기록 스레드에서만 접근, 지난 날짜는 preparePartitions에서 정리)
+     */
+    private final Set<LocalDate> partitions = new HashSet<>();
+
+    /**
+     * 파티션 생성에 실패하여 경고한 날짜 (기록 스레드에서만 접근, 지난 날짜는 preparePartitions에서 정리)
+     */
+    private final Set<LocalDate> failed = new HashSet<>();
+
+    /**
+     * 배치를 COPY 텍스트 형식으로 인코딩하는 버퍼 (기록 스레드에서만 접근)
+     */
+    private final StringBuilder buffer = new StringBuilder(64 * 1024);
+
+    public ValidationAuditWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 오늘과 다음 날 파티션을 미리 생성하고 지난 날짜 기록을 정리 (기록 스레드에서 시작 시와 주기적으로 호출)
+     * 실패했던 날짜도 다시 시도하지만 경고는 날짜마다 한 번만 남김
+     */
+    public void preparePartitions() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        // 자정 무렵에는 전날 판정이 섞여 들어오므로 전날까지는 남김
+        LocalDate oldest = today.minusDays(1);
+        partitions.removeIf(day -> day.isBefore(oldest));
+        failed.removeIf(day -> day.isBefore(oldest));
+
+        List<LocalDate> missing = new ArrayList<>(PARTITION_DAYS_AHEAD);
+        for (int i = 0; i < PARTITION_DAYS_AHEAD; i++) {
+            if (!partitions.contains(today.plusDays(i))) {
+                missing.add(today.plusDays(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            for (LocalDate day : missing) {
+                createPartition(connection, day);
+            }
+        } catch (SQLException e) {
+            log.warn("[preparePartitions] Failed to connect for audit partition creation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치를 한 번의 COPY로 기록
+     *
+     * @param events 감사 기록 목록
+     * @throws SQLException 기록 실패 시 (배치 전체가 기록되지 않음)
+     */
+    public void write(List<ValidationAuditEvent> events) throws SQLException {
+        buffer.setLength(0);
+        Set<LocalDate> days = new HashSet<>();
+        for (ValidationAuditEvent event : events) {
+            days.add(dayOf(event.decidedAt()));
+            appendRow(event);
+        }
+        byte[] rows = buffer.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (Connection connection = dataSource.getConnection()) {
+            for (LocalDate day : days) {
+                // 미리 생성하지 못한 날짜(시각이 어긋난 판정 등)만 생성하고, 실패했던 날짜는 다시 시도하지 않음
+                if (!partitions.contains(day) && !failed.contains(day)) {
+                    createPartition(connection, day);
+                }
+            }
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                copy.writeToCopy(rows, 0, rows.length);
+                copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        }
+    }
+
+    /**
+     * 날짜의 파티션 생성 (실패하면 날짜를 기록하고 처음 한 번만 경고)
+     */
+    private void createPartition(Connection connection, LocalDate day) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS validation_audit_" + day.format(PARTITION_SUFFIX)
+                    + " PARTITION OF validation_audit FOR VALUES FROM ('" + day + " 00:00:00+00') TO ('"
+                    + day.plusDays(1) + " 00:00:00+00')");
+            partitions.add(day);
+            failed.remove(day);
+        } catch (SQLException e) {
+            if (failed.add(day)) {
+                log.warn("[createPartition] Failed to create audit partition for {}, rows go to the default "
+                        + "partition: {}", day, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * COPY 텍스트 형식의 한 행 (탭 구분, NULL은 \N)
+     */
+    private void appendRow(ValidationAuditEvent event) {
+        buffer.append(Instant.ofEpochMilli(event.decidedAt())).append('\t');
+        appendValue(event.namespace());
+        buffer.append('\t');
+        appendValue(event.filename());
+        buffer.append('\t');
+        appendValue(event.extension());
+        buffer.append('\t').append(event.allowed() ? 't' : 'f').append('\n');
+    }
+
+    private void appendValue(String value) {
+        if (value == null) {
+            buffer.append("\\N");
+            return;
+        }
+        int length = Math.min(value.length(), MAX_VALUE_LENGTH);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\0':
+                    // PostgreSQL 문자열에 넣을 수 없으므로 제외
+                    break;
+                default:
+                    buffer.append(c);
+            }
+        }
+    }
+
+    private static LocalDate dayOf(long epochMillis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
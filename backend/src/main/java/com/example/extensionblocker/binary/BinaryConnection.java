@@ -0,0 +1,252 @@
+package com.example.extensionblocker.binary;
+
+import com.example.extensionblocker.policy.PolicySnapshot;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 바이너리 검증 연결 하나의 상태 (자신을 맡은 I/O 스레드에서만 접근)
+ * 읽은 바이트에 완성된 프레임이 있는 만큼 처리하고 응답을 모아 한 번에 쓰며,
+ * 응답을 다 쓰지 못하면 읽기를 멈추고 쓰기 가능 이벤트를 기다림 (느린 클라이언트가 서버 메모리를 늘리지 않음)
+ * 캐시에 없는 정책 스냅샷이 필요한 프레임을 만나면 작업 스레드에서 로드하는 동안 읽기와 처리를 멈추고,
+ * 로드가 끝나면 I/O 스레드에서 resume으로 같은 프레임부터 이어서 처리 (응답 순서 유지)
+ */
+final class BinaryConnection {
+
+    private static final int OUTPUT_BUFFER = 16 * 1024;
+
+    /**
+     * 스냅샷 로드에 실패했음을 나타내는 값
+     */
+    private static final PolicySnapshot LOAD_FAILED = PolicySnapshot.empty(null);
+
+    private final SocketChannel channel;
+    private final BinaryRequestHandler handler;
+    private final int maxFrameLength;
+
+    /**
+     * 로드가 끝난 연결을 맡은 I/O 스레드에 다시 넘기는 함수
+     */
+    private final Consumer<SelectionKey> resumer;
+
+    /**
+     * 연결 안의 네임스페이스 ID → 네임스페이스
+     */
+    private final String[] namespaces;
+
+    /**
+     * 읽은 요청 바이트 (쓰기 모드 유지)
+     */
+    private final ByteBuffer in;
+
+    /**
+     * 아직 보내지 못한 응답 바이트 (쓰기 모드 유지)
+     */
+    private final ByteBuffer out = ByteBuffer.allocate(OUTPUT_BUFFER);
+
+    /**
+     * 작업 스레드에서 스냅샷을 로드하는 중인지 여부
+     */
+    private boolean loading;
+
+    /**
+     * 로드가 끝난 스냅샷 (멈춘 프레임을 다시 처리할 때 한 번 사용, 작업 스레드가 resumer 호출 전에 기록)
+     * 정책이 없는 네임스페이스는 캐시 상한 때문에 캐시에 남지 않을 수 있으므로 캐시를 다시 보지 않고 이 값을 사용
+     */
+    private PolicySnapshot loaded;
+
+    BinaryConnection(SocketChannel channel, BinaryRequestHandler handler, int maxFrameLength, int maxNamespaces,
+            Consumer<SelectionKey> resumer) {
+        this.channel = channel;
+        this.handler = handler;
+        this.maxFrameLength = maxFrameLength;
+        this.resumer = resumer;
+        this.namespaces = new String[maxNamespaces];
+        this.in = ByteBuffer.allocate(BinaryProtocol.LENGTH_FIELD + maxFrameLength);
+    }
+
+    /**
+     * 읽기 가능 이벤트 처리
+     *
+     * @return 연결을 유지하면 true, 상대가 연결을 닫았으면 false
+     * @throws IOException 입출력 오류 또는 프로토콜 위반
+     */
+    boolean onReadable(SelectionKey key) throws IOException {
+        if (channel.read(in) < 0) {
+            return false;
+        }
+        pump(key);
+        return true;
+    }
+
+    /**
+     * 쓰기 가능 이벤트 처리 (남은 응답을 쓰고, 쓰기 때문에 멈췄던 프레임 처리를 이어감)
+     *
+     * @throws IOException 입출력 오류 또는 프로토콜 위반
+     */
+    void onWritable(SelectionKey key) throws IOException {
+        pump(key);
+    }
+
+    /**
+     * 스냅샷 로드가 끝난 뒤 I/O 스레드에서 호출 (멈춘 프레임부터 다시 처리)
+     *
+     * @throws IOException 입출력 오류 또는 프로토콜 위반
+     */
+    void resume(SelectionKey key) throws IOException {
+        loading = false;
+        pump(key);
+    }
+
+    SocketChannel channel() {
+        return channel;
+    }
+
+    /**
+     * 처리할 수 있는 프레임을 처리하고 응답을 쓰는 것을 더 진행할 수 없을 때까지 반복
+     */
+    private void pump(SelectionKey key) throws IOException {
+        while (true) {
+            boolean pending = process(key);
+            out.flip();
+            channel.write(out);
+            boolean flushed = !out.hasRemaining();
+            out.compact();
+            if (!flushed) {
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+            if (loading) {
+                // 로드가 끝나 resume이 호출될 때까지 읽지 않음
+                key.interestOps(0);
+                return;
+            }
+            if (!pending) {
+                key.interestOps(SelectionKey.OP_READ);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 입력 버퍼의 완성된 프레임을 처리 (스냅샷 로드를 시작한 프레임에서 멈춤)
+     *
+     * @return 출력 버퍼가 차서 처리하지 못한 완성된 프레임이 남았으면 true
+     */
+    private boolean process(SelectionKey key) throws ProtocolException {
+        if (loading) {
+            return false;
+        }
+        in.flip();
+        boolean pending = false;
+        byte[] bytes = in.array();
+        while (in.remaining() >= BinaryProtocol.LENGTH_FIELD) {
+            int position = in.position();
+            int length = in.getInt(position);
+            if (length < BinaryProtocol.HEADER || length > maxFrameLength) {
+                throw new ProtocolException("Invalid frame length: " + length);
+            }
+            if (in.remaining() < BinaryProtocol.LENGTH_FIELD + length) {
+                break;
+            }
+            if (out.remaining() < BinaryProtocol.MAX_RESPONSE) {
+                pending = true;
+                break;
+            }
+            int start = position + BinaryProtocol.LENGTH_FIELD;
+            if (!handle(key, bytes, start, length)) {
+                break;
+            }
+            in.position(start + length);
+        }
+        in.compact();
+        return pending;
+    }
+
+    /**
+     * 프레임 하나를 처리하고 응답을 기록
+     *
+     * @return 스냅샷 로드를 시작해 처리하지 못했으면 false
+     */
+    private boolean handle(SelectionKey key, byte[] frame, int offset, int length) throws ProtocolException {
+        byte opcode = frame[offset];
+        int namespaceId = ((frame[offset + 1] & 0xFF) << 8) | (frame[offset + 2] & 0xFF);
+        int body = offset + BinaryProtocol.HEADER;
+        int bodyLength = length - BinaryProtocol.HEADER;
+        switch (opcode) {
+            case BinaryProtocol.OP_BIND:
+                return bind(key, namespaceId, frame, body, bodyLength);
+            case BinaryProtocol.OP_VALIDATE:
+                String namespace = namespaceId < namespaces.length ? namespaces[namespaceId] : null;
+                if (namespace == null) {
+                    BinaryRequestHandler.writeResponse(out, BinaryProtocol.STATUS_ERROR, "");
+                    return true;
+                }
+                PolicySnapshot snapshot = snapshot(key, namespace);
+                if (snapshot == null) {
+                    return false;
+                }
+                if (snapshot == LOAD_FAILED) {
+                    BinaryRequestHandler.writeResponse(out, BinaryProtocol.STATUS_ERROR, "");
+                } else {
+                    handler.validate(namespace, snapshot, frame, body, bodyLength, out);
+                }
+                return true;
+            default:
+                throw new ProtocolException("Unknown opcode: " + opcode);
+        }
+    }
+
+    /**
+     * 네임스페이스 ID를 연결하고, 스냅샷이 캐시에 없으면 로드가 끝난 뒤 응답 (이후 검증 요청이 I/O 스레드에서 기다리지 않음)
+     */
+    private boolean bind(SelectionKey key, int namespaceId, byte[] frame, int offset, int length) {
+        String namespace = new String(frame, offset, length, StandardCharsets.UTF_8).strip();
+        if (namespaceId >= namespaces.length || namespace.isEmpty()) {
+            BinaryRequestHandler.writeResponse(out, BinaryProtocol.STATUS_ERROR, "");
+            return true;
+        }
+        PolicySnapshot snapshot = snapshot(key, namespace);
+        if (snapshot == null) {
+            return false;
+        }
+        if (snapshot == LOAD_FAILED) {
+            BinaryRequestHandler.writeResponse(out, BinaryProtocol.STATUS_ERROR, "");
+            return true;
+        }
+        namespaces[namespaceId] = namespace;
+        BinaryRequestHandler.writeResponse(out, BinaryProtocol.STATUS_ALLOWED, "");
+        return true;
+    }
+
+    /**
+     * 프레임 처리에 쓸 스냅샷 조회
+     * 로드가 끝나 다시 처리하는 프레임이면 로드한 스냅샷을, 아니면 캐시된 스냅샷을 반환하고,
+     * 캐시에 없으면 작업 스레드에서 로드를 시작한 뒤 null 반환
+     *
+     * @return 스냅샷, 로드에 실패했으면 LOAD_FAILED, 로드를 시작했으면 null
+     */
+    private PolicySnapshot snapshot(SelectionKey key, String namespace) {
+        PolicySnapshot snapshot = loaded;
+        if (snapshot != null) {
+            loaded = null;
+            return snapshot;
+        }
+        snapshot = handler.cachedSnapshot(namespace);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        loading = true;
+        handler.load(namespace, result -> {
+            loaded = result != null ? result : LOAD_FAILED;
+            resumer.accept(key);
+        });
+        return null;
+    }
+}
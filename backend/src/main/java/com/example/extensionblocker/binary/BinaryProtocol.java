@@ -0,0 +1,54 @@
+package com.example.extensionblocker.binary;
+
+/**
+ * 바이너리 검증 프로토콜 상수
+ *
+ * 요청 프레임: [u32 길이][u8 opcode][u16 네임스페이스 ID][본문] (길이는 opcode부터의 바이트 수, 빅 엔디언)
+ * - BIND: 본문은 네임스페이스(UTF-8), 연결 안에서 이후 요청이 쓸 ID를 네임스페이스에 연결
+ * - VALIDATE: 본문은 파일명(UTF-8)
+ * 응답: [u8 상태][u8 길이][확장자(UTF-8, 최대 255바이트, 넘으면 문자 경계에서 자름)]
+ * 한 연결에서 응답을 기다리지 않고 여러 요청을 보낼 수 있으며(파이프라이닝), 응답은 요청 순서대로 돌아옴
+ */
+public final class BinaryProtocol {
+
+    public static final byte OP_BIND = 1;
+    public static final byte OP_VALIDATE = 2;
+
+    /**
+     * 허용 (BIND 성공 포함)
+     */
+    public static final byte STATUS_ALLOWED = 0;
+
+    /**
+     * 차단
+     */
+    public static final byte STATUS_BLOCKED = 1;
+
+    /**
+     * 잘못된 요청 (바인드되지 않은 네임스페이스 ID, 범위를 벗어난 ID, 빈 네임스페이스 등)
+     */
+    public static final byte STATUS_ERROR = 2;
+
+    /**
+     * 길이 필드 크기
+     */
+    public static final int LENGTH_FIELD = 4;
+
+    /**
+     * opcode와 네임스페이스 ID 크기
+     */
+    public static final int HEADER = 3;
+
+    /**
+     * 응답 확장자 최대 바이트 수
+     */
+    public static final int MAX_EXTENSION_BYTES = 255;
+
+    /**
+     * 응답 최대 크기
+     */
+    public static final int MAX_RESPONSE = 2 + MAX_EXTENSION_BYTES;
+
+    private BinaryProtocol() {
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.extensionblocker.binary;
+
+import com.example.extensionblocker.audit.ValidationAuditLog;
+import com.example.extensionblocker.metrics.VerdictMetrics;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import com.example.extensionblocker.service.ExtensionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * 바이너리 검증 요청 처리
+ * REST API(ValidateController.validateFile)와 같은 서비스 로직, 판정 메트릭, 감사 로그를 사용
+ * I/O 스레드에서는 캐시된 정책 스냅샷만 읽고, 캐시에 없는 스냅샷은 작업 스레드에서 로드 (DB 조회로 I/O 스레드를 멈추지 않음)
+ */
+final class BinaryRequestHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryRequestHandler.class);
+
+    private final ExtensionService extensionService;
+    private final PolicySnapshotCache snapshotCache;
+    private final VerdictMetrics verdictMetrics;
+    private final ValidationAuditLog auditLog;
+    private final Executor loader;
+
+    BinaryRequestHandler(ExtensionService extensionService, PolicySnapshotCache snapshotCache,
+            VerdictMetrics verdictMetrics, ValidationAuditLog auditLog, Executor loader) {
+        this.extensionService = extensionService;
+        this.snapshotCache = snapshotCache;
+        this.verdictMetrics = verdictMetrics;
+        this.auditLog = auditLog;
+        this.loader = loader;
+    }
+
+    /**
+     * 캐시된 정책 스냅샷 조회 (DB를 조회하지 않음)
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 캐시된 스냅샷, 없으면 null
+     */
+    PolicySnapshot cachedSnapshot(String namespace) {
+        return snapshotCache.getIfPresent(namespace);
+    }
+
+    /**
+     * 작업 스레드에서 정책 스냅샷을 로드 (캐시에도 들어감)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param callback  로드한 스냅샷을 받는 함수 (작업 스레드에서 호출, 로드에 실패하면 null)
+     */
+    void load(String namespace, Consumer<PolicySnapshot> callback) {
+        loader.execute(() -> {
+            PolicySnapshot snapshot = null;
+            try {
+                snapshot = extensionService.getPolicySnapshot(namespace);
+            } catch (RuntimeException e) {
+                log.warn("[load] Failed to load policy snapshot for binary validation: namespace={}, {}",
+                        namespace, e.getMessage());
+            }
+            callback.accept(snapshot);
+        });
+    }
+
+    /**
+     * 파일명을 검증하고 응답을 출력 버퍼에 기록
+     *
+     * @param namespace 정책 네임스페이스
+     * @param snapshot  정책 스냅샷
+     * @param filename  파일명 바이트 배열
+     * @param offset    파일명 시작 위치
+     * @param length    파일명 바이트 수
+     * @param out       응답을 기록할 버퍼 (최소 MAX_RESPONSE 바이트 남아 있어야 함)
+     */
+    void validate(String namespace, PolicySnapshot snapshot, byte[] filename, int offset, int length,
+            ByteBuffer out) {
+        String name = new String(filename, offset, length, StandardCharsets.UTF_8);
+        boolean allowed = extensionService.isFileAllowed(name, snapshot);
+        String extension = snapshot.describeExtension(name);
+        verdictMetrics.record(namespace, allowed, extension);
+        auditLog.record(namespace, name, extension, allowed);
+        writeResponse(out, allowed ? BinaryProtocol.STATUS_ALLOWED : BinaryProtocol.STATUS_BLOCKED, extension);
+    }
+
+    /**
+     * 응답 기록 ([상태][길이][확장자])
+     * 확장자가 MAX_EXTENSION_BYTES를 넘으면 UTF-8 문자 경계에서 자름 (클라이언트가 깨진 문자를 받지 않음)
+     */
+    static void writeResponse(ByteBuffer out, byte status, String extension) {
+        byte[] bytes = extension.isEmpty() ? null : extension.getBytes(StandardCharsets.UTF_8);
+        int length = bytes == null ? 0 : Math.min(bytes.length, BinaryProtocol.MAX_EXTENSION_BYTES);
+        if (bytes != null && length < bytes.length) {
+            // 자르는 위치의 바이트가 연속 바이트(10xxxxxx)면 그 문자의 첫 바이트 앞까지 물러남
+            while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+                length--;
+            }
+        }
+        out.put(status).put((byte) length);
+        if (length > 0) {
+            out.put(bytes, 0, length);
+        }
+    }
+}
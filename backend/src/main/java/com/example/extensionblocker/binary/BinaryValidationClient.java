@@ -0,0 +1,140 @@
+package com.example.extensionblocker.binary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 바이너리 검증 프로토콜 클라이언트 (스레드 안전하지 않음, 스레드마다 하나씩 사용)
+ * validate()는 요청 하나를 보내고 응답을 기다리며,
+ * send()/flush()/receive()로 응답을 기다리지 않고 여러 요청을 보낸 뒤 순서대로 받을 수 있음 (파이프라이닝)
+ */
+public class BinaryValidationClient implements Closeable {
+
+    private static final int MAX_NAMESPACES = 1 << 16;
+
+    private final Socket socket;
+    private final DataOutputStream out;
+    private final DataInputStream in;
+    private final Map<String, Integer> namespaceIds = new HashMap<>();
+
+    public BinaryValidationClient(String host, int port) throws IOException {
+        this.socket = new Socket();
+        this.socket.setTcpNoDelay(true);
+        this.socket.connect(new InetSocketAddress(host, port));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 16 * 1024));
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 16 * 1024));
+    }
+
+    /**
+     * 네임스페이스를 연결에 바인드하고 ID 반환 (이미 바인드한 네임스페이스는 기존 ID)
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 연결 안의 네임스페이스 ID
+     * @throws IOException 입출력 오류 또는 서버가 바인드를 거부한 경우
+     */
+    public int bind(String namespace) throws IOException {
+        Integer existing = namespaceIds.get(namespace);
+        if (existing != null) {
+            return existing;
+        }
+        int namespaceId = namespaceIds.size();
+        if (namespaceId >= MAX_NAMESPACES) {
+            throw new IllegalStateException("Too many namespaces bound to one connection");
+        }
+        writeFrame(BinaryProtocol.OP_BIND, namespaceId, namespace);
+        flush();
+        Verdict verdict = receive();
+        if (verdict.status() != BinaryProtocol.STATUS_ALLOWED) {
+            throw new ProtocolException("Server rejected namespace: " + namespace);
+        }
+        namespaceIds.put(namespace, namespaceId);
+        return namespaceId;
+    }
+
+    /**
+     * 파일 하나 검증 (요청을 보내고 응답을 기다림)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param filename  파일명
+     * @return 판정 결과
+     * @throws IOException 입출력 오류
+     */
+    public Verdict validate(String namespace, String filename) throws IOException {
+        send(bind(namespace), filename);
+        flush();
+        return receive();
+    }
+
+    /**
+     * 검증 요청을 버퍼에 추가 (flush() 전에는 보내지 않을 수 있음)
+     *
+     * @param namespaceId bind()가 반환한 네임스페이스 ID
+     * @param filename    파일명
+     * @throws IOException 입출력 오류
+     */
+    public void send(int namespaceId, String filename) throws IOException {
+        writeFrame(BinaryProtocol.OP_VALIDATE, namespaceId, filename);
+    }
+
+    /**
+     * 버퍼의 요청을 모두 전송
+     *
+     * @throws IOException 입출력 오류
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * 다음 응답 수신 (요청을 보낸 순서대로 반환)
+     *
+     * @return 판정 결과
+     * @throws IOException 입출력 오류
+     */
+    public Verdict receive() throws IOException {
+        int status = in.readUnsignedByte();
+        int length = in.readUnsignedByte();
+        if (length == 0) {
+            return new Verdict(status, "");
+        }
+        byte[] extension = new byte[length];
+        in.readFully(extension);
+        return new Verdict(status, new String(extension, StandardCharsets.UTF_8));
+    }
+
+    private void writeFrame(byte opcode, int namespaceId, String body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(BinaryProtocol.HEADER + bytes.length);
+        out.writeByte(opcode);
+        out.writeShort(namespaceId);
+        out.write(bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    /**
+     * 판정 결과
+     *
+     * @param status    BinaryProtocol.STATUS_* 값
+     * @param extension 판정에 사용한 확장자 (없으면 빈 문자열)
+     */
+    public record Verdict(int status, String extension) {
+
+        public boolean allowed() {
+            return status == BinaryProtocol.STATUS_ALLOWED;
+        }
+    }
+}
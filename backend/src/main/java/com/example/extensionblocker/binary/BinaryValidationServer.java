@@ -0,0 +1,270 @@
+package com.example.extensionblocker.binary;
+
+import com.example.extensionblocker.audit.ValidationAuditLog;
+import com.example.extensionblocker.config.BinaryProtocolProperties;
+import com.example.extensionblocker.metrics.VerdictMetrics;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import com.example.extensionblocker.service.ExtensionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 바이너리 검증 프로토콜 TCP 서버 (REST API와 별도의 선택 기능)
+ * 수락 스레드 하나가 연결을 받아 I/O 스레드들에 차례로 나눠 주고,
+ * 각 I/O 스레드는 자신의 Selector로 맡은 연결의 프레임을 읽어 캐시된 정책 스냅샷으로 바로 판정
+ * (캐시에 없는 스냅샷은 애플리케이션 작업 스레드에서 로드하고, 그동안 해당 연결만 멈춤)
+ * HTTP 파싱, JSON 직렬화, MVC 디스패치 없이 길이 접두 프레임만 주고받음 (프로토콜은 BinaryProtocol 참고)
+ */
+@Component
+public class BinaryValidationServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryValidationServer.class);
+
+    private final BinaryProtocolProperties properties;
+    private final BinaryRequestHandler handler;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private volatile boolean running;
+    private ServerSocketChannel server;
+    private Thread acceptor;
+    private EventLoop[] loops;
+
+    public BinaryValidationServer(BinaryProtocolProperties properties, ExtensionService extensionService,
+            PolicySnapshotCache snapshotCache, VerdictMetrics verdictMetrics, ValidationAuditLog auditLog,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor executor) {
+        this.properties = properties;
+        this.handler = new BinaryRequestHandler(extensionService, snapshotCache, verdictMetrics, auditLog,
+                executor);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int ioThreads = properties.getIoThreads() > 0
+                ? properties.getIoThreads()
+                : Math.min(4, Runtime.getRuntime().availableProcessors());
+        try {
+            server = ServerSocketChannel.open();
+            server.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            server.bind(new InetSocketAddress(properties.getAddress(), properties.getPort()), 1024);
+            loops = new EventLoop[ioThreads];
+            for (int i = 0; i < ioThreads; i++) {
+                loops[i] = new EventLoop(i);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start binary validation server on port "
+                    + properties.getPort(), e);
+        }
+        running = true;
+        for (EventLoop loop : loops) {
+            loop.thread.start();
+        }
+        acceptor = new Thread(this::accept, "binary-validation-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("[start] Binary validation server listening on {}:{} with {} I/O threads",
+                properties.getAddress(), properties.getPort(), ioThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeQuietly(server);
+        for (EventLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+        join(acceptor);
+        for (EventLoop loop : loops) {
+            join(loop.thread);
+        }
+        log.info("[stop] Binary validation server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 현재 연결 수
+     *
+     * @return 열린 연결 수
+     */
+    public int getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * 연결을 받아 I/O 스레드에 차례로 배정 (연결 수 상한을 넘으면 바로 닫음)
+     */
+    private void accept() {
+        int next = 0;
+        while (running) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (IOException e) {
+                log.warn("[accept] Failed to accept binary validation connection: {}", e.getMessage());
+                continue;
+            }
+            if (connections.incrementAndGet() > properties.getMaxConnections()) {
+                connections.decrementAndGet();
+                closeQuietly(channel);
+                log.warn("[accept] Rejected binary validation connection, max connections {} reached",
+                        properties.getMaxConnections());
+                continue;
+            }
+            loops[next++ % loops.length].register(channel);
+        }
+    }
+
+    /**
+     * Selector 하나로 여러 연결을 처리하는 I/O 스레드
+     */
+    private final class EventLoop {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 스냅샷 로드가 끝나 처리를 이어갈 연결
+         */
+        private final Queue<SelectionKey> resumed = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+
+        EventLoop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this::run, "binary-validation-io-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void register(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        void resume(SelectionKey key) {
+            resumed.add(key);
+            selector.wakeup();
+        }
+
+        private void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    registerPending();
+                    resumePending();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        handle(key);
+                    }
+                } catch (IOException e) {
+                    log.warn("[run] Binary validation I/O loop error: {}", e.getMessage());
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                close(key);
+            }
+            closeQuietly(selector);
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    channel.configureBlocking(false);
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    channel.register(selector, SelectionKey.OP_READ, new BinaryConnection(channel, handler,
+                            properties.getMaxFrameLength(), properties.getMaxNamespacesPerConnection(),
+                            this::resume));
+                } catch (IOException e) {
+                    connections.decrementAndGet();
+                    closeQuietly(channel);
+                }
+            }
+        }
+
+        private void resumePending() {
+            SelectionKey key;
+            while ((key = resumed.poll()) != null) {
+                // 로드 중에 닫힌 연결은 건너뜀
+                if (!key.isValid()) {
+                    continue;
+                }
+                BinaryConnection connection = (BinaryConnection) key.attachment();
+                try {
+                    connection.resume(key);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("[resumePending] Closing binary validation connection: {}", e.getMessage());
+                    close(key);
+                }
+            }
+        }
+
+        private void handle(SelectionKey key) {
+            BinaryConnection connection = (BinaryConnection) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    if (!connection.onReadable(key)) {
+                        close(key);
+                    }
+                } else if (key.isWritable()) {
+                    connection.onWritable(key);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("[handle] Closing binary validation connection: {}", e.getMessage());
+                close(key);
+            }
+        }
+
+        private void close(SelectionKey key) {
+            key.cancel();
+            closeQuietly(((BinaryConnection) key.attachment()).channel());
+            connections.decrementAndGet();
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join(Duration.ofSeconds(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("[closeQuietly] Failed to close: {}", e.getMessage());
+        }
+    }
+}
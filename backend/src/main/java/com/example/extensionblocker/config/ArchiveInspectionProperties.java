@@ -0,0 +1,35 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 압축 파일 검사 한도 설정 (zip bomb 방지)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.archive")
+public class ArchiveInspectionProperties {
+
+    /**
+     * 업로드 가능한 압축 파일 최대 크기
+     */
+    private DataSize maxArchiveSize = DataSize.ofGigabytes(2);
+
+    /**
+     * 검사할 최대 엔트리 수 (중첩 압축 파일 포함 전체)
+     */
+    private int maxEntries = 200_000;
+
+    /**
+     * 최대 중첩 깊이 (0이면 중첩 압축 파일을 열지 않음)
+     */
+    private int maxDepth = 3;
+
+    /**
+     * 중첩 압축 파일을 풀 때 허용하는 최대 총 크기
+     */
+    private DataSize maxNestedSize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,49 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 바이너리 검증 프로토콜(TCP) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.binary")
+public class BinaryProtocolProperties {
+
+    /**
+     * 바이너리 검증 포트 사용 여부 (REST API와 별도로 동작)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 바인드 주소
+     */
+    private String address = "0.0.0.0";
+
+    /**
+     * 포트
+     */
+    private int port = 9090;
+
+    /**
+     * 연결을 나눠 처리하는 I/O 스레드 수 (0이면 CPU 수와 4 중 작은 값)
+     */
+    private int ioThreads = 0;
+
+    /**
+     * 요청 프레임 최대 길이 (길이 필드 제외, 넘으면 연결 종료)
+     */
+    private int maxFrameLength = 4096;
+
+    /**
+     * 동시 연결 수 상한
+     */
+    private int maxConnections = 1024;
+
+    /**
+     * 연결당 바인드할 수 있는 네임스페이스 ID 수 (0 ~ 값-1)
+     */
+    private int maxNamespacesPerConnection = 256;
+}
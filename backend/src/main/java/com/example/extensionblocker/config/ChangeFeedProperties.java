@@ -0,0 +1,36 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 정책 변경 피드(GET /api/policies/{namespace}/changes) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.change-feed")
+public class ChangeFeedProperties {
+
+    /**
+     * 네임스페이스별로 보관할 최근 버전 수 (더 오래된 기록은 변경 시 삭제되고, 그 이전 버전부터의 조회는 reset 응답)
+     */
+    private int retainedVersions = 1000;
+
+    /**
+     * 한 응답에 담을 최대 버전 수 (남은 변경은 hasMore=true로 알리고 다음 조회에서 이어서 반환)
+     */
+    private int maxVersionsPerResponse = 500;
+
+    /**
+     * 변경을 기다리는 최대 시간 (요청의 wait 값 상한)
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    /**
+     * 동시에 기다릴 수 있는 최대 요청 수 (넘으면 기다리지 않고 바로 응답)
+     */
+    private int maxWaiters = 10_000;
+}
@@ -0,0 +1,27 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DB 동시 접근 제한 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.datasource")
+public class DataSourceConcurrencyProperties {
+
+    /**
+     * 동시에 사용할 수 있는 최대 커넥션 수 (0이면 제한하지 않음)
+     * 커넥션 풀 크기 이하로 설정
+     */
+    private int maxConcurrency = 0;
+
+    /**
+     * 허가를 기다리는 최대 시간 (초과 시 503 응답)
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
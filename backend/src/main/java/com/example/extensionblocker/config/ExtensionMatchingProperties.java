@@ -0,0 +1,20 @@
+package com.example.extensionblocker.config;
+
+import com.example.extensionblocker.type.MatchMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일명 매칭 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.matching")
+public class ExtensionMatchingProperties {
+
+    /**
+     * 매칭 방식 (SUFFIX: 끝부분만, ANY_SEGMENT: 이름 뒤의 모든 구간)
+     */
+    private MatchMode mode = MatchMode.SUFFIX;
+}
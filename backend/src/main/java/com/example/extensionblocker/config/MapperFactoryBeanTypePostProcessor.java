@@ -0,0 +1,35 @@
+package com.example.extensionblocker.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+/**
+ * MapperScannerConfigurer가 등록한 매퍼 빈 정의(MapperFactoryBean)에 매퍼 인터페이스 타입을 채움
+ * 스캐너는 생성자 인자를 클래스 이름(String)으로만 넣어 두는데, Spring AOT(-Paot)로 생성한 빈 정의 코드는
+ * 실행 시 이를 Class로 변환하지 못하고 FactoryBean 타입도 알 수 없으므로, AOT 처리 시점에 Class와 제네릭 타입을 확정함
+ * (AOT 없이 실행할 때도 매퍼 타입을 FactoryBean 생성 없이 판단할 수 있게 될 뿐 동작은 같음)
+ */
+@Component
+public class MapperFactoryBeanTypePostProcessor implements MergedBeanDefinitionPostProcessor {
+
+    @Override
+    public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+        if (!MapperFactoryBean.class.isAssignableFrom(beanType)
+                || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+            return;
+        }
+        PropertyValue mapperInterface = beanDefinition.getPropertyValues().getPropertyValue("mapperInterface");
+        if (mapperInterface == null || !(mapperInterface.getValue() instanceof Class<?> type)) {
+            return;
+        }
+        ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+        arguments.addGenericArgumentValue(type);
+        beanDefinition.setConstructorArgumentValues(arguments);
+        beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanType, type));
+    }
+}
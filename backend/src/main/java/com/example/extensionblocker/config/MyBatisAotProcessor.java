@@ -0,0 +1,90 @@
+package com.example.extensionblocker.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Spring AOT(-Paot) 빌드에서 MyBatis 매퍼를 처리
+ * 1) 매퍼 빈 정의는 빌드 시점에 코드로 생성되므로, 실행 시 MapperScannerConfigurer가 같은 매퍼를 다시 등록하지 않도록 생성 대상에서 제외
+ * 2) 네이티브 이미지용으로 매퍼 XML 리소스, 매퍼 인터페이스의 JDK 프록시,
+ *    매퍼 메서드의 파라미터/반환 타입(모델·DTO·enum)의 리플렉션 힌트를 등록
+ * META-INF/spring/aot.factories로 등록되며 AOT 처리 중에만 사용됨
+ */
+class MyBatisAotProcessor implements BeanFactoryInitializationAotProcessor, BeanRegistrationExcludeFilter {
+
+    private static final String MAPPER_LOCATION_PATTERN = "mapper/*.xml";
+
+    private static final String APPLICATION_PACKAGE = "com.example.extensionblocker.";
+
+    @Override
+    public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+        return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+    }
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> mapperInterfaces = new HashSet<>();
+        for (String beanName : beanFactory.getBeanNamesForType(MapperFactoryBean.class, true, false)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(BeanFactoryUtils.transformedBeanName(beanName));
+            PropertyValue mapperInterface = definition.getPropertyValues().getPropertyValue("mapperInterface");
+            if (mapperInterface != null && mapperInterface.getValue() instanceof Class<?> type) {
+                mapperInterfaces.add(type);
+            }
+        }
+        if (mapperInterfaces.isEmpty()) {
+            return null;
+        }
+        return (context, code) -> registerHints(context.getRuntimeHints(), mapperInterfaces);
+    }
+
+    private static void registerHints(RuntimeHints hints, Set<Class<?>> mapperInterfaces) {
+        hints.resources().registerPattern(MAPPER_LOCATION_PATTERN);
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> mapperInterface : mapperInterfaces) {
+            hints.proxies().registerJdkProxy(mapperInterface);
+            hints.reflection().registerType(mapperInterface, MemberCategory.INVOKE_PUBLIC_METHODS);
+            for (Method method : mapperInterface.getMethods()) {
+                registerType(hints, ResolvableType.forMethodReturnType(method), visited);
+                for (Parameter parameter : method.getParameters()) {
+                    registerType(hints, ResolvableType.forType(parameter.getParameterizedType()), visited);
+                }
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 패키지의 타입과, 그 필드·제네릭 인자로 쓰인 타입을 재귀적으로 등록
+     * (resultType/parameterType 매핑과 enum 타입 핸들러가 리플렉션으로 접근함)
+     */
+    private static void registerType(RuntimeHints hints, ResolvableType type, Set<Class<?>> visited) {
+        for (ResolvableType generic : type.getGenerics()) {
+            registerType(hints, generic, visited);
+        }
+        Class<?> raw = type.resolve();
+        if (raw == null || raw.isArray() || !raw.getName().startsWith(APPLICATION_PACKAGE) || !visited.add(raw)) {
+            return;
+        }
+        hints.reflection().registerType(raw, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+        for (Field field : raw.getDeclaredFields()) {
+            registerType(hints, ResolvableType.forField(field), visited);
+        }
+    }
+}
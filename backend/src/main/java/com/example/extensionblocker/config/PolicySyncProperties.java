@@ -0,0 +1,36 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 간 정책 동기화(LISTEN/NOTIFY) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.policy-sync")
+public class PolicySyncProperties {
+
+    /**
+     * 다른 인스턴스의 정책 변경 알림 수신 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 알림을 기다리는 최대 시간 (연결 상태 확인 주기)
+     */
+    private Duration pollTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 리스너 연결이 끊긴 뒤 첫 재연결 대기 시간 (실패할 때마다 두 배씩 증가)
+     */
+    private Duration reconnectInitialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * 재연결 대기 시간 상한
+     */
+    private Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+}
@@ -0,0 +1,44 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 네임스페이스별 요청 수 제한 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 파일 검증 API 제한
+     */
+    private Limit validate = new Limit();
+
+    /**
+     * 정책 변경 API 제한
+     */
+    private Limit mutation = new Limit();
+
+    /**
+     * API 분류별로 따로 제한할 최대 네임스페이스 수
+     * 넘으면 요청이 없어 버킷이 가득 찬 네임스페이스를 정리하고, 그래도 자리가 없으면 나머지 네임스페이스는 버킷 하나를 함께 사용
+     */
+    private int maxNamespaces = 10_000;
+
+    @Data
+    public static class Limit {
+
+        /**
+         * 네임스페이스당 초당 허용 요청 수 (0이면 제한하지 않음)
+         */
+        private double rate = 0;
+
+        /**
+         * 연속으로 허용할 최대 요청 수 (0이면 초당 허용 요청 수와 같게, 최소 1)
+         */
+        private int burst = 0;
+    }
+}
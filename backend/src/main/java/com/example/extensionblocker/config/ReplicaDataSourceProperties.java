@@ -0,0 +1,60 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) DB 설정
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 나머지는 주 DB(spring.datasource.*)로 보냄
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 복제본 JDBC URL 목록 (비어 있으면 모든 요청을 주 DB로 보냄)
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * 복제본 접속 계정 (없으면 주 DB 계정 사용)
+     */
+    private String username;
+
+    /**
+     * 복제본 접속 비밀번호 (없으면 주 DB 비밀번호 사용)
+     */
+    private String password;
+
+    /**
+     * 복제본별 커넥션 풀 크기
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * 복제본 커넥션을 기다리는 최대 시간 (초과 시 다른 복제본 또는 주 DB 사용)
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 상태 확인 주기
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 허용할 최대 복제 지연 (넘으면 지연이 줄어들 때까지 사용하지 않음)
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * 네임스페이스 정책이 바뀐 뒤 그 네임스페이스의 읽기를 주 DB로 보내는 시간 (0이면 사용하지 않음)
+     * 변경한 쪽이 바로 다시 읽어도 자신의 변경을 볼 수 있도록 maxLag 이상으로 설정
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
@@ -0,0 +1,57 @@
+package com.example.extensionblocker.config;
+
+import com.example.extensionblocker.type.AuditOverflowPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 검증 판정 감사 로그(validation_audit) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.audit")
+public class ValidationAuditProperties {
+
+    /**
+     * 판정 기록 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 요청 스레드와 기록 스레드 사이 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    private int capacity = 65_536;
+
+    /**
+     * 한 번의 COPY로 기록할 최대 건수
+     */
+    private int batchSize = 2_000;
+
+    /**
+     * 배치가 차지 않아도 기록하는 주기 (판정이 DB에 반영되기까지의 최대 지연)
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식 (DROP: 버리고 카운터 증가, BLOCK: 자리가 날 때까지 대기)
+     */
+    private AuditOverflowPolicy overflow = AuditOverflowPolicy.DROP;
+
+    /**
+     * BLOCK 방식에서 요청 스레드가 기다리는 최대 시간 (지나면 버림)
+     */
+    private Duration blockTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 기록 실패 시 같은 배치를 다시 시도하는 횟수 (모두 실패하면 버림)
+     */
+    private int maxRetries = 3;
+
+    /**
+     * 종료 시 남은 판정을 기록하며 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,25 @@
+package com.example.extensionblocker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증 결과 메트릭 태그 한도 설정
+ * 임의의 네임스페이스/확장자 요청으로 메트릭 시계열이 무한히 늘어나는 것을 방지
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "extension-blocker.metrics")
+public class VerdictMetricsProperties {
+
+    /**
+     * namespace 태그로 구분할 최대 네임스페이스 수 (초과분은 "other")
+     */
+    private int maxNamespaceTags = 100;
+
+    /**
+     * extension 태그로 구분할 최대 확장자 수 (초과분은 "other")
+     */
+    private int maxExtensionTags = 200;
+}
@@ -1,33 +1,53 @@
-package com.example.extensionblocker.constrant;
-
-import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
-
-/**
- * 확장자 차단 관련 상수 정의
- */
-public class ExtensionConst {
-
-    /**
-     * 기본 고정 확장자 목록
-     * 보안상 위험한 실행 파일 확장자들
-     */
-    public static final List<String> DEFAULT_FIXED_EXTENSIONS = Arrays.asList(
-            "bat", "cmd", "com", "cpl", "exe", "scr", "js");
-
-    /**
-     * 유효한 확장자 형식 패턴 (영문 소문자, 숫자만 허용)
-     */
-    public static final Pattern VALID_EXTENSION_PATTERN = Pattern.compile("^[a-z0-9]+$");
-
-    /**
-     * 최대 커스텀 확장자 개수
-     */
-    public static final int MAX_CUSTOM_EXTENSIONS = 200;
-
-    /**
-     * 최대 확장자 길이 (문자 수)
-     */
-    public static final int MAX_EXTENSION_LENGTH = 20;
-}
+package com.example.extensionblocker.constrant;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 확장자 차단 관련 상수 정의
+ */
+public class ExtensionConst {
+
+    /**
+     * 기본 고정 확장자 목록
+     * 보안상 위험한 실행 파일 확장자들
+     */
+    public static final List<String> DEFAULT_FIXED_EXTENSIONS = Arrays.asList(
+            "bat", "cmd", "com", "cpl", "exe", "scr", "js");
+
+    /**
+     * 유효한 확장자 형식 패턴 (영문 소문자, 숫자로 된 구간을 점으로 연결, 예: "exe", "tar.gz")
+     */
+    public static final Pattern VALID_EXTENSION_PATTERN = Pattern.compile("^[a-z0-9]+(\\.[a-z0-9]+)*$");
+
+    /**
+     * 최대 커스텀 확장자 개수
+     */
+    public static final int MAX_CUSTOM_EXTENSIONS = 200;
+
+    /**
+     * 최대 확장자 길이 (문자 수)
+     */
+    public static final int MAX_EXTENSION_LENGTH = 20;
+
+    /**
+     * 네임스페이스 계층의 최대 깊이 (최상위 정책 포함)
+     */
+    public static final int MAX_NAMESPACE_DEPTH = 8;
+
+    /**
+     * 일괄 검증 요청당 최대 파일 개수
+     */
+    public static final int MAX_BATCH_FILES = 1000;
+
+    /**
+     * 일괄 등록 요청당 최대 확장자 개수
+     */
+    public static final int MAX_IMPORT_EXTENSIONS = 1000;
+
+    /**
+     * 스트리밍 검증 시 한 줄의 최대 길이 (문자 수)
+     */
+    public static final int MAX_STREAM_LINE_LENGTH = 4096;
+}
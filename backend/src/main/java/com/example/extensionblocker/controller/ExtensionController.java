@@ -1,77 +1,327 @@
-package com.example.extensionblocker.controller;
-
-import com.example.extensionblocker.dto.ExtensionRequest;
-import com.example.extensionblocker.dto.PolicyResponse;
-import com.example.extensionblocker.service.ExtensionService;
-import com.example.extensionblocker.type.ExtensionType;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-/**
- * 확장자 차단 정책 관리 컨트롤러
- * 정책 조회, 고정/커스텀 확장자 추가/삭제 API 제공
- */
-@RestController
-@RequestMapping("/api")
-@RequiredArgsConstructor
-public class ExtensionController {
-
-    private final ExtensionService extensionService;
-
-    /**
-     * 특정 네임스페이스의 정책 조회
-     * 
-     * @param namespace 정책 네임스페이스 (예: "chat", "work")
-     * @return 고정 확장자 및 커스텀 확장자 목록
-     */
-    @GetMapping("/policies/{namespace}")
-    public ResponseEntity<PolicyResponse> getPolicy(@PathVariable String namespace) {
-        return ResponseEntity.ok(extensionService.getPolicy(namespace));
-    }
-
-    /**
-     * 고정 확장자의 차단 상태 토글
-     * 
-     * @param namespace 정책 네임스페이스
-     * @param extension 토글할 확장자명
-     * @return 성공 응답
-     */
-    @PostMapping("/policies/{namespace}/fixed")
-    public ResponseEntity<Void> toggleFixed(@PathVariable String namespace, @RequestBody ExtensionRequest request) {
-        extensionService.regExtensionRule(namespace, ExtensionType.FIXED, request.getExtension());
-        return ResponseEntity.ok().build();
-    }
-
-    /**
-     * 커스텀 확장자 추가
-     * 
-     * @param namespace 정책 네임스페이스
-     * @param request   추가할 확장자 정보
-     * @return 성공 응답
-     */
-    @PostMapping("/policies/{namespace}/custom")
-    public ResponseEntity<Void> addCustom(@PathVariable String namespace, @RequestBody ExtensionRequest request) {
-        extensionService.regExtensionRule(namespace, ExtensionType.CUSTOM, request.getExtension());
-        return ResponseEntity.ok().build();
-    }
-
-    /**
-     * 커스텀 확장자 삭제
-     * 
-     * @param id 삭제할 규칙 ID
-     * @return 성공 응답
-     */
-    @DeleteMapping("/extensions/{id}")
-    public ResponseEntity<Void> deleteCustom(@PathVariable Long id) {
-        extensionService.delExtensionRule(id);
-        return ResponseEntity.ok().build();
-    }
-
-    /**
-     * 잘못된 요청 예외 처리
-     * 비즈니스 로직 검증 실패 시 400 오류 반환
-     */
-
-}
+package com.example.extensionblocker.controller;
+
+import com.example.extensionblocker.admission.NamespaceRateLimiter;
+import com.example.extensionblocker.dto.CompiledPolicyResponse;
+import com.example.extensionblocker.dto.ExtensionImportResponse;
+import com.example.extensionblocker.dto.ExtensionRequest;
+import com.example.extensionblocker.dto.PolicyChangesResponse;
+import com.example.extensionblocker.dto.PolicyParentRequest;
+import com.example.extensionblocker.dto.PolicyResponse;
+import com.example.extensionblocker.exception.InvalidRequestException;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.policy.PolicyDocument;
+import com.example.extensionblocker.service.ExtensionService;
+import com.example.extensionblocker.service.PolicyChangeFeed;
+import com.example.extensionblocker.type.ApiClass;
+import com.example.extensionblocker.type.ExtensionType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 확장자 차단 정책 관리 컨트롤러
+ * 정책 조회, 고정/커스텀 확장자 추가/삭제 API 제공
+ */
+@RestController
+@RequestMapping("/api")
+public class ExtensionController {
+
+    private final ExtensionService extensionService;
+    private final PolicyChangeFeed changeFeed;
+    private final NamespaceRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter policyWriter;
+    private final ObjectWriter compiledPolicyWriter;
+
+    public ExtensionController(ExtensionService extensionService, PolicyChangeFeed changeFeed,
+            NamespaceRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.extensionService = extensionService;
+        this.changeFeed = changeFeed;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.policyWriter = objectMapper.writerFor(PolicyResponse.class);
+        this.compiledPolicyWriter = objectMapper.writerFor(CompiledPolicyResponse.class);
+    }
+
+    /**
+     * 특정 네임스페이스의 정책 조회
+     * 정책 버전별로 한 번만 직렬화한 JSON을 강한 ETag와 함께 반환하며,
+     * If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환
+     * 
+     * @param namespace 정책 네임스페이스 (예: "chat", "work")
+     * @return 고정 확장자 및 커스텀 확장자 목록
+     */
+    @Timed(value = "extension.policy.get", description = "Policy read", histogram = true)
+    @GetMapping("/policies/{namespace}")
+    public ResponseEntity<byte[]> getPolicy(@PathVariable String namespace) {
+        PolicyDocument document = extensionService.getPolicySnapshot(namespace).getDocument(this::serialize);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(document.etag())
+                .body(document.body());
+    }
+
+    /**
+     * 컴파일된 정책 조회 (클라이언트 라이브러리의 로컬 판정용)
+     * 상속과 차단 해제를 반영한 차단 확장자 목록과 매칭 방식을 반환하며, ETag/304 처리는 정책 조회와 동일
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 차단 확장자 목록과 매칭 방식
+     */
+    @Timed(value = "extension.policy.get", description = "Policy read", histogram = true)
+    @GetMapping("/policies/{namespace}/compiled")
+    public ResponseEntity<byte[]> getCompiledPolicy(@PathVariable String namespace) {
+        PolicyDocument document = extensionService.getPolicySnapshot(namespace)
+                .getCompiledDocument(this::serializeCompiled);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(document.etag())
+                .body(document.body());
+    }
+
+    /**
+     * 정책 변경 피드 조회
+     * since 이후 이 네임스페이스 규칙의 추가/삭제와 상위 정책 변경을 버전 순으로 반환하며,
+     * 변경이 없으면 최대 wait초 동안 기다렸다가 응답 (롱 폴링)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param since     이미 반영한 정책 버전 (0이면 처음부터)
+     * @param wait      변경이 없을 때 기다릴 시간(초)
+     * @return 변경 목록 (기록이 정리되었으면 reset=true)
+     */
+    @GetMapping("/policies/{namespace}/changes")
+    public DeferredResult<PolicyChangesResponse> getPolicyChanges(@PathVariable String namespace,
+            @RequestParam(defaultValue = "0") long since, @RequestParam(defaultValue = "0") long wait) {
+        return changeFeed.watch(namespace, since, Duration.ofSeconds(Math.max(wait, 0)));
+    }
+
+    /**
+     * 고정 확장자의 차단 상태 토글
+     * 
+     * @param namespace 정책 네임스페이스
+     * @param extension 토글할 확장자명
+     * @return 성공 응답
+     */
+    @PostMapping("/policies/{namespace}/fixed")
+    public ResponseEntity<Void> toggleFixed(@PathVariable String namespace, @RequestBody ExtensionRequest request) {
+        rateLimiter.acquire(ApiClass.MUTATION, namespace);
+        extensionService.regExtensionRule(namespace, ExtensionType.FIXED, request.getExtension(),
+                request.getEffect());
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 커스텀 확장자 추가
+     * 
+     * @param namespace 정책 네임스페이스
+     * @param request   추가할 확장자 정보
+     * @return 성공 응답
+     */
+    @PostMapping("/policies/{namespace}/custom")
+    public ResponseEntity<Void> addCustom(@PathVariable String namespace, @RequestBody ExtensionRequest request) {
+        rateLimiter.acquire(ApiClass.MUTATION, namespace);
+        extensionService.regExtensionRule(namespace, ExtensionType.CUSTOM, request.getExtension(),
+                request.getEffect());
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 상위 정책 지정
+     * 하위 네임스페이스는 상위 네임스페이스의 규칙을 물려받으며, effect=ALLOW 규칙으로 물려받은 차단을 해제할 수 있음
+     *
+     * @param namespace 정책 네임스페이스
+     * @param request   상위 정책 네임스페이스 (null이면 최상위 정책으로 변경)
+     * @return 성공 응답
+     */
+    @PutMapping("/policies/{namespace}/parent")
+    public ResponseEntity<Void> setParent(@PathVariable String namespace, @RequestBody PolicyParentRequest request) {
+        rateLimiter.acquire(ApiClass.MUTATION, namespace);
+        extensionService.setParentPolicy(namespace, request.getParent());
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 커스텀 확장자 일괄 등록 (JSON)
+     * 확장자 문자열 배열 또는 {"extension": ...} 객체 배열을 받음 (내보내기 결과를 그대로 사용 가능)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param body      확장자 목록
+     * @return 항목별 등록 결과
+     */
+    @PostMapping(value = "/policies/{namespace}/custom/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ExtensionImportResponse> importCustomJson(@PathVariable String namespace,
+            @RequestBody JsonNode body) {
+        rateLimiter.acquire(ApiClass.MUTATION, namespace);
+        if (!body.isArray()) {
+            throw new InvalidRequestException("Request body must be a JSON array");
+        }
+        List<String> extensions = new ArrayList<>(body.size());
+        for (JsonNode item : body) {
+            JsonNode value = item.isObject() ? item.get("extension") : item;
+            extensions.add(value != null && value.isValueNode() && !value.isNull() ? value.asText() : null);
+        }
+        return ResponseEntity.ok(extensionService.importCustomExtensions(namespace, extensions));
+    }
+
+    /**
+     * 커스텀 확장자 일괄 등록 (CSV)
+     * 첫 줄에 extension 열이 있으면 그 열만 읽고, 없으면 쉼표/줄바꿈으로 구분된 모든 값을 확장자로 취급
+     *
+     * @param namespace 정책 네임스페이스
+     * @param body      CSV 본문
+     * @return 항목별 등록 결과
+     */
+    @PostMapping(value = "/policies/{namespace}/custom/import", consumes = { "text/csv",
+            MediaType.TEXT_PLAIN_VALUE })
+    public ResponseEntity<ExtensionImportResponse> importCustomCsv(@PathVariable String namespace,
+            @RequestBody String body) {
+        rateLimiter.acquire(ApiClass.MUTATION, namespace);
+        return ResponseEntity.ok(extensionService.importCustomExtensions(namespace, parseCsv(body)));
+    }
+
+    /**
+     * 커스텀 확장자 내보내기
+     * 규칙을 DB 커서로 읽으며 바로 응답에 쓰므로 규칙 수와 무관하게 메모리 사용량이 일정함
+     *
+     * @param namespace 정책 네임스페이스
+     * @param format    json 또는 csv
+     * @param response  HTTP 응답
+     */
+    @GetMapping("/policies/{namespace}/custom/export")
+    public void exportCustom(@PathVariable String namespace, @RequestParam(defaultValue = "json") String format,
+            HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"json".equalsIgnoreCase(format)) {
+            throw new InvalidRequestException("Unsupported export format: " + format);
+        }
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(csv ? "text/csv" : MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(namespace + "-custom-extensions." + (csv ? "csv" : "json"))
+                .build().toString());
+
+        Writer writer = response.getWriter();
+        if (csv) {
+            writer.write("id,extension,created_at\n");
+            extensionService.exportCustomExtensions(namespace, rule -> writeCsvRow(writer, rule));
+            writer.flush();
+            return;
+        }
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.writeStartArray();
+            extensionService.exportCustomExtensions(namespace, rule -> writeJsonRow(generator, rule));
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * 커스텀 확장자 삭제
+     * 요청 수 제한은 규칙이 속한 네임스페이스에 적용 (규칙이 없으면 네임스페이스 없는 요청으로 적용)
+     * 
+     * @param id 삭제할 규칙 ID
+     * @return 성공 응답
+     */
+    @DeleteMapping("/extensions/{id}")
+    public ResponseEntity<Void> deleteCustom(@PathVariable Long id) {
+        rateLimiter.acquire(ApiClass.MUTATION, extensionService.getRuleNamespace(id));
+        extensionService.delExtensionRule(id);
+        return ResponseEntity.ok().build();
+    }
+
+    private static List<String> parseCsv(String body) {
+        List<String> extensions = new ArrayList<>();
+        if (body == null || body.isBlank()) {
+            return extensions;
+        }
+        String[] lines = body.split("\\r?\\n");
+        String[] header = lines[0].split(",", -1);
+        int column = -1;
+        for (int i = 0; i < header.length; i++) {
+            if ("extension".equalsIgnoreCase(header[i].trim())) {
+                column = i;
+            }
+        }
+        for (int i = column >= 0 ? 1 : 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            String[] cells = lines[i].split(",", -1);
+            if (column >= 0) {
+                extensions.add(column < cells.length ? cells[column] : null);
+            } else {
+                for (String cell : cells) {
+                    if (!cell.isBlank()) {
+                        extensions.add(cell);
+                    }
+                }
+            }
+        }
+        return extensions;
+    }
+
+    private static void writeCsvRow(Writer writer, ExtensionRule rule) {
+        try {
+            writer.write(rule.getId() + "," + rule.getExtension() + ","
+                    + (rule.getCreatedAt() != null ? rule.getCreatedAt() : "") + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJsonRow(JsonGenerator generator, ExtensionRule rule) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rule.getId());
+            generator.writeStringField("extension", rule.getExtension());
+            generator.writeStringField("createdAt",
+                    rule.getCreatedAt() != null ? rule.getCreatedAt().toString() : null);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] serialize(PolicyResponse response) {
+        try {
+            return policyWriter.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] serializeCompiled(CompiledPolicyResponse response) {
+        try {
+            return compiledPolicyWriter.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 잘못된 요청 예외 처리
+     * 비즈니스 로직 검증 실패 시 400 오류 반환
+     */
+
+}
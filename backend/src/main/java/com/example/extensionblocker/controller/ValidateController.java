@@ -1,68 +1,195 @@
-package com.example.extensionblocker.controller;
-
-import com.example.extensionblocker.dto.FileValidationRequest;
-import com.example.extensionblocker.dto.FileValidationResponse;
-import com.example.extensionblocker.service.ExtensionService;
-import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-/**
- * 파일 검증 컨트롤러
- * 파일 업로드 전 확장자 차단 여부를 확인하는 API 제공
- */
-@RestController
-@RequestMapping("/api/validate")
-@RequiredArgsConstructor
-public class ValidateController {
-
-    private static final Logger log = LoggerFactory.getLogger(ValidateController.class);
-    private final ExtensionService extensionService;
-
-    /**
-     * 파일 업로드 가능 여부 검증
-     * 
-     * @param request 파일명과 네임스페이스를 포함한 요청
-     * @return 허용/차단 여부 및 사유
-     */
-    @PostMapping("/file")
-    public ResponseEntity<FileValidationResponse> validateFile(@RequestBody FileValidationRequest request) {
-        log.info("[validateFile] Validating file: {}, namespace: {}", request.getFilename(), request.getNamespace());
-
-        // 확장자 추출
-        String extension = extractExtension(request.getFilename());
-
-        // 업로드 허용 여부 확인
-        boolean allowed = extensionService.isFileAllowed(request.getFilename(), request.getNamespace());
-
-        // 응답 생성
-        FileValidationResponse response = new FileValidationResponse();
-        response.setAllowed(allowed);
-        response.setExtension(extension);
-
-        if (allowed) {
-            response.setReason("허용된 파일입니다");
-        } else {
-            response.setReason("차단된 확장자입니다: ." + extension);
-        }
-
-        log.info("[validateFile] Result: allowed={}, extension={}", allowed, extension);
-        return ResponseEntity.ok(response);
-    }
-
-    /**
-     * 파일명에서 확장자를 추출
-     * 
-     * @param filename 파일명 (예: "test.exe")
-     * @return 확장자 (점 제외, 소문자, 예: "exe")
-     */
-    private String extractExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            return "";
-        }
-        int lastDot = filename.lastIndexOf('.');
-        return filename.substring(lastDot + 1).toLowerCase();
-    }
-}
+package com.example.extensionblocker.controller;
+
+import com.example.extensionblocker.admission.NamespaceRateLimiter;
+import com.example.extensionblocker.audit.ValidationAuditLog;
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.dto.FileBatchValidationRequest;
+import com.example.extensionblocker.dto.FileValidationRequest;
+import com.example.extensionblocker.dto.FileValidationResponse;
+import com.example.extensionblocker.exception.InvalidRequestException;
+import com.example.extensionblocker.inspect.ArchiveInspector;
+import com.example.extensionblocker.inspect.MultipartStream;
+import com.example.extensionblocker.inspect.UploadInspector;
+import com.example.extensionblocker.metrics.VerdictMetrics;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.service.ExtensionService;
+import com.example.extensionblocker.type.ApiClass;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 검증 컨트롤러
+ * 파일 업로드 전 확장자 차단 여부를 확인하는 API 제공
+ */
+@RestController
+@RequestMapping("/api/validate")
+@RequiredArgsConstructor
+public class ValidateController {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidateController.class);
+    private final ExtensionService extensionService;
+    private final UploadInspector uploadInspector;
+    private final ArchiveInspector archiveInspector;
+    private final VerdictMetrics verdictMetrics;
+    private final ValidationAuditLog auditLog;
+    private final NamespaceRateLimiter rateLimiter;
+
+    /**
+     * 파일 업로드 가능 여부 검증
+     * 
+     * @param request 파일명과 네임스페이스를 포함한 요청
+     * @return 허용/차단 여부 및 사유
+     */
+    @Timed(value = "extension.validate.file", description = "Single file validation", histogram = true)
+    @PostMapping("/file")
+    public ResponseEntity<FileValidationResponse> validateFile(@RequestBody FileValidationRequest request) {
+        log.debug("[validateFile] Validating file: {}, namespace: {}", request.getFilename(), request.getNamespace());
+        rateLimiter.acquire(ApiClass.VALIDATE, request.getNamespace());
+
+        // 업로드 허용 여부 확인
+        PolicySnapshot snapshot = extensionService.getPolicySnapshot(request.getNamespace());
+        boolean allowed = extensionService.isFileAllowed(request.getFilename(), snapshot);
+
+        // 확장자 추출 (차단된 경우 일치한 규칙)
+        String extension = snapshot.describeExtension(request.getFilename());
+
+        // 응답 생성
+        FileValidationResponse response = FileValidationResponse.of(allowed, extension);
+        verdictMetrics.record(request.getNamespace(), allowed, extension);
+        auditLog.record(request.getNamespace(), request.getFilename(), extension, allowed);
+
+        log.debug("[validateFile] Result: allowed={}, extension={}", allowed, extension);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 여러 파일의 업로드 가능 여부를 한 번에 검증
+     * 네임스페이스별 정책은 요청당 한 번만 조회하며, 결과는 입력 순서대로 반환
+     *
+     * @param request 기본 네임스페이스와 파일명 목록 (또는 항목별 네임스페이스를 가진 파일 목록)
+     * @return 파일별 허용/차단 여부 및 사유
+     */
+    @PostMapping("/files")
+    public ResponseEntity<List<FileValidationResponse>> validateFiles(
+            @RequestBody FileBatchValidationRequest request) {
+        List<String> filenames = request.getFilenames();
+        List<FileValidationRequest> files = request.getFiles();
+        if (filenames != null && files != null) {
+            throw new InvalidRequestException("Only one of filenames or files can be specified");
+        }
+        int size = filenames != null ? filenames.size() : files != null ? files.size() : 0;
+        if (size > ExtensionConst.MAX_BATCH_FILES) {
+            throw new InvalidRequestException(
+                    "Batch size cannot exceed " + ExtensionConst.MAX_BATCH_FILES + " files");
+        }
+        acquireBatch(request, size);
+
+        Map<String, PolicySnapshot> snapshots = new HashMap<>();
+        List<FileValidationResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String filename;
+            String namespace = request.getNamespace();
+            if (filenames != null) {
+                filename = filenames.get(i);
+            } else {
+                FileValidationRequest file = files.get(i);
+                filename = file != null ? file.getFilename() : null;
+                if (file != null && file.getNamespace() != null) {
+                    namespace = file.getNamespace();
+                }
+            }
+
+            PolicySnapshot snapshot = namespace == null
+                    ? extensionService.getPolicySnapshot(null)
+                    : snapshots.computeIfAbsent(namespace, extensionService::getPolicySnapshot);
+            boolean allowed = extensionService.isFileAllowed(filename, snapshot);
+            String extension = snapshot.describeExtension(filename);
+            verdictMetrics.record(namespace, allowed, extension);
+            auditLog.record(namespace, filename, extension, allowed);
+            responses.add(FileValidationResponse.of(allowed, extension));
+        }
+
+        log.debug("[validateFiles] Validated {} files across {} namespaces", size, snapshots.size());
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 업로드 파일의 실제 내용(매직 바이트)까지 검증
+     * 파일 앞부분만 스트리밍으로 읽으며, 판정 후 남은 본문은 읽지 않고 연결을 닫음
+     *
+     * @param namespace 정책 네임스페이스 (없으면 파일 파트 앞의 "namespace" 폼 필드 사용)
+     * @param request   multipart/form-data 요청
+     * @return 허용/차단 여부 및 사유
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<FileValidationResponse> validateUpload(
+            @RequestParam(required = false) String namespace, HttpServletRequest request) throws IOException {
+        UploadInspector.Result result = uploadInspector.inspect(request.getInputStream(), boundaryOf(request), namespace);
+
+        log.debug("[validateUpload] Result: allowed={}, extension={}",
+                result.response().isAllowed(), result.response().getExtension());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (!result.bodyConsumed()) {
+            builder.header(HttpHeaders.CONNECTION, "close");
+        }
+        return builder.body(result.response());
+    }
+
+    /**
+     * 업로드된 압축 파일(ZIP/JAR 등) 내부의 엔트리 이름까지 검증
+     * 엔트리를 풀지 않고 central directory만 읽으며, 중첩 압축 파일은 설정된 깊이까지 검사
+     *
+     * @param namespace 정책 네임스페이스 (없으면 파일 파트 앞의 "namespace" 폼 필드 사용)
+     * @param request   multipart/form-data 요청
+     * @return 허용/차단 여부 및 사유
+     */
+    @PostMapping(value = "/archive", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<FileValidationResponse> validateArchive(
+            @RequestParam(required = false) String namespace, HttpServletRequest request) throws IOException {
+        FileValidationResponse response = archiveInspector.inspect(request.getInputStream(), boundaryOf(request), namespace);
+
+        log.debug("[validateArchive] Result: allowed={}, reason={}", response.isAllowed(), response.getReason());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 일괄 검증 요청에 제한 적용
+     * 파일을 검증하는 네임스페이스별로 파일 수만큼 토큰을 사용하며 (빈 요청은 기본 네임스페이스에 하나),
+     * 모든 네임스페이스에 토큰이 충분할 때만 차감
+     */
+    private void acquireBatch(FileBatchValidationRequest request, int size) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (request.getFiles() != null) {
+            for (FileValidationRequest file : request.getFiles()) {
+                String namespace = file != null && file.getNamespace() != null
+                        ? file.getNamespace() : request.getNamespace();
+                counts.merge(namespace, 1, Integer::sum);
+            }
+        }
+        if (counts.isEmpty()) {
+            counts.put(request.getNamespace(), Math.max(1, size));
+        }
+        rateLimiter.acquire(ApiClass.VALIDATE, counts);
+    }
+
+    private String boundaryOf(HttpServletRequest request) {
+        String boundary = MultipartStream.boundaryOf(request.getContentType());
+        if (boundary == null) {
+            throw new InvalidRequestException("Multipart boundary is required");
+        }
+        return boundary;
+    }
+}
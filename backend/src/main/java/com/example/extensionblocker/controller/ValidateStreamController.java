@@ -0,0 +1,206 @@
+package com.example.extensionblocker.controller;
+
+import com.example.extensionblocker.admission.NamespaceRateLimiter;
+import com.example.extensionblocker.audit.ValidationAuditLog;
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.dto.FileValidationRequest;
+import com.example.extensionblocker.dto.FileValidationResponse;
+import com.example.extensionblocker.metrics.VerdictMetrics;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.service.ExtensionService;
+import com.example.extensionblocker.type.ApiClass;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대량 파일명 스트리밍 검증 컨트롤러
+ * 스토리지 마이그레이션/감사처럼 수백만 건의 파일명을 검증할 때
+ * 요청 본문을 한 줄씩 읽으며 줄마다 검증 결과를 바로 응답에 기록
+ */
+@RestController
+@RequestMapping("/api/validate")
+public class ValidateStreamController {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidateStreamController.class);
+
+    /**
+     * 응답을 플러시하는 최대 줄 간격
+     */
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ExtensionService extensionService;
+    private final ObjectMapper objectMapper;
+    private final VerdictMetrics verdictMetrics;
+    private final ValidationAuditLog auditLog;
+    private final NamespaceRateLimiter rateLimiter;
+    private final ObjectReader requestReader;
+    private final ObjectWriter responseWriter;
+
+    public ValidateStreamController(ExtensionService extensionService, ObjectMapper objectMapper,
+            VerdictMetrics verdictMetrics, ValidationAuditLog auditLog, NamespaceRateLimiter rateLimiter) {
+        this.extensionService = extensionService;
+        this.objectMapper = objectMapper;
+        this.verdictMetrics = verdictMetrics;
+        this.auditLog = auditLog;
+        this.rateLimiter = rateLimiter;
+        this.requestReader = objectMapper.readerFor(FileValidationRequest.class);
+        this.responseWriter = objectMapper.writerFor(FileValidationResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 줄 단위 파일명 스트리밍 검증
+     * 각 줄은 {"filename": "..."} 객체, JSON 문자열 또는 일반 텍스트 파일명
+     * 빈 줄은 건너뛰며, 결과는 입력 순서대로 한 줄에 하나씩 NDJSON으로 반환
+     * 정책은 스트림 시작 시 한 번만 조회하고, 블로킹 I/O로 읽기/쓰기 속도가 맞춰지므로
+     * 입력 크기와 관계없이 메모리 사용량이 일정함
+     * 요청 수 제한은 시작 시 토큰 하나로 확인하고(넘으면 429), 이후 FLUSH_INTERVAL줄마다 줄 수만큼 토큰을 사용하며
+     * 토큰이 모자라면 거절 대신 결과를 내보낸 뒤 토큰이 찰 때까지 읽기를 멈춤
+     *
+     * @param namespace 정책 네임스페이스
+     * @param request   파일명 스트림 (application/x-ndjson 또는 text/plain)
+     * @param response  검증 결과 스트림 (application/x-ndjson)
+     */
+    @PostMapping(value = "/stream",
+            consumes = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE },
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void validateStream(@RequestParam String namespace, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        rateLimiter.acquire(ApiClass.VALIDATE, namespace);
+        PolicySnapshot snapshot = extensionService.getPolicySnapshot(namespace);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        InputStream input = request.getInputStream();
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        long lines = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+
+            char[] buffer = new char[8192];
+            StringBuilder line = new StringBuilder(ExtensionConst.MAX_STREAM_LINE_LENGTH);
+            boolean overflow = false;
+            int pending = 0;
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    char c = buffer[i];
+                    if (c == '\n') {
+                        if (writeVerdict(generator, line, overflow, snapshot)) {
+                            lines++;
+                            pending++;
+                            if (lines % FLUSH_INTERVAL == 0) {
+                                generator.flush();
+                                pending = 0;
+                                throttle(namespace);
+                            }
+                        }
+                        line.setLength(0);
+                        overflow = false;
+                    } else if (line.length() < ExtensionConst.MAX_STREAM_LINE_LENGTH) {
+                        line.append(c);
+                    } else {
+                        overflow = true;
+                    }
+                }
+                // 다음 입력이 바로 없거나 일정 줄 수가 쌓이면 결과를 내보냄
+                if (pending > 0 && (pending >= FLUSH_INTERVAL || input.available() == 0)) {
+                    generator.flush();
+                    pending = 0;
+                }
+            }
+            if (writeVerdict(generator, line, overflow, snapshot)) {
+                lines++;
+            }
+            generator.flush();
+        }
+        // 마지막 FLUSH_INTERVAL줄 미만은 기다리지 않고 이후 요청에 반영
+        rateLimiter.charge(ApiClass.VALIDATE, namespace, (int) (lines % FLUSH_INTERVAL));
+        log.info("[validateStream] Validated {} lines, namespace: {}", lines, namespace);
+    }
+
+    /**
+     * FLUSH_INTERVAL줄만큼 토큰 사용 (모자라면 토큰이 찰 때까지 기다림)
+     */
+    private void throttle(String namespace) throws IOException {
+        try {
+            rateLimiter.await(ApiClass.VALIDATE, namespace, FLUSH_INTERVAL);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limit");
+        }
+    }
+
+    /**
+     * 한 줄을 검증하여 결과를 기록
+     *
+     * @return 결과를 기록했으면 true (빈 줄이면 false)
+     */
+    private boolean writeVerdict(JsonGenerator generator, StringBuilder line, boolean overflow,
+            PolicySnapshot snapshot) throws IOException {
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\r') {
+            end--;
+        }
+        String text = line.substring(0, end).strip();
+        if (text.isEmpty() && !overflow) {
+            return false;
+        }
+
+        FileValidationResponse verdict;
+        String filename = overflow ? null : parseFilename(text);
+        if (filename == null) {
+            verdict = new FileValidationResponse(false, "", "잘못된 요청 라인입니다");
+        } else {
+            boolean allowed = extensionService.isFileAllowed(filename, snapshot);
+            String extension = snapshot.describeExtension(filename);
+            verdictMetrics.record(snapshot.getNamespace(), allowed, extension);
+            auditLog.record(snapshot.getNamespace(), filename, extension, allowed);
+            verdict = FileValidationResponse.of(allowed, extension);
+        }
+        responseWriter.writeValue(generator, verdict);
+        generator.writeRaw('\n');
+        return true;
+    }
+
+    /**
+     * 줄에서 파일명 추출
+     *
+     * @return 파일명, 해석할 수 없으면 null
+     */
+    private String parseFilename(String text) {
+        char first = text.charAt(0);
+        if (first != '{' && first != '"') {
+            return text;
+        }
+        try {
+            if (first == '"') {
+                return objectMapper.readValue(text, String.class);
+            }
+            FileValidationRequest request = requestReader.readValue(text);
+            return request.getFilename();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
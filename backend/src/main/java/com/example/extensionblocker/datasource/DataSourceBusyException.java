@@ -0,0 +1,13 @@
+package com.example.extensionblocker.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 동시 커넥션 한도 안에서 허가를 받지 못한 경우
+ */
+public class DataSourceBusyException extends SQLTransientConnectionException {
+
+    public DataSourceBusyException(String message) {
+        super(message);
+    }
+}
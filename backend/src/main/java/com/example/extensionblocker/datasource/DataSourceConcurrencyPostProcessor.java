@@ -0,0 +1,40 @@
+package com.example.extensionblocker.datasource;
+
+import com.example.extensionblocker.config.DataSourceConcurrencyProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * extension-blocker.datasource.max-concurrency가 설정되면 DataSource 빈을 ConcurrencyLimitedDataSource로 감쌈
+ * MyBatis와 트랜잭션 매니저가 같은 빈을 사용하므로 모든 DB 접근이 같은 한도를 공유함
+ */
+@Component
+public class DataSourceConcurrencyPostProcessor implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceConcurrencyPostProcessor.class);
+
+    private final ObjectProvider<DataSourceConcurrencyProperties> properties;
+
+    public DataSourceConcurrencyPostProcessor(ObjectProvider<DataSourceConcurrencyProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+            return bean;
+        }
+        DataSourceConcurrencyProperties config = properties.getObject();
+        if (config.getMaxConcurrency() <= 0) {
+            return bean;
+        }
+        log.info("[postProcessAfterInitialization] Limiting DataSource '{}' to {} concurrent connections",
+                beanName, config.getMaxConcurrency());
+        return new ConcurrencyLimitedDataSource(dataSource, config.getMaxConcurrency(), config.getAcquireTimeout());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.extensionblocker.datasource;
+
+import com.example.extensionblocker.config.ReplicaDataSourceProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 자신이 쓴 내용 읽기(read-your-writes) 보장
+ * 정책이 바뀐 네임스페이스를 readYourWritesWindow 동안 기억해 두고, 그 네임스페이스를 읽는 읽기 전용 트랜잭션은
+ * 복제본 대신 주 DB를 사용하게 하여 변경 직후의 조회가 복제 지연 때문에 이전 내용을 보지 않도록 함
+ * 이 인스턴스의 변경은 커밋 시점에, 다른 인스턴스의 변경은 변경 알림을 받은 시점에 기록
+ */
+@Component
+public class ReadYourWrites {
+
+    /**
+     * 기록할 최대 네임스페이스 수 (넘으면 만료된 기록부터 정리)
+     */
+    private static final int MAX_TRACKED_NAMESPACES = 10_000;
+
+    /**
+     * 현재 트랜잭션이 주 DB를 사용해야 함을 표시하는 트랜잭션 리소스 키
+     */
+    private static final Object PRIMARY_REQUIRED = new Object();
+
+    private final long windowNanos;
+
+    /**
+     * 네임스페이스 → 마지막 변경 시각 (System.nanoTime)
+     */
+    private final ConcurrentMap<String, Long> writtenAt = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(ReplicaDataSourceProperties properties) {
+        this.windowNanos = properties.getReadYourWritesWindow().toNanos();
+    }
+
+    /**
+     * 네임스페이스 정책 변경 기록 (트랜잭션 안이면 커밋된 뒤 기록)
+     *
+     * @param namespace 정책 네임스페이스
+     */
+    public void markWritten(String namespace) {
+        if (windowNanos <= 0 || namespace == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(namespace);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(namespace);
+            }
+        });
+    }
+
+    /**
+     * 최근에 바뀐 네임스페이스면 현재 트랜잭션이 끝날 때까지 주 DB를 사용하도록 표시
+     * 커넥션은 첫 쿼리 시점에 빌리므로 트랜잭션 메서드의 첫 쿼리보다 먼저 호출
+     *
+     * @param namespace 읽을 정책 네임스페이스
+     */
+    public void routeToPrimaryIfRecent(String namespace) {
+        if (!isRecent(namespace) || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_REQUIRED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMARY_REQUIRED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_REQUIRED);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 주 DB를 사용해야 하는지 여부
+     */
+    static boolean isPrimaryRequired() {
+        return TransactionSynchronizationManager.hasResource(PRIMARY_REQUIRED);
+    }
+
+    private boolean isRecent(String namespace) {
+        if (windowNanos <= 0 || namespace == null) {
+            return false;
+        }
+        Long at = writtenAt.get(namespace);
+        if (at == null) {
+            return false;
+        }
+        if (System.nanoTime() - at < windowNanos) {
+            return true;
+        }
+        writtenAt.remove(namespace, at);
+        return false;
+    }
+
+    private void record(String namespace) {
+        long now = System.nanoTime();
+        if (writtenAt.size() >= MAX_TRACKED_NAMESPACES) {
+            writtenAt.values().removeIf(at -> now - at >= windowNanos);
+        }
+        writtenAt.put(namespace, now);
+    }
+}
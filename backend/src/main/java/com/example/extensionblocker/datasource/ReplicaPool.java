@@ -0,0 +1,238 @@
+package com.example.extensionblocker.datasource;
+
+import com.example.extensionblocker.config.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 복제본 커넥션 풀 목록
+ * 복제본마다 커넥션 풀을 따로 두고, 상태 확인을 통과한 복제본을 라운드 로빈으로 선택
+ * 상태 확인은 주기적으로 커넥션을 하나 빌려 복제 지연을 조회하며, 연결 실패 또는 maxLag 초과 시 제외했다가 회복되면 다시 사용
+ */
+@Component
+public class ReplicaPool implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    /**
+     * 웹 서버보다 먼저 시작하고 늦게 멈추도록 낮은 단계 사용 (처리 중인 요청이 끝난 뒤 풀을 닫음)
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 8192;
+
+    /**
+     * 복제 지연 (밀리초)
+     * 복제본이 아니거나 받은 WAL을 모두 반영했으면 0 (쓰기가 없는 동안 마지막 반영 시각이 오래되어도 지연으로 보지 않음)
+     */
+    private static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final ReplicaDataSourceProperties properties;
+    private final List<Replica> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaPool(ReplicaDataSourceProperties properties, DataSourceProperties dataSourceProperties) {
+        this.properties = properties;
+        List<Replica> created = new ArrayList<>();
+        for (String url : properties.getUrls()) {
+            created.add(new Replica("replica-" + (created.size() + 1),
+                    createDataSource(url, created.size() + 1, dataSourceProperties)));
+        }
+        this.replicas = List.copyOf(created);
+    }
+
+    /**
+     * 복제본이 설정되어 있는지 여부
+     */
+    public boolean isEnabled() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * 다음에 사용할 정상 복제본 (라운드 로빈)
+     *
+     * @return 복제본, 정상 복제본이 없으면 null
+     */
+    public Replica next() {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size == 0 ? 1 : size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 커넥션을 빌리지 못한 복제본을 다음 상태 확인까지 제외
+     */
+    public void markFailed(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("[markFailed] Replica {} excluded until the next health check: {}", replica.name,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 정상 복제본이 없어 읽기 전용 트랜잭션을 주 DB로 보낸 횟수 기록
+     */
+    public void recordFallback() {
+        fallbacks.incrementAndGet();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getFallbacks() {
+        return fallbacks.get();
+    }
+
+    @Override
+    public void start() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        running = true;
+        checkAll();
+        long interval = properties.getHealthCheckInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("[start] Routing read-only transactions to {} replicas", replicas.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.healthy = false;
+            replica.dataSource.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(Replica replica) {
+        boolean healthy;
+        String reason = null;
+        try (Connection connection = replica.dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            long lagMillis = rs.next() ? rs.getLong(1) : 0L;
+            replica.lagMillis = lagMillis;
+            healthy = lagMillis <= properties.getMaxLag().toMillis();
+            if (!healthy) {
+                reason = "replication lag " + lagMillis + "ms";
+            }
+        } catch (SQLException | RuntimeException e) {
+            healthy = false;
+            reason = e.getMessage();
+        }
+        if (healthy != replica.healthy || !replica.checked) {
+            if (healthy) {
+                log.info("[check] Replica {} is healthy", replica.name);
+            } else {
+                log.warn("[check] Replica {} is unhealthy: {}", replica.name, reason);
+            }
+        }
+        replica.healthy = healthy;
+        replica.checked = true;
+    }
+
+    private HikariDataSource createDataSource(String url, int index, DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        if (properties.getUsername() != null) {
+            dataSource.setUsername(properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            dataSource.setPassword(properties.getPassword());
+        }
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // 시작 시 복제본에 연결하지 못해도 실패하지 않고 상태 확인에서 제외
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    /**
+     * 복제본 하나와 상태
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile boolean checked;
+        private volatile long lagMillis;
+
+        Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public long getLagMillis() {
+            return lagMillis;
+        }
+
+        Connection getConnection() throws SQLException {
+            return dataSource.getConnection();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.extensionblocker.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션은 복제본에서, 그 외의 커넥션은 주 DB에서 빌리는 DataSource
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 표시되지 않으므로 LazyConnectionDataSourceProxy 뒤에서 사용하여
+ * 첫 쿼리 시점에 대상을 고름
+ * 정상 복제본이 없거나 커넥션을 빌리지 못하면 주 DB 사용 (트랜잭션 밖의 조회는 항상 주 DB)
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWrites.isPrimaryRequired()) {
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.getReplicas().size(); attempt++) {
+            ReplicaPool.Replica replica = replicas.next();
+            if (replica == null) {
+                break;
+            }
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                replicas.markFailed(replica, e);
+            }
+        }
+        log.debug("[getConnection] No healthy replica, using primary for read-only transaction");
+        replicas.recordFallback();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 커넥션 풀 게이지 등 주 DB 풀을 찾는 쪽이 그대로 동작하도록 주 DB로 위임
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
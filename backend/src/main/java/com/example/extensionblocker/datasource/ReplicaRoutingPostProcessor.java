@@ -0,0 +1,48 @@
+package com.example.extensionblocker.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * extension-blocker.datasource.replica.urls가 설정되면 DataSource 빈을 읽기 전용 트랜잭션만 복제본으로 보내는
+ * ReplicaRoutingDataSource로 감쌈
+ * 동시 접근 제한(DataSourceConcurrencyPostProcessor)보다 먼저 적용되므로 복제본 커넥션도 같은 한도를 공유함
+ */
+@Component
+public class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingPostProcessor.class);
+
+    private final ObjectProvider<ReplicaPool> replicaPool;
+
+    public ReplicaRoutingPostProcessor(ObjectProvider<ReplicaPool> replicaPool) {
+        this.replicaPool = replicaPool;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof LazyConnectionDataSourceProxy
+                || bean instanceof ConcurrencyLimitedDataSource) {
+            return bean;
+        }
+        ReplicaPool replicas = replicaPool.getObject();
+        if (!replicas.isEnabled()) {
+            return bean;
+        }
+        log.info("[postProcessAfterInitialization] Routing read-only transactions of DataSource '{}' to {} replicas",
+                beanName, replicas.getReplicas().size());
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(dataSource, replicas));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
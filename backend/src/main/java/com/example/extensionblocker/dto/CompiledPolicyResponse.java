@@ -0,0 +1,42 @@
+package com.example.extensionblocker.dto;
+
+import com.example.extensionblocker.type.MatchMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 컴파일된 정책 조회 응답 DTO
+ * 상속과 차단 해제를 모두 반영한 차단 확장자 목록과 매칭 방식만 담아,
+ * 클라이언트 라이브러리가 서버와 같은 판정을 로컬에서 할 수 있도록 제공
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompiledPolicyResponse {
+
+    /**
+     * 정책 네임스페이스
+     */
+    private String namespace;
+
+    /**
+     * 정책 버전 (정책이 없으면 -1)
+     */
+    private long version;
+
+    /**
+     * 파일명 매칭 방식
+     */
+    private MatchMode mode;
+
+    /**
+     * 차단 확장자 목록 (소문자, 앞의 점 제외)
+     */
+    private List<String> blocked;
+
+}
@@ -1,23 +1,32 @@
-package com.example.extensionblocker.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-
-@Data
-@AllArgsConstructor
-public class ExtensionDto {
-    /**
-     * 규칙 ID
-     */
-    private Long id;
-
-    /**
-     * 확장자명
-     */
-    private String name;
-
-    /**
-     * 활성화(차단) 여부
-     */
-    private boolean isActive;
-}
+package com.example.extensionblocker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ExtensionDto {
+    /**
+     * 규칙 ID
+     */
+    private Long id;
+
+    /**
+     * 확장자명
+     */
+    private String name;
+
+    /**
+     * 활성화(차단) 여부
+     */
+    private boolean isActive;
+
+    /**
+     * 상위 네임스페이스에서 물려받은 상태인지 여부 (true이면 이 네임스페이스의 규칙 ID 없음)
+     */
+    private boolean inherited;
+
+    public ExtensionDto(Long id, String name, boolean isActive) {
+        this(id, name, isActive, false);
+    }
+}
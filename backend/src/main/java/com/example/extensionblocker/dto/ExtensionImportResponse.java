@@ -0,0 +1,32 @@
+package com.example.extensionblocker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 확장자 일괄 등록 응답 DTO
+ * 입력 순서대로 항목별 결과를 반환
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtensionImportResponse {
+
+    /**
+     * 요청한 항목 수
+     */
+    private int requested;
+
+    /**
+     * 실제로 등록된 항목 수
+     */
+    private int imported;
+
+    /**
+     * 항목별 결과
+     */
+    private List<ExtensionImportResult> results;
+}
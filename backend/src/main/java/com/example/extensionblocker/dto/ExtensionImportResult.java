@@ -0,0 +1,30 @@
+package com.example.extensionblocker.dto;
+
+import com.example.extensionblocker.type.ImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 확장자 일괄 등록의 항목별 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtensionImportResult {
+
+    /**
+     * 요청한 확장자 원문
+     */
+    private String input;
+
+    /**
+     * 정규화된 확장자명 (형식이 잘못되었으면 정규화 결과 그대로)
+     */
+    private String extension;
+
+    /**
+     * 처리 결과
+     */
+    private ImportStatus status;
+}
@@ -1,8 +1,14 @@
-package com.example.extensionblocker.dto;
-
-import lombok.Data;
-
-@Data
-public class ExtensionRequest {
-    private String extension;
-}
+package com.example.extensionblocker.dto;
+
+import com.example.extensionblocker.type.RuleEffect;
+import lombok.Data;
+
+@Data
+public class ExtensionRequest {
+    private String extension;
+
+    /**
+     * 규칙 효과 (생략 시 BLOCK, ALLOW는 상위 네임스페이스의 차단을 해제)
+     */
+    private RuleEffect effect;
+}
@@ -0,0 +1,34 @@
+package com.example.extensionblocker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 파일 일괄 검증 요청 DTO
+ * 업로드 게이트웨이가 여러 파일을 한 번의 요청으로 검증할 때 사용
+ * filenames(단일 네임스페이스) 또는 files(항목별 네임스페이스) 중 하나만 지정
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBatchValidationRequest {
+
+    /**
+     * 기본 정책 네임스페이스 (예: "chat", "work")
+     * files 항목에 네임스페이스가 없으면 이 값을 사용
+     */
+    private String namespace;
+
+    /**
+     * 검증할 파일명 목록 (기본 네임스페이스로 검증)
+     */
+    private List<String> filenames;
+
+    /**
+     * 검증할 파일 목록 (항목별로 네임스페이스 지정 가능)
+     */
+    private List<FileValidationRequest> files;
+}
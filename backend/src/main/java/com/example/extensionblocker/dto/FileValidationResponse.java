@@ -1,31 +1,43 @@
-package com.example.extensionblocker.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-/**
- * 파일 검증 응답 DTO
- * 파일 업로드 허용/차단 여부를 클라이언트에 반환
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class FileValidationResponse {
-
-    /**
-     * 업로드 허용 여부
-     * true: 허용, false: 차단
-     */
-    private boolean allowed;
-
-    /**
-     * 파일의 확장자
-     */
-    private String extension;
-
-    /**
-     * 결과 사유 메시지
-     */
-    private String reason;
-}
+package com.example.extensionblocker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파일 검증 응답 DTO
+ * 파일 업로드 허용/차단 여부를 클라이언트에 반환
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileValidationResponse {
+
+    /**
+     * 업로드 허용 여부
+     * true: 허용, false: 차단
+     */
+    private boolean allowed;
+
+    /**
+     * 파일의 확장자
+     */
+    private String extension;
+
+    /**
+     * 결과 사유 메시지
+     */
+    private String reason;
+
+    /**
+     * 검증 결과로 응답 생성
+     *
+     * @param allowed   업로드 허용 여부
+     * @param extension 파일의 확장자
+     * @return 허용/차단 여부 및 사유
+     */
+    public static FileValidationResponse of(boolean allowed, String extension) {
+        String reason = allowed ? "허용된 파일입니다" : "차단된 확장자입니다: ." + extension;
+        return new FileValidationResponse(allowed, extension, reason);
+    }
+}
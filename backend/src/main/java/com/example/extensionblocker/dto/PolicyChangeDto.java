@@ -0,0 +1,60 @@
+package com.example.extensionblocker.dto;
+
+import com.example.extensionblocker.model.PolicyChange;
+import com.example.extensionblocker.type.ChangeOperation;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.RuleEffect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정책 변경 피드의 변경 항목 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyChangeDto {
+
+    /**
+     * 변경 후 정책 버전
+     */
+    private long version;
+
+    /**
+     * 변경 종류 (ADD, REMOVE, PARENT)
+     */
+    private ChangeOperation operation;
+
+    /**
+     * 추가/삭제된 규칙 ID
+     */
+    private Long id;
+
+    /**
+     * 추가/삭제된 확장자명
+     */
+    private String extension;
+
+    /**
+     * 추가/삭제된 규칙의 확장자 타입
+     */
+    private ExtensionType type;
+
+    /**
+     * 추가/삭제된 규칙의 효과
+     */
+    private RuleEffect effect;
+
+    /**
+     * 새 상위 정책 네임스페이스 (PARENT, 최상위 정책으로 바뀌면 null)
+     */
+    private String parent;
+
+    public static PolicyChangeDto of(PolicyChange change) {
+        return new PolicyChangeDto(change.getVersion(), change.getOperation(), change.getRuleId(),
+                change.getExtension(), change.getType(), change.getEffect(), change.getParentNamespace());
+    }
+}
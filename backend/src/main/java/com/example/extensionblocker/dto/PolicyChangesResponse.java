@@ -0,0 +1,52 @@
+package com.example.extensionblocker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 정책 변경 피드 응답 DTO
+ * reset이 true이면 요청한 버전 이후의 기록이 정리되었으므로, 전체 정책을 다시 조회한 뒤 그 버전부터 이어서 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyChangesResponse {
+
+    /**
+     * 정책 네임스페이스
+     */
+    private String namespace;
+
+    /**
+     * 이 응답까지 반영한 정책 버전 (다음 조회의 since)
+     */
+    private long version;
+
+    /**
+     * 전체 정책을 다시 받아야 하는지 여부 (true이면 changes는 비어 있음)
+     */
+    private boolean reset;
+
+    /**
+     * 아직 반환하지 않은 변경이 남았는지 여부
+     */
+    private boolean hasMore;
+
+    /**
+     * 버전 순 변경 목록
+     */
+    private List<PolicyChangeDto> changes;
+
+    public static PolicyChangesResponse unchanged(String namespace, long version) {
+        return new PolicyChangesResponse(namespace, version, false, false, List.of());
+    }
+
+    public static PolicyChangesResponse reset(String namespace, long version) {
+        return new PolicyChangesResponse(namespace, version, true, false, List.of());
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.extensionblocker.dto;
+
+import lombok.Data;
+
+/**
+ * 상위 정책 지정 요청 DTO
+ */
+@Data
+public class PolicyParentRequest {
+
+    /**
+     * 상위 정책 네임스페이스 (null이면 최상위 정책으로 변경)
+     */
+    private String parent;
+}
@@ -1,33 +1,45 @@
-package com.example.extensionblocker.exception;
-
-import lombok.Builder;
-import lombok.Getter;
-import org.springframework.http.ResponseEntity;
-
-@Getter
-@Builder
-public class ErrorResponse {
-    private final String status;
-    private final String message;
-    private final String code;
-
-    public static ResponseEntity<ErrorResponse> toResponseEntity(ErrorCode errorCode) {
-        return ResponseEntity
-                .status(errorCode.getStatus())
-                .body(ErrorResponse.builder()
-                        .status(errorCode.getStatus().name())
-                        .code(errorCode.getCode())
-                        .message(errorCode.getMessage())
-                        .build());
-    }
-
-    public static ResponseEntity<ErrorResponse> toResponseEntity(ErrorCode errorCode, String message) {
-        return ResponseEntity
-                .status(errorCode.getStatus())
-                .body(ErrorResponse.builder()
-                        .status(errorCode.getStatus().name())
-                        .code(errorCode.getCode())
-                        .message(message)
-                        .build());
-    }
-}
+package com.example.extensionblocker.exception;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+@Builder
+public class ErrorResponse {
+    private final String status;
+    private final String message;
+    private final String code;
+
+    public static ResponseEntity<ErrorResponse> toResponseEntity(ErrorCode errorCode) {
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ErrorResponse.builder()
+                        .status(errorCode.getStatus().name())
+                        .code(errorCode.getCode())
+                        .message(errorCode.getMessage())
+                        .build());
+    }
+
+    public static ResponseEntity<ErrorResponse> toResponseEntity(ErrorCode errorCode, String message) {
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ErrorResponse.builder()
+                        .status(errorCode.getStatus().name())
+                        .code(errorCode.getCode())
+                        .message(message)
+                        .build());
+    }
+
+    public static ResponseEntity<ErrorResponse> toResponseEntity(ErrorCode errorCode, HttpHeaders headers) {
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .headers(headers)
+                .body(ErrorResponse.builder()
+                        .status(errorCode.getStatus().name())
+                        .code(errorCode.getCode())
+                        .message(errorCode.getMessage())
+                        .build());
+    }
+}
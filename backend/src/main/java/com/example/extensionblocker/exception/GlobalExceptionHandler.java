@@ -1,23 +1,40 @@
-package com.example.extensionblocker.exception;
-
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.RestControllerAdvice;
-
-@Slf4j
-@RestControllerAdvice
-public class GlobalExceptionHandler {
-
-    @ExceptionHandler(BusinessException.class)
-    protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
-        log.error("handleBusinessException", e);
-        return ErrorResponse.toResponseEntity(e.getErrorCode(), e.getMessage());
-    }
-
-    @ExceptionHandler(Exception.class)
-    protected ResponseEntity<ErrorResponse> handleException(Exception e) {
-        log.error("handleException", e);
-        return ErrorResponse.toResponseEntity(ErrorCode.INTERNAL_ERROR, e.getMessage());
-    }
-}
+package com.example.extensionblocker.exception;
+
+import com.example.extensionblocker.admission.RateLimitedException;
+import com.example.extensionblocker.datasource.DataSourceBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(RateLimitedException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimited(RateLimitedException e) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return ErrorResponse.toResponseEntity(e.getErrorCode(), headers);
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+        log.error("handleBusinessException", e);
+        return ErrorResponse.toResponseEntity(e.getErrorCode(), e.getMessage());
+    }
+
+    @ExceptionHandler(Exception.class)
+    protected ResponseEntity<ErrorResponse> handleException(Exception e) {
+        if (NestedExceptionUtils.getMostSpecificCause(e) instanceof DataSourceBusyException busy) {
+            log.warn("handleDataSourceBusy: {}", busy.getMessage());
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+            return ErrorResponse.toResponseEntity(ErrorCode.SERVICE_UNAVAILABLE, headers);
+        }
+        log.error("handleException", e);
+        return ErrorResponse.toResponseEntity(ErrorCode.INTERNAL_ERROR, e.getMessage());
+    }
+}
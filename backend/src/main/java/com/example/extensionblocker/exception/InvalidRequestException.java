@@ -1,7 +1,7 @@
-package com.example.extensionblocker.exception;
-
-public class InvalidRequestException extends BusinessException {
-    public InvalidRequestException(String message) {
-        super(ErrorCode.INVALID_REQUEST, message);
-    }
-}
+package com.example.extensionblocker.exception;
+
+public class InvalidRequestException extends BusinessException {
+    public InvalidRequestException(String message) {
+        super(ErrorCode.INVALID_REQUEST, message);
+    }
+}
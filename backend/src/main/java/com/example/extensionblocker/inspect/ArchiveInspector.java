@@ -0,0 +1,425 @@
+package com.example.extensionblocker.inspect;
+
+import com.example.extensionblocker.admission.NamespaceRateLimiter;
+import com.example.extensionblocker.audit.ValidationAuditLog;
+import com.example.extensionblocker.config.ArchiveInspectionProperties;
+import com.example.extensionblocker.dto.FileValidationResponse;
+import com.example.extensionblocker.exception.InvalidRequestException;
+import com.example.extensionblocker.metrics.VerdictMetrics;
+import com.example.extensionblocker.policy.ExtensionMatcher;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.service.ExtensionService;
+import com.example.extensionblocker.type.ApiClass;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 압축 파일(ZIP/JAR) 검사기
+ * 엔트리를 풀지 않고 central directory만 메모리 매핑하여 모든 엔트리 이름을 정책과 비교
+ * 중첩 압축 파일은 STORED면 같은 파일의 구간을 그대로 검사하고, DEFLATED면 한도 내에서만 임시 파일로 풂
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchiveInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveInspector.class);
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int CEN_SIZE = 46;
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int LOC_SIZE = 30;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final int FLAG_ENCRYPTED = 1;
+    private static final int FLAG_UTF8 = 1 << 11;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    /**
+     * 안쪽까지 검사할 중첩 압축 파일 확장자
+     */
+    private static final ExtensionMatcher NESTED_ARCHIVES = ExtensionMatcher.compile(
+            List.of("zip", "jar", "war", "ear", "apk", "aar", "nupkg", "whl"));
+
+    private final ExtensionService extensionService;
+    private final ArchiveInspectionProperties properties;
+    private final VerdictMetrics verdictMetrics;
+    private final ValidationAuditLog auditLog;
+    private final NamespaceRateLimiter rateLimiter;
+
+    /**
+     * multipart 요청의 압축 파일 검사
+     * 파일 파트를 임시 파일로 저장한 뒤 central directory를 검사
+     *
+     * @param body      요청 본문
+     * @param boundary  multipart boundary
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @return 허용/차단 여부 및 사유
+     */
+    public FileValidationResponse inspect(InputStream body, String boundary, String namespace) {
+        UploadedFile file;
+        try {
+            file = UploadedFile.next(new MultipartStream(body, boundary), namespace);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Malformed archive upload: " + e.getMessage());
+        }
+        rateLimiter.acquire(ApiClass.VALIDATE, file.namespace());
+        FileValidationResponse response = inspect(file);
+        verdictMetrics.record(file.namespace(), response.isAllowed(), response.getExtension());
+        auditLog.record(file.namespace(), file.filename(), response.getExtension(), response.isAllowed());
+        return response;
+    }
+
+    private FileValidationResponse inspect(UploadedFile file) {
+        Path temp = null;
+        try {
+            PolicySnapshot snapshot = extensionService.getPolicySnapshot(file.namespace());
+            String extension = snapshot.describeExtension(file.filename());
+            if (!extensionService.isFileAllowed(file.filename(), snapshot)) {
+                return FileValidationResponse.of(false, extension);
+            }
+
+            temp = Files.createTempFile("archive-", ".zip");
+            try (InputStream input = file.part().getInputStream();
+                    OutputStream output = Files.newOutputStream(temp)) {
+                copy(input, output, properties.getMaxArchiveSize().toBytes());
+            }
+            return inspect(temp, file.filename(), snapshot, extension);
+        } catch (ArchiveLimitException e) {
+            return new FileValidationResponse(false, "", "압축 파일 검사 한도를 초과했습니다: " + e.getMessage());
+        } catch (IOException e) {
+            throw new InvalidRequestException("Malformed archive upload: " + e.getMessage());
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 디스크의 압축 파일 검사
+     *
+     * @param archive   압축 파일 경로
+     * @param filename  응답에 표시할 파일명
+     * @param snapshot  정책 스냅샷
+     * @param extension 압축 파일 자체의 확장자
+     * @return 허용/차단 여부 및 사유
+     * @throws IOException ZIP 형식이 아닌 경우
+     */
+    public FileValidationResponse inspect(Path archive, String filename, PolicySnapshot snapshot, String extension)
+            throws IOException {
+        ScanState state = new ScanState();
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            String blocked = scan(channel, 0, channel.size(), filename, 0, snapshot, state);
+            log.info("[inspect] Scanned archive={}, entries={}, blocked={}", filename, state.entries, blocked);
+            if (blocked != null) {
+                return new FileValidationResponse(false, snapshot.describeExtension(blocked),
+                        "압축 파일 내 차단된 확장자가 있습니다: " + blocked);
+            }
+            return FileValidationResponse.of(true, extension);
+        }
+    }
+
+    /**
+     * 압축 파일 구간의 central directory 검사
+     *
+     * @return 차단된 엔트리 경로, 없으면 null
+     */
+    private String scan(FileChannel channel, long base, long length, String path, int depth,
+            PolicySnapshot snapshot, ScanState state) throws IOException {
+        CentralDirectory directory = locate(channel, base, length);
+        if (directory.size > Integer.MAX_VALUE) {
+            throw new ArchiveLimitException("central directory too large");
+        }
+        MappedByteBuffer cen = channel.map(FileChannel.MapMode.READ_ONLY, base + directory.start, directory.size);
+        cen.order(ByteOrder.LITTLE_ENDIAN);
+
+        ByteCharSequence name = new ByteCharSequence();
+        int pos = 0;
+        for (long i = 0; i < directory.entries; i++) {
+            if (++state.entries > properties.getMaxEntries()) {
+                throw new ArchiveLimitException("more than " + properties.getMaxEntries() + " entries");
+            }
+            if (pos + CEN_SIZE > cen.limit() || cen.getInt(pos) != CEN_SIGNATURE) {
+                throw new IOException("Invalid central directory entry");
+            }
+            int flags = u16(cen, pos + 8);
+            int method = u16(cen, pos + 10);
+            long compressedSize = u32(cen, pos + 20);
+            long size = u32(cen, pos + 24);
+            int nameLength = u16(cen, pos + 28);
+            int extraLength = u16(cen, pos + 30);
+            int commentLength = u16(cen, pos + 32);
+            long localOffset = u32(cen, pos + 42);
+            if (pos + CEN_SIZE + nameLength + extraLength > cen.limit()) {
+                throw new IOException("Invalid central directory entry");
+            }
+            name.reset(cen, pos + CEN_SIZE, nameLength);
+
+            if (!name.endsWith('/')) {
+                // ASCII 이름은 바이트 뷰로 그대로 비교하고, 그 외에는 실제 문자로 디코딩해야 정규화가 적용됨
+                CharSequence entryName = name.isAscii() ? name : name.decodeName((flags & FLAG_UTF8) != 0);
+                if (snapshot.isFileBlocked(entryName)) {
+                    return path + "!/" + entryName;
+                }
+                boolean encrypted = (flags & FLAG_ENCRYPTED) != 0;
+                if (depth < properties.getMaxDepth() && !encrypted && NESTED_ARCHIVES.matches(entryName)) {
+                    long[] sizes = { compressedSize, size, localOffset };
+                    readZip64Extra(cen, pos + CEN_SIZE + nameLength, extraLength, sizes);
+                    String nestedPath = path + "!/" + entryName;
+                    String blocked = scanNested(channel, base, directory.delta, method, sizes, nestedPath,
+                            depth + 1, snapshot, state);
+                    if (blocked != null) {
+                        return blocked;
+                    }
+                }
+            }
+            pos += CEN_SIZE + nameLength + extraLength + commentLength;
+        }
+        return null;
+    }
+
+    /**
+     * 중첩 압축 파일 검사
+     * STORED는 같은 파일 구간을 그대로 검사하고, DEFLATED는 임시 파일로 풀어서 검사
+     */
+    private String scanNested(FileChannel channel, long base, long delta, int method, long[] sizes, String path,
+            int depth, PolicySnapshot snapshot, ScanState state) throws IOException {
+        long compressedSize = sizes[0];
+        long size = sizes[1];
+        long localOffset = base + sizes[2] + delta;
+
+        ByteBuffer local = ByteBuffer.allocate(LOC_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.read(local, localOffset) != LOC_SIZE || local.getInt(0) != LOC_SIGNATURE) {
+            throw new IOException("Invalid local file header");
+        }
+        long dataStart = localOffset + LOC_SIZE + u16(local, 26) + u16(local, 28);
+        if (dataStart + compressedSize > channel.size()) {
+            throw new IOException("Entry data out of range");
+        }
+
+        try {
+            if (method == METHOD_STORED) {
+                return scan(channel, dataStart, compressedSize, path, depth, snapshot, state);
+            }
+            if (method != METHOD_DEFLATED) {
+                return null;
+            }
+
+            long limit = properties.getMaxNestedSize().toBytes() - state.inflated;
+            if (size > limit) {
+                throw new ArchiveLimitException("nested archives larger than " + properties.getMaxNestedSize());
+            }
+            Path temp = Files.createTempFile("archive-nested-", ".zip");
+            try {
+                try (InputStream input = new InflaterInputStream(
+                        new RegionInputStream(channel, dataStart, compressedSize), new Inflater(true));
+                        OutputStream output = Files.newOutputStream(temp)) {
+                    state.inflated += copy(input, output, limit);
+                }
+                try (FileChannel nested = FileChannel.open(temp, StandardOpenOption.READ)) {
+                    return scan(nested, 0, nested.size(), path, depth, snapshot, state);
+                }
+            } finally {
+                deleteQuietly(temp);
+            }
+        } catch (ArchiveLimitException e) {
+            throw e;
+        } catch (IOException e) {
+            // 손상되었거나 ZIP이 아닌 중첩 파일은 이름 검사 결과만 사용
+            log.debug("[scanNested] Skipping unreadable nested archive={}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * End of central directory 레코드(ZIP64 포함)로 central directory 위치 확인
+     */
+    private CentralDirectory locate(FileChannel channel, long base, long length) throws IOException {
+        int tailLength = (int) Math.min(length, EOCD_SIZE + MAX_COMMENT_SIZE + ZIP64_LOCATOR_SIZE);
+        if (tailLength < EOCD_SIZE) {
+            throw new IOException("Not a ZIP archive");
+        }
+        long tailStart = base + length - tailLength;
+        MappedByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, tailStart, tailLength);
+        tail.order(ByteOrder.LITTLE_ENDIAN);
+
+        int eocd = -1;
+        for (int i = tailLength - EOCD_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == EOCD_SIGNATURE) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd < 0) {
+            throw new IOException("Not a ZIP archive");
+        }
+
+        long entries = u16(tail, eocd + 10);
+        long size = u32(tail, eocd + 12);
+        long offset = u32(tail, eocd + 16);
+        long recordPosition = tailStart - base + eocd;
+
+        if (eocd >= ZIP64_LOCATOR_SIZE && tail.getInt(eocd - ZIP64_LOCATOR_SIZE) == ZIP64_LOCATOR_SIGNATURE) {
+            long zip64Offset = tail.getLong(eocd - ZIP64_LOCATOR_SIZE + 8);
+            ByteBuffer record = ByteBuffer.allocate(56).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.read(record, base + zip64Offset) == 56 && record.getInt(0) == ZIP64_EOCD_SIGNATURE) {
+                entries = record.getLong(32);
+                size = record.getLong(40);
+                offset = record.getLong(48);
+                recordPosition = zip64Offset;
+            }
+        }
+
+        // 앞에 다른 데이터가 붙은 파일(자동 압축 해제 실행 파일 등)은 오프셋이 어긋나므로 보정
+        long start = recordPosition - size;
+        if (start < 0 || entries < 0 || size < 0) {
+            throw new IOException("Invalid end of central directory");
+        }
+        return new CentralDirectory(start, size, entries, start - offset);
+    }
+
+    /**
+     * ZIP64 extra 필드로 32비트 한도를 넘는 크기/오프셋 보정
+     *
+     * @param sizes {압축 크기, 원본 크기, 로컬 헤더 오프셋}
+     */
+    private static void readZip64Extra(ByteBuffer cen, int offset, int length, long[] sizes) {
+        int end = offset + length;
+        while (offset + 4 <= end) {
+            int id = u16(cen, offset);
+            int size = u16(cen, offset + 2);
+            if (id == ZIP64_EXTRA_ID) {
+                int pos = offset + 4;
+                int fieldEnd = Math.min(end, pos + size);
+                // 원본 크기, 압축 크기, 오프셋 순서로 0xFFFFFFFF인 값만 기록됨
+                int[] order = { 1, 0, 2 };
+                for (int index : order) {
+                    if (sizes[index] == 0xFFFFFFFFL && pos + 8 <= fieldEnd) {
+                        sizes[index] = cen.getLong(pos);
+                        pos += 8;
+                    }
+                }
+                return;
+            }
+            offset += 4 + size;
+        }
+    }
+
+    private static long copy(InputStream input, OutputStream output, long limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            total += read;
+            if (total > limit) {
+                throw new ArchiveLimitException("size limit of " + limit + " bytes exceeded");
+            }
+            output.write(buffer, 0, read);
+        }
+        return total;
+    }
+
+    private static int u16(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset) & 0xFFFF;
+    }
+
+    private static long u32(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset) & 0xFFFFFFFFL;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[deleteQuietly] Failed to delete temp file={}", path, e);
+        }
+    }
+
+    /**
+     * central directory 위치
+     *
+     * @param start   압축 파일 시작 기준 central directory 시작 위치
+     * @param size    central directory 크기
+     * @param entries 엔트리 수
+     * @param delta   기록된 오프셋과 실제 위치의 차이
+     */
+    private record CentralDirectory(long start, long size, long entries, long delta) {
+    }
+
+    /**
+     * 한 번의 검사 동안 누적되는 한도 상태
+     */
+    private static final class ScanState {
+        private long entries;
+        private long inflated;
+    }
+
+    /**
+     * 검사 한도 초과
+     */
+    private static final class ArchiveLimitException extends IOException {
+        ArchiveLimitException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * FileChannel의 일부 구간을 위치 지정 읽기로 제공하는 스트림
+     */
+    private static final class RegionInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private long position;
+        private final long end;
+
+        RegionInputStream(FileChannel channel, long start, long length) {
+            this.channel = channel;
+            this.position = start;
+            this.end = start + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) <= 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int count = (int) Math.min(len, end - position);
+            int read = channel.read(ByteBuffer.wrap(b, off, count), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+    }
+}
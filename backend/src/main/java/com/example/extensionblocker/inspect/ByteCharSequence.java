@@ -0,0 +1,103 @@
+package com.example.extensionblocker.inspect;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ByteBuffer 구간을 문자열 생성 없이 CharSequence로 보는 뷰
+ * 바이트를 ISO-8859-1 문자로 해석하므로 ASCII 이름에만 그대로 쓰고,
+ * 비 ASCII 바이트가 있는 이름은 decodeName으로 실제 문자열을 만들어 비교함
+ * (보이지 않는 문자, 전각 문자를 정규화하려면 원래 문자로 읽어야 함)
+ */
+final class ByteCharSequence implements CharSequence {
+
+    private static final Charset CP437 = Charset.forName("IBM437");
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    /**
+     * 다른 구간을 보도록 재설정 (엔트리마다 같은 인스턴스 재사용)
+     */
+    ByteCharSequence reset(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    /**
+     * 모든 바이트가 ASCII인지 여부 (ASCII면 어떤 인코딩으로 읽어도 같은 이름)
+     */
+    boolean isAscii() {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ZIP 엔트리 이름 디코딩
+     * 범용 플래그 11번 비트(EFS)가 있으면 UTF-8, 없으면 올바른 UTF-8일 때 UTF-8(플래그 없이 UTF-8로 기록하는 도구가 많음),
+     * 아니면 ZIP 기본 인코딩인 CP437로 읽음
+     *
+     * @param utf8 EFS 플래그 여부
+     * @return 엔트리 이름
+     */
+    String decodeName(boolean utf8) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        if (utf8) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        try {
+            CharBuffer decoded = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes));
+            return decoded.toString();
+        } catch (CharacterCodingException e) {
+            return new String(bytes, CP437);
+        }
+    }
+
+    /**
+     * 마지막 문자가 주어진 문자인지 여부
+     */
+    boolean endsWith(char c) {
+        return length > 0 && charAt(length - 1) == c;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return decode(offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return decode(offset, length);
+    }
+
+    private String decode(int from, int count) {
+        byte[] bytes = new byte[count];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.extensionblocker.inspect;
+
+import com.example.extensionblocker.policy.PolicySnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 매직 바이트로 식별하는 파일 형식
+ * 각 형식은 해당 내용을 정상적으로 가질 수 있는 확장자 목록을 가지며,
+ * 파일명의 확장자가 목록에 없으면 목록의 확장자로 정책을 다시 확인
+ */
+public enum FileSignature {
+
+    /**
+     * Windows PE 실행 파일 (MZ 헤더와 e_lfanew가 가리키는 PE 서명)
+     */
+    PE("exe", "dll", "scr", "cpl", "com", "sys", "ocx", "efi"),
+
+    /**
+     * Linux/Unix ELF 실행 파일
+     */
+    ELF("elf", "so", "bin", "run", "out"),
+
+    /**
+     * macOS Mach-O 실행 파일 (단일/유니버설)
+     */
+    MACH_O("macho", "dylib", "bundle"),
+
+    /**
+     * Java 클래스 파일
+     */
+    JAVA_CLASS("class"),
+
+    /**
+     * OLE 복합 문서 (MSI 설치 파일, 구형 Office 문서)
+     */
+    OLE("msi", "msp", "doc", "xls", "ppt", "msg", "hwp"),
+
+    /**
+     * Windows 바로가기
+     */
+    WINDOWS_SHORTCUT("lnk"),
+
+    /**
+     * ZIP 기반 파일 (압축 파일, JAR, Office Open XML 등)
+     */
+    ZIP("zip", "jar", "war", "apk", "docx", "xlsx", "pptx", "hwpx", "odt", "ods", "odp", "epub"),
+
+    /**
+     * 셸 스크립트 (#!/bin/sh 등)
+     */
+    SHELL_SCRIPT("sh", "bash", "zsh", "ksh", "csh", "command"),
+
+    /**
+     * Python 스크립트 (#!/usr/bin/env python)
+     */
+    PYTHON_SCRIPT("py", "pyw"),
+
+    /**
+     * Perl 스크립트
+     */
+    PERL_SCRIPT("pl", "pm"),
+
+    /**
+     * Ruby 스크립트
+     */
+    RUBY_SCRIPT("rb"),
+
+    /**
+     * Node.js 스크립트
+     */
+    NODE_SCRIPT("js", "mjs", "cjs"),
+
+    /**
+     * PowerShell 스크립트
+     */
+    POWERSHELL_SCRIPT("ps1"),
+
+    /**
+     * Windows 배치 파일 (@echo off)
+     */
+    BATCH_SCRIPT("bat", "cmd"),
+
+    /**
+     * 식별되지 않은 형식
+     */
+    UNKNOWN;
+
+    /**
+     * 판별에 사용하는 최대 바이트 수
+     */
+    public static final int SNIFF_LIMIT = 4096;
+
+    private static final byte[] OLE_MAGIC = {
+            (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1 };
+
+    private static final byte[] LNK_MAGIC = { 0x4C, 0x00, 0x00, 0x00, 0x01, 0x14, 0x02, 0x00 };
+
+    /**
+     * DOS 헤더에서 PE 헤더 위치(e_lfanew)를 담은 필드의 오프셋
+     */
+    private static final int E_LFANEW_OFFSET = 0x3C;
+
+    private static final byte[] PE_MAGIC = { 'P', 'E', 0x00, 0x00 };
+
+    private static final byte[] ECHO_OFF = "@echo off".getBytes(StandardCharsets.US_ASCII);
+
+    private final List<String> extensions;
+
+    FileSignature(String... extensions) {
+        this.extensions = List.of(extensions);
+    }
+
+    /**
+     * 해당 형식으로 정상적인 확장자 목록
+     */
+    public List<String> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * 파일명의 확장자가 이 형식과 일치하는지 여부
+     *
+     * @param extension 파일명의 확장자 (소문자)
+     * @return 일치하면 true (UNKNOWN은 항상 true)
+     */
+    public boolean accepts(String extension) {
+        return this == UNKNOWN || extensions.contains(extension);
+    }
+
+    /**
+     * 이 형식의 확장자 중 정책에서 차단된 확장자
+     *
+     * @param snapshot 정책 스냅샷
+     * @return 차단된 확장자, 없으면 null
+     */
+    public String blockedExtension(PolicySnapshot snapshot) {
+        for (String extension : extensions) {
+            if (snapshot.isBlocked(extension)) {
+                return extension;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파일 앞부분으로 형식 판별
+     *
+     * @param head   파일 앞부분
+     * @param length 유효 바이트 수
+     * @param eof    파일이 length에서 끝났는지 여부
+     * @return 판별된 형식, 더 많은 데이터가 필요하면 null
+     */
+    public static FileSignature detect(byte[] head, int length, boolean eof) {
+        boolean complete = eof || length >= SNIFF_LIMIT;
+        if (length < 8 && !complete) {
+            return null;
+        }
+
+        if (startsWith(head, length, OLE_MAGIC)) {
+            return OLE;
+        }
+        if (startsWith(head, length, LNK_MAGIC)) {
+            return WINDOWS_SHORTCUT;
+        }
+        if (length >= 2 && head[0] == 'M' && head[1] == 'Z') {
+            Boolean pe = hasPeHeader(head, length, complete);
+            if (pe == null) {
+                return null;
+            }
+            if (pe) {
+                return PE;
+            }
+        }
+        if (length >= 4 && head[0] == 0x7F && head[1] == 'E' && head[2] == 'L' && head[3] == 'F') {
+            return ELF;
+        }
+        if (length >= 4 && head[0] == 'P' && head[1] == 'K' && head[2] == 0x03 && head[3] == 0x04) {
+            return ZIP;
+        }
+        if (length >= 8) {
+            int magic = readInt(head, 0);
+            if (magic == 0xFEEDFACE || magic == 0xFEEDFACF || magic == 0xCEFAEDFE || magic == 0xCFFAEDFE) {
+                return MACH_O;
+            }
+            if (magic == 0xCAFEBABE) {
+                // 유니버설 바이너리는 아키텍처 개수(작은 수), 클래스 파일은 버전(45 이상)
+                return readInt(head, 4) < 45 ? MACH_O : JAVA_CLASS;
+            }
+        }
+
+        int offset = hasUtf8Bom(head, length) ? 3 : 0;
+        if (length - offset >= 2 && head[offset] == '#' && head[offset + 1] == '!') {
+            int lineEnd = indexOf(head, offset, length, (byte) '\n');
+            if (lineEnd < 0 && !complete) {
+                return null;
+            }
+            String line = new String(head, offset + 2, (lineEnd < 0 ? length : lineEnd) - offset - 2,
+                    StandardCharsets.ISO_8859_1);
+            return interpreterOf(line);
+        }
+        if (length - offset < ECHO_OFF.length && !complete) {
+            return null;
+        }
+        if (startsWithIgnoreCase(head, offset, length, ECHO_OFF)) {
+            return BATCH_SCRIPT;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * shebang 줄의 인터프리터로 스크립트 형식 판별
+     */
+    private static FileSignature interpreterOf(String shebang) {
+        String line = shebang.trim();
+        String[] tokens = line.split("\\s+");
+        String program = tokens[0].substring(tokens[0].lastIndexOf('/') + 1);
+        if ("env".equals(program)) {
+            program = "";
+            for (int i = 1; i < tokens.length; i++) {
+                if (!tokens[i].startsWith("-")) {
+                    program = tokens[i];
+                    break;
+                }
+            }
+        }
+        if (program.startsWith("python")) {
+            return PYTHON_SCRIPT;
+        }
+        if (program.startsWith("perl")) {
+            return PERL_SCRIPT;
+        }
+        if (program.startsWith("ruby")) {
+            return RUBY_SCRIPT;
+        }
+        if (program.equals("node") || program.equals("nodejs") || program.equals("deno") || program.equals("bun")) {
+            return NODE_SCRIPT;
+        }
+        if (program.startsWith("pwsh") || program.startsWith("powershell")) {
+            return POWERSHELL_SCRIPT;
+        }
+        return SHELL_SCRIPT;
+    }
+
+    /**
+     * MZ로 시작하는 파일의 e_lfanew가 가리키는 위치에 PE 서명이 있는지 확인
+     * "MZ"로 시작하는 텍스트 파일이 PE로 판별되지 않도록 하며, PE 헤더는 SNIFF_LIMIT 안에 있어야 함
+     *
+     * @return PE 서명이 있으면 true, 없으면 false, 더 많은 데이터가 필요하면 null
+     */
+    private static Boolean hasPeHeader(byte[] head, int length, boolean complete) {
+        if (length < E_LFANEW_OFFSET + 4) {
+            return complete ? Boolean.FALSE : null;
+        }
+        int header = readIntLittleEndian(head, E_LFANEW_OFFSET);
+        if (header < 0 || header > SNIFF_LIMIT - PE_MAGIC.length) {
+            return false;
+        }
+        if (length < header + PE_MAGIC.length) {
+            return complete ? Boolean.FALSE : null;
+        }
+        for (int i = 0; i < PE_MAGIC.length; i++) {
+            if (head[header + i] != PE_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] head, int length, byte[] magic) {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWithIgnoreCase(byte[] head, int offset, int length, byte[] prefix) {
+        if (length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            byte b = head[offset + i];
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasUtf8Bom(byte[] head, int length) {
+        return length >= 3 && head[0] == (byte) 0xEF && head[1] == (byte) 0xBB && head[2] == (byte) 0xBF;
+    }
+
+    private static int indexOf(byte[] head, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (head[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int readInt(byte[] b, int offset) {
+        return (b[offset] & 0xFF) << 24 | (b[offset + 1] & 0xFF) << 16
+                | (b[offset + 2] & 0xFF) << 8 | (b[offset + 3] & 0xFF);
+    }
+
+    private static int readIntLittleEndian(byte[] b, int offset) {
+        return (b[offset + 3] & 0xFF) << 24 | (b[offset + 2] & 0xFF) << 16
+                | (b[offset + 1] & 0xFF) << 8 | (b[offset] & 0xFF);
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.extensionblocker.inspect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 스트리밍 파서
+ * 서블릿 컨테이너가 업로드 전체를 임시 파일로 저장하지 않도록 요청 본문을 직접 읽음
+ * 고정 크기 버퍼 하나만 사용하며, 파트 본문은 필요한 만큼만 읽고 멈출 수 있음
+ */
+public final class MultipartStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * 파트 헤더 블록의 최대 크기
+     */
+    private static final int MAX_HEADER_SIZE = 4096;
+
+    private static final byte[] HEADER_END = { '\r', '\n', '\r', '\n' };
+
+    private final InputStream input;
+
+    /**
+     * 파트 구분자 ("\r\n--" + boundary)
+     */
+    private final byte[] delimiter;
+
+    private final byte[] buffer;
+
+    /**
+     * buffer[head, tail) 구간이 아직 읽지 않은 데이터
+     */
+    private int head;
+    private int tail;
+    private boolean eof;
+
+    /**
+     * 현재 파트 본문을 구분자까지 모두 읽었는지 여부
+     */
+    private boolean partDone;
+
+    private boolean finished;
+
+    public MultipartStream(InputStream input, String boundary) {
+        this.input = input;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, delimiter.length * 2 + MAX_HEADER_SIZE)];
+        // 첫 구분자 앞에는 CRLF가 없으므로 가상의 CRLF를 넣어 동일하게 처리
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        this.tail = 2;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 추출
+     *
+     * @param contentType 요청 Content-Type
+     * @return boundary, multipart/form-data가 아니면 null
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        String boundary = parameters(contentType).get("boundary");
+        return boundary == null || boundary.isEmpty() ? null : boundary;
+    }
+
+    /**
+     * 다음 파트로 이동 (현재 파트의 남은 본문은 버림)
+     *
+     * @return 다음 파트, 마지막 구분자를 만나면 null
+     * @throws IOException 형식이 잘못되었거나 스트림이 중간에 끝난 경우
+     */
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        while (!partDone) {
+            skipPartData();
+        }
+        head += delimiter.length;
+        ensure(2);
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        // 구분자 뒤의 공백(transport padding)과 CRLF를 건너뜀
+        while (true) {
+            ensure(1);
+            byte b = buffer[head++];
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r' && b != ' ' && b != '\t') {
+                throw new IOException("Malformed multipart boundary line");
+            }
+        }
+
+        Map<String, String> headers = readHeaders();
+        partDone = false;
+        return new Part(headers);
+    }
+
+    /**
+     * 현재 파트 본문 읽기
+     *
+     * @return 읽은 바이트 수, 파트 끝이면 -1
+     */
+    private int readPart(byte[] b, int off, int len) throws IOException {
+        if (partDone) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            int available = available();
+            if (available > 0) {
+                int n = Math.min(len, available);
+                System.arraycopy(buffer, head, b, off, n);
+                head += n;
+                return n;
+            }
+            if (partDone) {
+                return -1;
+            }
+            fill();
+        }
+    }
+
+    private void skipPartData() throws IOException {
+        int available = available();
+        if (available > 0) {
+            head += available;
+        } else if (!partDone) {
+            fill();
+        }
+    }
+
+    /**
+     * 구분자에 걸리지 않고 현재 파트에서 바로 읽을 수 있는 바이트 수
+     * 구분자를 찾으면 partDone을 설정
+     */
+    private int available() {
+        int index = indexOf(delimiter, head, tail);
+        if (index >= 0) {
+            if (index == head) {
+                partDone = true;
+            }
+            return index - head;
+        }
+        return Math.max(0, tail - head - (delimiter.length - 1));
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        int end;
+        while ((end = indexOf(HEADER_END, head, tail)) < 0) {
+            if (tail - head >= MAX_HEADER_SIZE) {
+                throw new IOException("Multipart headers too large");
+            }
+            if (eof) {
+                throw new IOException("Unexpected end of multipart stream");
+            }
+            fill();
+        }
+        String block = new String(buffer, head, end - head, StandardCharsets.UTF_8);
+        head = end + HEADER_END.length;
+
+        Map<String, String> headers = new HashMap<>();
+        for (String line : block.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private void ensure(int count) throws IOException {
+        while (tail - head < count) {
+            if (eof) {
+                throw new IOException("Unexpected end of multipart stream");
+            }
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        if (eof) {
+            throw new IOException("Unexpected end of multipart stream");
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int read = input.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+        } else {
+            tail += read;
+        }
+    }
+
+    private int indexOf(byte[] pattern, int from, int to) {
+        int last = to - pattern.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * "value; key=value; key="value"" 형태 헤더의 파라미터 파싱
+     */
+    private static Map<String, String> parameters(String header) {
+        Map<String, String> params = new HashMap<>();
+        int i = header.indexOf(';');
+        while (i >= 0 && i < header.length()) {
+            int start = i + 1;
+            int eq = header.indexOf('=', start);
+            if (eq < 0) {
+                break;
+            }
+            String key = header.substring(start, eq).trim().toLowerCase(Locale.ROOT);
+            int pos = eq + 1;
+            String value;
+            if (pos < header.length() && header.charAt(pos) == '"') {
+                StringBuilder sb = new StringBuilder();
+                pos++;
+                while (pos < header.length() && header.charAt(pos) != '"') {
+                    char c = header.charAt(pos);
+                    if (c == '\\' && pos + 1 < header.length()) {
+                        c = header.charAt(++pos);
+                    }
+                    sb.append(c);
+                    pos++;
+                }
+                value = sb.toString();
+                i = header.indexOf(';', pos);
+            } else {
+                int semi = header.indexOf(';', pos);
+                value = (semi < 0 ? header.substring(pos) : header.substring(pos, semi)).trim();
+                i = semi;
+            }
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    /**
+     * multipart 파트 (헤더와 본문 스트림)
+     */
+    public final class Part {
+
+        private final Map<String, String> headers;
+        private final Map<String, String> disposition;
+
+        private Part(Map<String, String> headers) {
+            this.headers = headers;
+            String header = headers.get("content-disposition");
+            this.disposition = header != null ? parameters(header) : Map.of();
+        }
+
+        /**
+         * 폼 필드명
+         */
+        public String getName() {
+            return disposition.get("name");
+        }
+
+        /**
+         * 업로드 파일명 (파일 파트가 아니면 null)
+         * RFC 5987 형식(filename*)을 우선 사용
+         */
+        public String getFilename() {
+            String extended = disposition.get("filename*");
+            if (extended != null) {
+                int quote = extended.indexOf("''");
+                if (quote >= 0) {
+                    return URLDecoder.decode(extended.substring(quote + 2), StandardCharsets.UTF_8);
+                }
+            }
+            return disposition.get("filename");
+        }
+
+        /**
+         * 파트의 Content-Type
+         */
+        public String getContentType() {
+            return headers.get("content-type");
+        }
+
+        /**
+         * 본문을 최대 limit 바이트까지 문자열로 읽음 (폼 필드 값 용도)
+         */
+        public String readString(int limit) throws IOException {
+            byte[] value = new byte[limit];
+            int length = readFully(value);
+            return new String(value, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 본문을 버퍼가 가득 차거나 파트가 끝날 때까지 읽음
+         *
+         * @return 읽은 바이트 수
+         */
+        public int readFully(byte[] target) throws IOException {
+            int length = 0;
+            int read;
+            while (length < target.length && (read = readPart(target, length, target.length - length)) > 0) {
+                length += read;
+            }
+            return length;
+        }
+
+        /**
+         * 본문 스트림 (구분자 앞에서 끝남)
+         */
+        public InputStream getInputStream() {
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    byte[] one = new byte[1];
+                    int n = readPart(one, 0, 1);
+                    return n <= 0 ? -1 : one[0] & 0xFF;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return readPart(b, off, len);
+                }
+            };
+        }
+
+        /**
+         * 본문을 끝까지 읽었는지 여부
+         */
+        public boolean isConsumed() {
+            return partDone;
+        }
+    }
+}
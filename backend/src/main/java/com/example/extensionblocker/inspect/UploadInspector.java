@@ -0,0 +1,127 @@
+package com.example.extensionblocker.inspect;
+
+import com.example.extensionblocker.admission.NamespaceRateLimiter;
+import com.example.extensionblocker.audit.ValidationAuditLog;
+import com.example.extensionblocker.dto.FileValidationResponse;
+import com.example.extensionblocker.exception.InvalidRequestException;
+import com.example.extensionblocker.metrics.VerdictMetrics;
+import com.example.extensionblocker.policy.ExtensionMatcher;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.service.ExtensionService;
+import com.example.extensionblocker.type.ApiClass;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 업로드 파일 내용 검사기
+ * multipart 요청에서 첫 번째 파일 파트의 앞부분만 읽어 매직 바이트로 실제 형식을 판별하고,
+ * 판별된 형식을 네임스페이스의 차단 확장자에 대응시켜 검증
+ * 판정이 나는 즉시 읽기를 멈추므로 파일 크기와 관계없이 비용이 일정함
+ * 앞부분을 읽는 SNIFF_LIMIT 크기 버퍼는 요청마다 만들지 않고 크기가 제한된 풀에서 재사용
+ */
+@Component
+@RequiredArgsConstructor
+public class UploadInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadInspector.class);
+
+    /**
+     * 재사용할 앞부분 버퍼의 최대 개수 (동시 요청이 더 많으면 나머지는 새로 만들고 버림)
+     * 가상 스레드 모드에서는 요청마다 스레드가 새로 생기므로 ThreadLocal 대신 공유 풀 사용
+     */
+    private static final int HEAD_BUFFER_POOL_SIZE = 64;
+
+    private final BlockingQueue<byte[]> headBuffers = new ArrayBlockingQueue<>(HEAD_BUFFER_POOL_SIZE);
+
+    private final ExtensionService extensionService;
+    private final VerdictMetrics verdictMetrics;
+    private final ValidationAuditLog auditLog;
+    private final NamespaceRateLimiter rateLimiter;
+
+    /**
+     * 업로드 검사 결과
+     *
+     * @param response      검증 결과
+     * @param bodyConsumed  요청 본문을 끝까지 읽었는지 여부
+     */
+    public record Result(FileValidationResponse response, boolean bodyConsumed) {
+    }
+
+    /**
+     * multipart 요청 본문 검사
+     * namespace가 없으면 파일 파트 앞에 있는 "namespace" 폼 필드를 사용
+     *
+     * @param body      요청 본문
+     * @param boundary  multipart boundary
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @return 검사 결과
+     */
+    public Result inspect(InputStream body, String boundary, String namespace) {
+        try {
+            UploadedFile file = UploadedFile.next(new MultipartStream(body, boundary), namespace);
+            rateLimiter.acquire(ApiClass.VALIDATE, file.namespace());
+            FileValidationResponse response = inspect(file.part(), extensionService.getPolicySnapshot(file.namespace()));
+            verdictMetrics.record(file.namespace(), response.isAllowed(), response.getExtension());
+            auditLog.record(file.namespace(), file.filename(), response.getExtension(), response.isAllowed());
+            return new Result(response, file.part().isConsumed());
+        } catch (IOException e) {
+            throw new InvalidRequestException("Malformed multipart request: " + e.getMessage());
+        }
+    }
+
+    private FileValidationResponse inspect(MultipartStream.Part part, PolicySnapshot snapshot) throws IOException {
+        String filename = part.getFilename();
+        String extension = ExtensionMatcher.extractExtension(filename);
+
+        // 1. 파일명만으로 차단되면 본문을 읽지 않음
+        if (!extensionService.isFileAllowed(filename, snapshot)) {
+            return FileValidationResponse.of(false, snapshot.describeExtension(filename));
+        }
+
+        // 2. 판별에 필요한 만큼만 앞부분을 읽음
+        FileSignature signature = sniff(part.getInputStream());
+
+        // 3. 실제 형식이 파일명과 다르면 실제 형식의 확장자로 정책 확인
+        if (!signature.accepts(extension)) {
+            String blocked = signature.blockedExtension(snapshot);
+            if (blocked != null) {
+                log.info("[inspect] Content mismatch: filename={}, detected={}, blocked={}",
+                        filename, signature, blocked);
+                return new FileValidationResponse(false, blocked,
+                        "파일 내용이 차단된 형식입니다: ." + blocked + " (" + signature + ")");
+            }
+        }
+        return FileValidationResponse.of(true, extension);
+    }
+
+    /**
+     * 형식이 판별될 때까지 앞부분을 읽음 (최대 SNIFF_LIMIT 바이트)
+     */
+    private FileSignature sniff(InputStream input) throws IOException {
+        byte[] head = headBuffers.poll();
+        if (head == null) {
+            head = new byte[FileSignature.SNIFF_LIMIT];
+        }
+        try {
+            int length = 0;
+            FileSignature signature = null;
+            while (signature == null) {
+                int read = input.read(head, length, head.length - length);
+                if (read > 0) {
+                    length += read;
+                }
+                signature = FileSignature.detect(head, length, read < 0);
+            }
+            return signature;
+        } finally {
+            headBuffers.offer(head);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.extensionblocker.inspect;
+
+import com.example.extensionblocker.exception.InvalidRequestException;
+
+import java.io.IOException;
+
+/**
+ * multipart 요청의 첫 번째 파일 파트와 적용할 네임스페이스
+ *
+ * @param part      파일 파트 (본문은 아직 읽지 않은 상태)
+ * @param namespace 정책 네임스페이스
+ */
+public record UploadedFile(MultipartStream.Part part, String namespace) {
+
+    /**
+     * 폼 필드 값의 최대 길이 (바이트)
+     */
+    private static final int MAX_FIELD_LENGTH = 256;
+
+    /**
+     * 첫 번째 파일 파트까지 이동
+     * namespace가 없으면 파일 파트 앞에 있는 "namespace" 폼 필드를 사용
+     *
+     * @param multipart multipart 스트림
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @return 파일 파트와 네임스페이스
+     * @throws IOException multipart 형식이 잘못된 경우
+     */
+    public static UploadedFile next(MultipartStream multipart, String namespace) throws IOException {
+        MultipartStream.Part part;
+        while ((part = multipart.nextPart()) != null) {
+            if (part.getFilename() == null) {
+                if (namespace == null && "namespace".equals(part.getName())) {
+                    namespace = part.readString(MAX_FIELD_LENGTH).trim();
+                }
+                continue;
+            }
+            if (namespace == null || namespace.isEmpty()) {
+                throw new InvalidRequestException("Namespace is required before the file part");
+            }
+            return new UploadedFile(part, namespace);
+        }
+        throw new InvalidRequestException("No file part in request");
+    }
+
+    /**
+     * 업로드 파일명
+     */
+    public String filename() {
+        return part.getFilename();
+    }
+}
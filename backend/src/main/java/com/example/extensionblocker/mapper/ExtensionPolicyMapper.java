@@ -1,30 +1,112 @@
-package com.example.extensionblocker.mapper;
-
-import com.example.extensionblocker.model.ExtensionPolicy;
-import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
-
-import java.util.Optional;
-
-/**
- * 확장자 정책 MyBatis Mapper 인터페이스
- * 정책 CRUD 작업을 담당
- */
-@Mapper
-public interface ExtensionPolicyMapper {
-
-    /**
-     * 정책 저장
-     * 
-     * @param policy 저장할 정책 객체
-     */
-    void regExtensionPolicy(ExtensionPolicy policy);
-
-    /**
-     * 네임스페이스로 정책 조회
-     * 
-     * @param namespace 정책 네임스페이스 (예: "chat", "work")
-     * @return 정책 객체 (Optional)
-     */
-    Optional<ExtensionPolicy> getPolicyByNamespace(@Param("namespace") String namespace);
-}
+package com.example.extensionblocker.mapper;
+
+import com.example.extensionblocker.model.ExtensionPolicy;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 확장자 정책 MyBatis Mapper 인터페이스
+ * 정책 CRUD 작업을 담당
+ */
+@Mapper
+public interface ExtensionPolicyMapper {
+
+    /**
+     * 정책 저장
+     * 
+     * @param policy 저장할 정책 객체
+     */
+    void regExtensionPolicy(ExtensionPolicy policy);
+
+    /**
+     * 정책 저장 (같은 네임스페이스의 정책이 이미 있으면 저장하지 않음)
+     * 같은 네임스페이스를 동시에 처음 사용해도 유니크 제약 위반이 발생하지 않음
+     *
+     * @param policy 저장할 정책 객체
+     * @return 저장된 행 수 (0 또는 1)
+     */
+    int regExtensionPolicyIfAbsent(ExtensionPolicy policy);
+
+    /**
+     * 네임스페이스로 정책 조회
+     * 
+     * @param namespace 정책 네임스페이스 (예: "chat", "work")
+     * @return 정책 객체 (Optional)
+     */
+    Optional<ExtensionPolicy> getPolicyByNamespace(@Param("namespace") String namespace);
+
+    /**
+     * 네임스페이스로 정책을 조회하고 트랜잭션이 끝날 때까지 행을 잠금
+     * 같은 정책의 규칙을 변경하는 다른 트랜잭션은 이 트랜잭션이 끝난 뒤에 진행됨
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 정책 객체 (Optional)
+     */
+    Optional<ExtensionPolicy> getPolicyByNamespaceForUpdate(@Param("namespace") String namespace);
+
+    /**
+     * ID로 정책들을 조회하고 트랜잭션이 끝날 때까지 행을 잠금
+     * ID 순서로 잠그므로 같은 정책들을 서로 다른 순서로 잠그려는 트랜잭션끼리 교착되지 않음
+     *
+     * @param ids 정책 ID 목록
+     * @return 정책 목록 (ID 순)
+     */
+    List<ExtensionPolicy> getPoliciesByIdsForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 네임스페이스로 정책과 규칙 목록을 한 번에 조회
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 규칙 목록(rules)이 채워진 정책 객체 (Optional)
+     */
+    Optional<ExtensionPolicy> getPolicyWithRules(@Param("namespace") String namespace);
+
+    /**
+     * 정책 버전을 1 증가시키고 변경 알림(NOTIFY) 발행
+     * 알림은 트랜잭션이 커밋될 때 "버전:네임스페이스" 형식으로 전달됨
+     *
+     * @param id      정책 ID
+     * @param channel 알림 채널
+     * @return 버전이 증가된 정책 객체
+     */
+    ExtensionPolicy bumpPolicyVersion(@Param("id") Long id, @Param("channel") String channel);
+
+    /**
+     * 네임스페이스로 정책 버전을 1 증가시키고 변경 알림(NOTIFY) 발행
+     * 정책 행이 트랜잭션이 끝날 때까지 잠기므로, 같은 정책의 규칙 변경은 이 문장부터 순서대로 진행됨
+     *
+     * @param namespace 정책 네임스페이스
+     * @param channel   알림 채널
+     * @return 버전이 증가된 정책 객체 (활성 정책이 없으면 empty)
+     */
+    Optional<ExtensionPolicy> bumpPolicyVersionByNamespace(@Param("namespace") String namespace,
+            @Param("channel") String channel);
+
+    /**
+     * 상위 정책 변경
+     *
+     * @param id       정책 ID
+     * @param parentId 상위 정책 ID (null이면 최상위 정책)
+     */
+    void updatePolicyParent(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    /**
+     * 상위 정책 ID 목록 조회 (가까운 순, 자기 자신 제외)
+     *
+     * @param id       정책 ID
+     * @param maxDepth 따라 올라갈 최대 단계 수
+     * @return 상위 정책 ID 목록
+     */
+    List<Long> getAncestorIds(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
+    /**
+     * 활성 정책의 네임스페이스와 버전 목록 조회
+     *
+     * @return 정책 목록 (id, namespace, version만 포함)
+     */
+    List<ExtensionPolicy> getPolicyVersions();
+}
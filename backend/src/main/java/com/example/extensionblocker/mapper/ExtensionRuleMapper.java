@@ -1,66 +1,132 @@
-package com.example.extensionblocker.mapper;
-
-import com.example.extensionblocker.model.ExtensionRule;
-import com.example.extensionblocker.type.ExtensionType;
-
-import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
-import java.util.List;
-import java.util.Optional;
-
-/**
- * 확장자 규칙 MyBatis Mapper 인터페이스
- * 고정/커스텀 확장자 규칙의 CRUD 작업을 담당
- */
-@Mapper
-public interface ExtensionRuleMapper {
-
-    /**
-     * 규칙 저장
-     * 
-     * @param rule 저장할 규칙 객체
-     */
-    int regExtensionRule(ExtensionRule rule);
-
-    /**
-     * 특정 정책의 모든 규칙 조회
-     * 
-     * @param policyId 정책 ID
-     * @return 규칙 목록
-     */
-    List<ExtensionRule> getRulesByPolicyId(@Param("policyId") Long policyId);
-
-    /**
-     * 정책 ID와 확장자명으로 규칙 조회
-     * 
-     * @param policyId  정책 ID
-     * @param extension 확장자명
-     * @return 규칙 객체 (Optional)
-     */
-    Optional<ExtensionRule> getRuleByPolicyIdAndExtension(@Param("policyId") Long policyId,
-            @Param("extension") String extension);
-
-    /**
-     * 특정 정책의 특정 타입 규칙 개수 조회
-     * 
-     * @param policyId 정책 ID
-     * @param type     확장자 타입 (FIXED 또는 CUSTOM)
-     * @return 규칙 개수
-     */
-    long getCountByPolicyIdAndType(@Param("policyId") Long policyId, @Param("type") ExtensionType type);
-
-    /**
-     * ID로 규칙 조회
-     * 
-     * @param id 규칙 ID
-     * @return 규칙 객체 (Optional)
-     */
-    Optional<ExtensionRule> getRuleById(@Param("id") Long id);
-
-    /**
-     * 규칙 삭제
-     * 
-     * @param id 삭제할 규칙 ID
-     */
-    void delExtensionRuleById(@Param("id") Long id);
-}
+package com.example.extensionblocker.mapper;
+
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.model.RuleRegistration;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.RuleEffect;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 확장자 규칙 MyBatis Mapper 인터페이스
+ * 고정/커스텀 확장자 규칙의 CRUD 작업을 담당
+ */
+@Mapper
+public interface ExtensionRuleMapper {
+
+    /**
+     * 규칙 저장
+     * 
+     * @param rule 저장할 규칙 객체
+     */
+    int regExtensionRule(ExtensionRule rule);
+
+    /**
+     * 규칙을 한 문장으로 조건부 저장
+     * 커스텀 확장자 개수 제한 확인, 저장(이미 있으면 건너뜀), 변경 기록, 오래된 변경 기록 정리를 함께 처리
+     * 정책 행을 먼저 잠근(버전 증가) 트랜잭션에서 호출해야 개수 제한이 동시 등록에도 지켜짐
+     *
+     * @param policyId         정책 ID
+     * @param version          증가된 정책 버전 (변경 기록에 사용)
+     * @param extension        정규화된 확장자명
+     * @param type             확장자 타입
+     * @param effect           규칙 효과
+     * @param maxCustom        커스텀 확장자 최대 개수 (null이면 확인하지 않음)
+     * @param retainedVersions 보관할 최근 변경 기록 버전 수
+     * @return 제한 통과 여부와 저장된 규칙 ID
+     */
+    RuleRegistration regExtensionRuleIfAllowed(@Param("policyId") Long policyId, @Param("version") long version,
+            @Param("extension") String extension, @Param("type") ExtensionType type,
+            @Param("effect") RuleEffect effect, @Param("maxCustom") Integer maxCustom,
+            @Param("retainedVersions") int retainedVersions);
+
+    /**
+     * 여러 규칙을 하나의 INSERT 문으로 저장
+     * 이미 존재하는 확장자는 건너뜀 (동시 등록 대비)
+     *
+     * @param policyId   정책 ID
+     * @param type       확장자 타입
+     * @param extensions 저장할 확장자명 목록 (비어 있으면 안 됨)
+     * @return 실제로 저장된 확장자명 목록
+     */
+    List<String> regExtensionRules(@Param("policyId") Long policyId, @Param("type") ExtensionType type,
+            @Param("extensions") Collection<String> extensions);
+
+    /**
+     * 정책에 이미 등록된 확장자 조회
+     *
+     * @param policyId   정책 ID
+     * @param extensions 확인할 확장자명 목록 (비어 있으면 안 됨)
+     * @return 목록 중 이미 등록된 확장자명
+     */
+    List<String> getExistingExtensions(@Param("policyId") Long policyId,
+            @Param("extensions") Collection<String> extensions);
+
+    /**
+     * 특정 정책의 특정 타입 규칙을 ID 순으로 한 건씩 전달 (전체 목록을 메모리에 올리지 않음)
+     *
+     * @param policyId 정책 ID
+     * @param type     확장자 타입
+     * @param handler  규칙별 처리 핸들러
+     */
+    void streamRulesByPolicyIdAndType(@Param("policyId") Long policyId, @Param("type") ExtensionType type,
+            ResultHandler<ExtensionRule> handler);
+
+    /**
+     * 특정 정책의 모든 규칙 조회
+     * 
+     * @param policyId 정책 ID
+     * @return 규칙 목록
+     */
+    List<ExtensionRule> getRulesByPolicyId(@Param("policyId") Long policyId);
+
+    /**
+     * 정책 ID와 확장자명으로 규칙 조회
+     * 
+     * @param policyId  정책 ID
+     * @param extension 확장자명
+     * @return 규칙 객체 (Optional)
+     */
+    Optional<ExtensionRule> getRuleByPolicyIdAndExtension(@Param("policyId") Long policyId,
+            @Param("extension") String extension);
+
+    /**
+     * 특정 정책의 특정 타입 규칙 개수 조회
+     * 
+     * @param policyId 정책 ID
+     * @param type     확장자 타입 (FIXED 또는 CUSTOM)
+     * @return 규칙 개수
+     */
+    long getCountByPolicyIdAndType(@Param("policyId") Long policyId, @Param("type") ExtensionType type);
+
+    /**
+     * ID로 규칙 조회
+     * 
+     * @param id 규칙 ID
+     * @return 규칙 객체 (Optional)
+     */
+    Optional<ExtensionRule> getRuleById(@Param("id") Long id);
+
+    /**
+     * 규칙이 속한 정책의 네임스페이스 조회
+     * 
+     * @param id 규칙 ID
+     * @return 네임스페이스 (규칙이 없으면 empty)
+     */
+    Optional<String> getNamespaceByRuleId(@Param("id") Long id);
+
+    /**
+     * 규칙 삭제
+     * 같은 규칙을 동시에 삭제하면 한 트랜잭션만 삭제한 행을 돌려받음
+     * 
+     * @param id 삭제할 규칙 ID
+     * @return 삭제한 규칙 (이미 삭제되어 없으면 empty)
+     */
+    Optional<ExtensionRule> delExtensionRuleById(@Param("id") Long id);
+}
@@ -0,0 +1,71 @@
+package com.example.extensionblocker.mapper;
+
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.model.PolicyChange;
+import com.example.extensionblocker.type.ChangeOperation;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정책 변경 기록 MyBatis Mapper 인터페이스
+ * 규칙 변경과 같은 트랜잭션에서 기록하고, 변경 피드 조회와 오래된 기록 정리를 담당
+ */
+@Mapper
+public interface PolicyChangeMapper {
+
+    /**
+     * 규칙 추가/삭제 기록 (현재 extension_rule 행에서 규칙 ID, 타입, 효과를 복사)
+     * 삭제된 규칙은 regRemovedRule로 기록
+     *
+     * @param policyId   정책 ID
+     * @param version    변경 후 정책 버전
+     * @param operation  ADD 또는 REMOVE
+     * @param extensions 변경된 확장자명 목록
+     * @return 기록된 행 수
+     */
+    int regRuleChanges(@Param("policyId") Long policyId, @Param("version") long version,
+            @Param("operation") ChangeOperation operation, @Param("extensions") Collection<String> extensions);
+
+    /**
+     * 삭제한 규칙의 REMOVE 기록 (DELETE ... RETURNING으로 돌려받은 행의 값을 그대로 기록)
+     *
+     * @param version 변경 후 정책 버전
+     * @param rule    삭제한 규칙
+     * @return 기록된 행 수
+     */
+    int regRemovedRule(@Param("version") long version, @Param("rule") ExtensionRule rule);
+
+    /**
+     * 상위 정책 변경 기록
+     *
+     * @param policyId        정책 ID
+     * @param version         변경 후 정책 버전
+     * @param parentNamespace 새 상위 정책 네임스페이스 (최상위 정책이면 null)
+     * @return 기록된 행 수
+     */
+    int regParentChange(@Param("policyId") Long policyId, @Param("version") long version,
+            @Param("parentNamespace") String parentNamespace);
+
+    /**
+     * 버전 구간의 변경 기록 조회 (버전, ID 순)
+     *
+     * @param policyId 정책 ID
+     * @param since    이 버전 이후 (제외)
+     * @param until    이 버전까지 (포함)
+     * @return 변경 기록 목록
+     */
+    List<PolicyChange> getChangesBetween(@Param("policyId") Long policyId, @Param("since") long since,
+            @Param("until") long until);
+
+    /**
+     * 지정한 버전 이하의 변경 기록 삭제 (정리)
+     *
+     * @param policyId 정책 ID
+     * @param version  삭제할 마지막 버전
+     * @return 삭제된 행 수
+     */
+    int delChangesUpTo(@Param("policyId") Long policyId, @Param("version") long version);
+}
@@ -0,0 +1,45 @@
+package com.example.extensionblocker.metrics;
+
+import com.example.extensionblocker.datasource.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 동시 접근 제한(ConcurrencyLimitedDataSource) 게이지
+ * 커넥션 풀 자체의 게이지(hikaricp_*)는 Spring Boot가 등록함
+ */
+@Component
+public class DataSourceConcurrencyMetrics implements MeterBinder {
+
+    private final ObjectProvider<DataSource> dataSources;
+
+    public DataSourceConcurrencyMetrics(ObjectProvider<DataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        dataSources.orderedStream()
+                .filter(ConcurrencyLimitedDataSource.class::isInstance)
+                .map(ConcurrencyLimitedDataSource.class::cast)
+                .forEach(dataSource -> {
+                    Gauge.builder("extension.datasource.permits.active", dataSource,
+                                    ConcurrencyLimitedDataSource::getActive)
+                            .description("Database permits currently in use")
+                            .register(registry);
+                    Gauge.builder("extension.datasource.permits.waiting", dataSource,
+                                    ConcurrencyLimitedDataSource::getWaiting)
+                            .description("Threads waiting for a database permit")
+                            .register(registry);
+                    Gauge.builder("extension.datasource.permits.max", dataSource,
+                                    ConcurrencyLimitedDataSource::getMaxConcurrency)
+                            .description("Maximum concurrent database permits")
+                            .register(registry);
+                });
+    }
+}
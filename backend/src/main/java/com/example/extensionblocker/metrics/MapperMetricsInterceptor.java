@@ -0,0 +1,84 @@
+package com.example.extensionblocker.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 매퍼 구문별 실행 시간 측정 (mybatis.statement)
+ * statement 태그는 "매퍼.메서드" 형식이며 매퍼 XML에 정의된 구문 수만큼만 생성됨
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = { MappedStatement.class, Object.class }),
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+                        BoundSql.class })
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    public static final String METRIC_NAME = "mybatis.statement";
+
+    private final MeterRegistry registry;
+
+    /**
+     * 구문 ID → {성공, 실패} 타이머
+     */
+    private final ConcurrentMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public MapperMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            Timer[] pair = timers.get(statement.getId());
+            if (pair == null) {
+                pair = timers.computeIfAbsent(statement.getId(), id -> register(statement));
+            }
+            pair[success ? 0 : 1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] register(MappedStatement statement) {
+        return new Timer[] { timer(statement, "success"), timer(statement, "error") };
+    }
+
+    private Timer timer(MappedStatement statement, String outcome) {
+        String id = statement.getId();
+        // 패키지명을 제외한 "매퍼.메서드"
+        int mapperStart = id.lastIndexOf('.', id.lastIndexOf('.') - 1) + 1;
+        return Timer.builder(METRIC_NAME)
+                .description("MyBatis mapped statement execution time")
+                .tag("statement", id.substring(mapperStart))
+                .tag("command", statement.getSqlCommandType().name())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.extensionblocker.metrics;
+
+import com.example.extensionblocker.policy.ExtensionDictionary;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정책 스냅샷 캐시와 전역 확장자 사전 게이지
+ * 사전은 ID를 회수하지 않으므로 서로 다른 확장자 수가 계속 늘어나는지 확인하는 용도
+ */
+@Component
+public class PolicyCacheMetrics implements MeterBinder {
+
+    private final PolicySnapshotCache snapshotCache;
+
+    public PolicyCacheMetrics(PolicySnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ExtensionDictionary dictionary = ExtensionDictionary.global();
+        Gauge.builder("extension.policy.snapshots", snapshotCache, PolicySnapshotCache::size)
+                .description("Cached policy snapshots")
+                .register(registry);
+        Gauge.builder("extension.dictionary.extensions", dictionary, ExtensionDictionary::size)
+                .description("Distinct extensions in the global dictionary")
+                .register(registry);
+        Gauge.builder("extension.dictionary.nodes", dictionary, ExtensionDictionary::nodeCount)
+                .description("Suffix trie nodes in the global dictionary")
+                .register(registry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.extensionblocker.metrics;
+
+import com.example.extensionblocker.datasource.ReplicaPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 복제본 상태 게이지와 주 DB로 대신 보낸 읽기 횟수
+ * 복제본이 설정되지 않았으면 등록하지 않음
+ */
+@Component
+public class ReplicaRoutingMetrics implements MeterBinder {
+
+    private final ObjectProvider<ReplicaPool> replicaPool;
+
+    public ReplicaRoutingMetrics(ObjectProvider<ReplicaPool> replicaPool) {
+        this.replicaPool = replicaPool;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ReplicaPool pool = replicaPool.getIfAvailable();
+        if (pool == null || !pool.isEnabled()) {
+            return;
+        }
+        for (ReplicaPool.Replica replica : pool.getReplicas()) {
+            Gauge.builder("extension.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("Whether the replica passed its last health check")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder("extension.datasource.replica.lag", replica, ReplicaPool.Replica::getLagMillis)
+                    .description("Replication lag observed by the last health check")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+        FunctionCounter.builder("extension.datasource.replica.fallback", pool, ReplicaPool::getFallbacks)
+                .description("Read-only transactions sent to the primary because no replica was healthy")
+                .register(registry);
+    }
+}
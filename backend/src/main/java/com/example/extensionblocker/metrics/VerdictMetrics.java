@@ -0,0 +1,113 @@
+package com.example.extensionblocker.metrics;
+
+import com.example.extensionblocker.config.VerdictMetricsProperties;
+import com.example.extensionblocker.constrant.ExtensionConst;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 허용/차단 판정 카운터 (extension.validation.verdicts)
+ * namespace, extension, result 태그를 가지며, 태그 값 종류는 설정된 한도까지만 구분하고 나머지는 "other"로 집계
+ * 카운터는 처음 사용할 때 한 번만 등록하고 이후에는 맵 조회만 하므로 대량 검증 경로에서도 비용이 작음
+ */
+@Component
+public class VerdictMetrics {
+
+    public static final String METRIC_NAME = "extension.validation.verdicts";
+
+    private static final String OTHER = "other";
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final VerdictMetricsProperties properties;
+
+    /**
+     * namespace 태그 → extension 태그 → {차단, 허용} 카운터
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, Counter[]>> counters = new ConcurrentHashMap<>();
+
+    private final Set<String> namespaceTags = ConcurrentHashMap.newKeySet();
+    private final Set<String> extensionTags = ConcurrentHashMap.newKeySet();
+
+    public VerdictMetrics(MeterRegistry registry, VerdictMetricsProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    /**
+     * 판정 결과 기록
+     *
+     * @param namespace 정책 네임스페이스 (null 가능)
+     * @param allowed   허용 여부
+     * @param extension 파일 확장자 (없으면 빈 문자열 또는 null)
+     */
+    public void record(String namespace, boolean allowed, String extension) {
+        String namespaceKey = namespace == null ? NONE : namespace;
+        ConcurrentMap<String, Counter[]> byExtension = counters.get(namespaceKey);
+        if (byExtension == null) {
+            byExtension = counters.computeIfAbsent(namespaceTag(namespaceKey), key -> new ConcurrentHashMap<>());
+        }
+
+        String extensionKey = extension == null || extension.isEmpty() ? NONE : extension;
+        Counter[] pair = byExtension.get(extensionKey);
+        if (pair == null) {
+            String namespaceTag = namespaceTags.contains(namespaceKey) ? namespaceKey : OTHER;
+            pair = byExtension.computeIfAbsent(extensionTag(extensionKey),
+                    extensionTag -> register(namespaceTag, extensionTag));
+        }
+        pair[allowed ? 1 : 0].increment();
+    }
+
+    private Counter[] register(String namespaceTag, String extensionTag) {
+        return new Counter[] {
+                counter(namespaceTag, extensionTag, "blocked"),
+                counter(namespaceTag, extensionTag, "allowed") };
+    }
+
+    private Counter counter(String namespaceTag, String extensionTag, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("File validation verdicts")
+                .tag("namespace", namespaceTag)
+                .tag("extension", extensionTag)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private String namespaceTag(String namespace) {
+        return admit(namespaceTags, namespace, properties.getMaxNamespaceTags()) ? namespace : OTHER;
+    }
+
+    private String extensionTag(String extension) {
+        if (NONE.equals(extension)) {
+            return NONE;
+        }
+        return isTaggable(extension) && admit(extensionTags, extension, properties.getMaxExtensionTags())
+                ? extension
+                : OTHER;
+    }
+
+    private static boolean admit(Set<String> tags, String value, int max) {
+        return tags.contains(value) || (tags.size() < max && tags.add(value)) || tags.contains(value);
+    }
+
+    /**
+     * 등록 가능한 확장자 형식(영문 소문자/숫자, 최대 길이 이하)인지 확인
+     */
+    private static boolean isTaggable(String extension) {
+        if (extension.length() > ExtensionConst.MAX_EXTENSION_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < extension.length(); i++) {
+            char c = extension.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
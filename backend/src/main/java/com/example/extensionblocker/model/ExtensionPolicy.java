@@ -1,48 +1,71 @@
-package com.example.extensionblocker.model;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-/**
- * 확장자 차단 정책 모델
- * 각 시나리오(채팅, 업무 공유 등)별로 독립적인 정책을 관리
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class ExtensionPolicy {
-
-    /**
-     * 정책 고유 ID
-     */
-    private Long id;
-
-    /**
-     * 정책 네임스페이스 (예: "chat", "work")
-     * 각 기능별 정책을 구분하는 식별자
-     */
-    private String namespace;
-
-    /**
-     * 정책 설명
-     */
-    private String description;
-
-    /**
-     * 정책 상태 (Y/N)
-     */
-    private String status;
-
-    /**
-     * ID를 제외한 생성자
-     * 
-     * @param namespace   정책 네임스페이스
-     * @param description 정책 설명
-     */
-    public ExtensionPolicy(String namespace, String description) {
-        this.namespace = namespace;
-        this.description = description;
-        this.status = "Y";
-    }
-}
+package com.example.extensionblocker.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 확장자 차단 정책 모델
+ * 각 시나리오(채팅, 업무 공유 등)별로 독립적인 정책을 관리
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtensionPolicy {
+
+    /**
+     * 정책 고유 ID
+     */
+    private Long id;
+
+    /**
+     * 정책 네임스페이스 (예: "chat", "work")
+     * 각 기능별 정책을 구분하는 식별자
+     */
+    private String namespace;
+
+    /**
+     * 정책 설명
+     */
+    private String description;
+
+    /**
+     * 정책 상태 (Y/N)
+     */
+    private String status;
+
+    /**
+     * 정책 버전 (규칙이 변경될 때마다 증가)
+     */
+    private Long version;
+
+    /**
+     * 상위 정책 ID (최상위 정책이면 null)
+     */
+    private Long parentId;
+
+    /**
+     * 상위 정책 네임스페이스 (규칙과 함께 조회한 경우에만 채워짐)
+     */
+    private String parentNamespace;
+
+    /**
+     * 정책에 속한 규칙 목록 (규칙과 함께 조회한 경우에만 채워짐)
+     */
+    private List<ExtensionRule> rules;
+
+    /**
+     * ID를 제외한 생성자
+     * 
+     * @param namespace   정책 네임스페이스
+     * @param description 정책 설명
+     */
+    public ExtensionPolicy(String namespace, String description) {
+        this.namespace = namespace;
+        this.description = description;
+        this.status = "Y";
+        this.version = 0L;
+    }
+}
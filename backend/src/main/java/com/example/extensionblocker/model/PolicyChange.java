@@ -0,0 +1,71 @@
+package com.example.extensionblocker.model;
+
+import com.example.extensionblocker.type.ChangeOperation;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.RuleEffect;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 변경 기록 모델
+ * 규칙 추가/삭제 또는 상위 정책 변경 하나가 한 행이며, 그 변경으로 올라간 정책 버전을 가짐
+ * (일괄 등록처럼 한 번에 여러 규칙이 바뀌면 같은 버전의 행이 여러 개)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyChange {
+
+    /**
+     * 변경 기록 ID
+     */
+    private Long id;
+
+    /**
+     * 정책 ID
+     */
+    private Long policyId;
+
+    /**
+     * 변경 후 정책 버전
+     */
+    private Long version;
+
+    /**
+     * 변경 종류
+     */
+    private ChangeOperation operation;
+
+    /**
+     * 추가/삭제된 규칙 ID (PARENT이면 null)
+     */
+    private Long ruleId;
+
+    /**
+     * 추가/삭제된 확장자명 (PARENT이면 null)
+     */
+    private String extension;
+
+    /**
+     * 추가/삭제된 규칙의 확장자 타입 (PARENT이면 null)
+     */
+    private ExtensionType type;
+
+    /**
+     * 추가/삭제된 규칙의 효과 (PARENT이면 null)
+     */
+    private RuleEffect effect;
+
+    /**
+     * 변경된 상위 정책 네임스페이스 (PARENT가 아니거나 최상위 정책으로 바뀌면 null)
+     */
+    private String parentNamespace;
+
+    /**
+     * 변경 일시
+     */
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,22 @@
+package com.example.extensionblocker.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조건부 규칙 등록 결과
+ */
+@Data
+@NoArgsConstructor
+public class RuleRegistration {
+
+    /**
+     * 커스텀 확장자 개수 제한 안에 있었는지 여부 (false면 저장하지 않음)
+     */
+    private boolean allowed;
+
+    /**
+     * 저장된 규칙 ID (같은 확장자가 이미 있거나 제한을 넘었으면 null)
+     */
+    private Long ruleId;
+}
@@ -0,0 +1,232 @@
+package com.example.extensionblocker.policy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 프로세스 전역 확장자 사전
+ * 서로 다른 확장자마다 작은 정수 ID를 한 번만 부여하고, 모든 확장자를 하나의 역방향 접미사 트라이에 담아
+ * 네임스페이스는 차단 확장자의 ID 집합만 보관하도록 함 (대부분의 테넌트가 같은 확장자를 나눠 쓰므로 트라이는 한 벌만 존재)
+ * ID는 회수하지 않으므로 사전은 지금까지 등장한 서로 다른 확장자 수만큼만 커짐
+ *
+ * 등록은 synchronized로 직렬화하고, 조회는 락 없이 volatile로 공개된 트라이를 읽음
+ * 등록은 공개된 배열을 복사한 사본에 노드를 추가한 뒤 volatile 쓰기로 새 트라이를 공개하므로 (copy-on-write)
+ * 한 번 공개된 트라이는 바뀌지 않고, 조회 스레드는 자신이 읽은 트라이로 풀 수 없는 종료 ID를 보지 않음
+ */
+public final class ExtensionDictionary {
+
+    /**
+     * 전이 테이블 문자 수 (a-z: 0~25, 0-9: 26~35, '.': 36)
+     */
+    static final int ALPHABET = 37;
+
+    static final int DOT = 36;
+
+    static final int ROOT = 0;
+
+    private static final int INITIAL_NODES = 1024;
+
+    private static final ExtensionDictionary GLOBAL = new ExtensionDictionary();
+
+    /**
+     * 확장자 → ID (등록 시에만 사용, 락 안에서만 접근)
+     */
+    private final Map<String, Integer> index = new HashMap<>();
+
+    /**
+     * 등록 중인 배열 (락 안에서만 접근, 등록이 끝나면 trie로 공개된 배열과 같음)
+     */
+    private int[] next = new int[INITIAL_NODES * ALPHABET];
+
+    private int[] terminals = new int[INITIAL_NODES];
+
+    private String[] names = new String[INITIAL_NODES];
+
+    private int nodes = 1;
+
+    private volatile Trie trie = new Trie(next, terminals, names, nodes, 0);
+
+    ExtensionDictionary() {
+    }
+
+    /**
+     * 프로세스 전역 사전
+     *
+     * @return 전역 사전
+     */
+    public static ExtensionDictionary global() {
+        return GLOBAL;
+    }
+
+    /**
+     * 확장자 목록을 등록하고 각 확장자의 ID 반환 (이미 등록된 확장자는 기존 ID)
+     * 트라이에 담을 수 없는 확장자(허용 문자 외 문자 포함)도 ID는 부여하며, 이런 확장자는 매처가 마지막 구간과만 비교
+     *
+     * @param extensions 확장자 목록 (대소문자 무관, 앞의 점 제외)
+     * @return 입력 순서대로의 ID
+     */
+    public synchronized int[] intern(Collection<String> extensions) {
+        int[] ids = new int[extensions.size()];
+        int i = 0;
+        boolean added = false;
+        for (String extension : extensions) {
+            String key = extension.toLowerCase(Locale.ROOT);
+            Integer id = index.get(key);
+            if (id == null) {
+                if (!added) {
+                    // 공개된 배열은 조회 스레드가 읽고 있으므로 사본에 추가
+                    next = next.clone();
+                    terminals = terminals.clone();
+                    names = names.clone();
+                    added = true;
+                }
+                id = add(key);
+            }
+            ids[i++] = id;
+        }
+        if (added) {
+            trie = new Trie(next, terminals, names, nodes, index.size());
+        }
+        return ids;
+    }
+
+    /**
+     * 확장자 하나를 등록하고 ID 반환
+     *
+     * @param extension 확장자 (대소문자 무관, 앞의 점 제외)
+     * @return 확장자 ID
+     */
+    public int intern(String extension) {
+        return intern(List.of(extension))[0];
+    }
+
+    /**
+     * ID의 확장자 조회
+     *
+     * @param id 확장자 ID
+     * @return 확장자 (소문자)
+     */
+    public String extension(int id) {
+        return trie.names[id];
+    }
+
+    /**
+     * 등록된 서로 다른 확장자 수
+     *
+     * @return 확장자 수
+     */
+    public int size() {
+        return trie.size;
+    }
+
+    /**
+     * 트라이 노드 수 (루트 포함)
+     *
+     * @return 노드 수
+     */
+    public int nodeCount() {
+        return trie.nodes;
+    }
+
+    /**
+     * 현재 공개된 트라이 (조회 스레드가 한 번의 판단 동안 같은 배열을 쓰도록 한 번만 읽음)
+     * 공개된 트라이의 배열은 변경되지 않으므로 종료 ID는 항상 size보다 작음
+     */
+    Trie trie() {
+        return trie;
+    }
+
+    private int add(String key) {
+        int id = index.size();
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+        }
+        names[id] = key;
+        index.put(key, id);
+        if (!isTrieKey(key)) {
+            return id;
+        }
+        int node = ROOT;
+        for (int i = key.length() - 1; i >= 0; i--) {
+            int slot = node * ALPHABET + code(key.charAt(i));
+            if (next[slot] == 0) {
+                if (nodes == terminals.length) {
+                    next = Arrays.copyOf(next, next.length * 2);
+                    terminals = Arrays.copyOf(terminals, terminals.length * 2);
+                }
+                next[slot] = nodes++;
+            }
+            node = next[slot];
+        }
+        terminals[node] = id + 1;
+        return id;
+    }
+
+    /**
+     * 빈 구간 없이 ASCII 영문/숫자와 구분자 점으로만 이루어진 확장자인지 확인
+     */
+    static boolean isTrieKey(String extension) {
+        int length = extension.length();
+        if (length == 0 || extension.charAt(0) == '.' || extension.charAt(length - 1) == '.') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = extension.charAt(i);
+            int code = code(c);
+            if (code < 0 || c >= 0x80 || (code == DOT && extension.charAt(i - 1) == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 대소문자를 접은 문자 코드 (a-z: 0~25, 0-9: 26~35, '.': 36), 그 외 -1
+     * 소문자로 바꾸면 ASCII가 되는 비 ASCII 문자(KELVIN SIGN 등)도 같은 문자로 취급
+     */
+    static int code(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 26;
+        }
+        if (c == '.') {
+            return DOT;
+        }
+        if (c >= 0x80) {
+            char lower = Character.toLowerCase(c);
+            return lower < 0x80 ? code(lower) : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * 공개된 트라이
+     * next: 노드별 전이 (node * ALPHABET + code, 0이면 전이 없음),
+     * terminals: 노드에서 끝나는 확장자의 ID + 1 (0이면 없음), names: ID → 확장자
+     */
+    static final class Trie {
+
+        final int[] next;
+        final int[] terminals;
+        final String[] names;
+        final int nodes;
+        final int size;
+
+        private Trie(int[] next, int[] terminals, String[] names, int nodes, int size) {
+            this.next = next;
+            this.terminals = terminals;
+            this.names = names;
+            this.nodes = nodes;
+            this.size = size;
+        }
+    }
+}
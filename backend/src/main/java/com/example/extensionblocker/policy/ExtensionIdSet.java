@@ -0,0 +1,109 @@
+package com.example.extensionblocker.policy;
+
+import java.util.Arrays;
+
+/**
+ * 네임스페이스의 차단 확장자 ID 집합 (불변)
+ * ID 범위에 비해 원소가 많으면 비트맵, 적으면 정렬된 ID 배열 중 더 작은 쪽으로 저장 (Roaring 컨테이너와 같은 선택 기준)
+ * 사전 ID는 등장 순서대로 부여되므로, 흔한 확장자만 쓰는 네임스페이스는 작은 비트맵이 되고
+ * 드문 확장자가 섞인 네임스페이스는 원소 수만큼의 배열이 됨
+ */
+final class ExtensionIdSet {
+
+    static final ExtensionIdSet EMPTY = new ExtensionIdSet(null, new int[0]);
+
+    /**
+     * 비트맵 (ID → 비트), 정렬 배열로 저장하면 null
+     */
+    private final long[] words;
+
+    /**
+     * 정렬된 ID 배열, 비트맵으로 저장하면 null
+     */
+    private final int[] ids;
+
+    private ExtensionIdSet(long[] words, int[] ids) {
+        this.words = words;
+        this.ids = ids;
+    }
+
+    /**
+     * ID 목록으로 집합 생성 (중복 허용, 인자 배열은 변경될 수 있음)
+     *
+     * @param values 확장자 ID 목록
+     * @return ID 집합
+     */
+    static ExtensionIdSet of(int[] values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(values);
+        int distinct = 1;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] != values[distinct - 1]) {
+                values[distinct++] = values[i];
+            }
+        }
+        int max = values[distinct - 1];
+        int wordCount = (max >>> 6) + 1;
+        if ((long) wordCount * Long.BYTES <= (long) distinct * Integer.BYTES) {
+            long[] words = new long[wordCount];
+            for (int i = 0; i < distinct; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new ExtensionIdSet(words, null);
+        }
+        return new ExtensionIdSet(null, Arrays.copyOf(values, distinct));
+    }
+
+    /**
+     * ID 포함 여부
+     *
+     * @param id 확장자 ID
+     * @return 포함하면 true
+     */
+    boolean contains(int id) {
+        if (words != null) {
+            int word = id >>> 6;
+            return word < words.length && (words[word] & (1L << id)) != 0;
+        }
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * 원소 수
+     *
+     * @return 원소 수
+     */
+    int size() {
+        if (words == null) {
+            return ids.length;
+        }
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 원소를 오름차순으로 반환
+     *
+     * @return ID 배열 (새 배열)
+     */
+    int[] toArray() {
+        if (words == null) {
+            return ids.clone();
+        }
+        int[] values = new int[size()];
+        int i = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                values[i++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.extensionblocker.policy;
+
+import com.example.extensionblocker.type.MatchMode;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 차단 확장자 매처
+ * 모든 확장자를 담은 전역 사전(ExtensionDictionary)의 역방향 접미사 트라이를 파일명 끝에서부터 한 번만 읽으며 따라가고,
+ * 확장자가 끝나는 노드에서 그 확장자 ID가 이 매처의 차단 ID 집합에 있는지 비트 하나로 확인
+ * 규칙 수와 무관하게 파일명 길이에만 비례하는 비용으로 판단하며 문자열을 생성하지 않음
+ * 규칙은 점(.) 바로 뒤에서 시작하는 구간과 일치할 때만 매칭되므로 파일명의 첫 부분(이름)은 매칭되지 않음
+ * 파일명은 CanonicalFilename으로 정규화한 뒤 비교하므로 끝의 점, NTFS 스트림, 방향 제어 문자, 전각 문자,
+ * 퍼센트 인코딩으로 확장자를 숨길 수 없음
+ */
+public final class ExtensionMatcher {
+
+    private static final int ALPHABET = ExtensionDictionary.ALPHABET;
+
+    private static final int DOT = ExtensionDictionary.DOT;
+
+    private static final int ROOT = ExtensionDictionary.ROOT;
+
+    private final ExtensionDictionary dictionary;
+
+    /**
+     * 차단 확장자 ID 집합
+     */
+    private final ExtensionIdSet blocked;
+
+    private final MatchMode mode;
+
+    /**
+     * 트라이에 담을 수 없는 규칙 (허용 문자 외 문자 포함), 마지막 구간과만 비교
+     */
+    private final Set<String> others;
+
+    private ExtensionMatcher(ExtensionDictionary dictionary, ExtensionIdSet blocked, MatchMode mode,
+            Set<String> others) {
+        this.dictionary = dictionary;
+        this.blocked = blocked;
+        this.mode = mode;
+        this.others = others;
+    }
+
+    /**
+     * 차단 확장자 목록으로 매처 생성 (SUFFIX 모드)
+     *
+     * @param extensions 차단 확장자 목록 (앞의 점 제외, 예: "exe", "tar.gz")
+     * @return 컴파일된 매처
+     */
+    public static ExtensionMatcher compile(Collection<String> extensions) {
+        return compile(extensions, MatchMode.SUFFIX);
+    }
+
+    /**
+     * 차단 확장자 목록으로 매처 생성 (확장자는 전역 사전에 등록)
+     *
+     * @param extensions 차단 확장자 목록 (앞의 점 제외, 예: "exe", "tar.gz")
+     * @param mode       매칭 모드
+     * @return 컴파일된 매처
+     */
+    public static ExtensionMatcher compile(Collection<String> extensions, MatchMode mode) {
+        ExtensionDictionary dictionary = ExtensionDictionary.global();
+        return compile(dictionary, dictionary.intern(extensions), mode);
+    }
+
+    /**
+     * 사전에 등록된 확장자 ID 목록으로 매처 생성
+     *
+     * @param dictionary 확장자 사전
+     * @param ids        차단 확장자 ID 목록 (배열은 변경될 수 있음)
+     * @param mode       매칭 모드
+     * @return 컴파일된 매처
+     */
+    static ExtensionMatcher compile(ExtensionDictionary dictionary, int[] ids, MatchMode mode) {
+        ExtensionIdSet blocked = ExtensionIdSet.of(ids);
+        Set<String> others = null;
+        for (int id : blocked.toArray()) {
+            String extension = dictionary.extension(id);
+            if (!ExtensionDictionary.isTrieKey(extension)) {
+                if (others == null) {
+                    others = new HashSet<>();
+                }
+                others.add(extension);
+            }
+        }
+        return new ExtensionMatcher(dictionary, blocked, mode, others != null ? Set.copyOf(others) : Set.of());
+    }
+
+    /**
+     * 매칭 방식
+     *
+     * @return 매칭 방식
+     */
+    public MatchMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 확장자 차단 여부 확인
+     *
+     * @param extension 확장자 (소문자, 앞의 점 제외)
+     * @return true: 차단, false: 허용
+     */
+    public boolean contains(String extension) {
+        ExtensionDictionary.Trie trie = dictionary.trie();
+        int node = ROOT;
+        for (int i = extension.length() - 1; i >= 0 && node >= 0; i--) {
+            int code = ExtensionDictionary.code(extension.charAt(i));
+            node = code < 0 ? -1 : trie.next[node * ALPHABET + code];
+            if (node == ROOT) {
+                node = -1;
+            }
+        }
+        if (node > ROOT && isBlocked(trie, node)) {
+            return true;
+        }
+        return !others.isEmpty() && others.contains(extension);
+    }
+
+    /**
+     * 파일명이 차단 대상인지 확인
+     *
+     * @param filename 파일명
+     * @return true: 차단, false: 허용 (확장자가 없으면 false)
+     */
+    public boolean matches(CharSequence filename) {
+        return find(filename) != null;
+    }
+
+    /**
+     * 파일명과 일치하는 차단 규칙 조회
+     * SUFFIX 모드는 점으로 끝나는 접미사("a.tar.gz"의 "gz", "tar.gz")만,
+     * ANY_SEGMENT 모드는 이름 뒤의 모든 구간 연속("a.exe.pdf"의 "exe" 포함)을 역방향 순회로 비교
+     * 정규화한 파일명의 마지막 경로 구성 요소만 보므로 디렉터리 이름은 매칭되지 않음
+     *
+     * @param filename 파일명 (정규화 전 또는 CanonicalFilename)
+     * @return 일치한 규칙 (파일명 끝에 가까운 점에서 시작하는 것 우선), 없으면 null
+     */
+    public String find(CharSequence filename) {
+        CanonicalFilename name = CanonicalFilename.of(filename);
+        ExtensionDictionary.Trie trie = dictionary.trie();
+        String found = mode == MatchMode.ANY_SEGMENT ? findAnySegment(name, trie) : findSuffix(name, trie);
+        return found != null || others.isEmpty() ? found : findOther(name);
+    }
+
+    /**
+     * 파일명 끝에서부터 트라이를 한 번 따라가며 점에서 끝나는 차단 규칙 조회 (SUFFIX 모드)
+     */
+    private String findSuffix(CanonicalFilename name, ExtensionDictionary.Trie trie) {
+        int[] next = trie.next;
+        int node = ROOT;
+        for (int i = name.last(); i >= 0; i = name.before(i)) {
+            int code = ExtensionDictionary.code(name.at(i));
+            if (code == DOT && isBlocked(trie, node)) {
+                return trie.names[trie.terminals[node] - 1];
+            }
+            node = code < 0 ? ROOT : next[node * ALPHABET + code];
+            if (node == ROOT) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 구간 끝(파일명 끝과 각 점의 바로 앞)마다 트라이를 처음부터 다시 따라가며 차단 규칙 조회 (ANY_SEGMENT 모드)
+     * 커서 배열 없이 찾은 규칙 앞의 점보다 오른쪽에서 시작하는 구간만 비교하므로 파일명마다 메모리를 할당하지 않음
+     * 규칙 앞의 점이 같으면 더 오른쪽에서 끝나는(먼저 시작한) 규칙 우선
+     */
+    private String findAnySegment(CanonicalFilename name, ExtensionDictionary.Trie trie) {
+        int[] next = trie.next;
+        String found = null;
+        int foundDot = -1;
+        int start = name.last();
+        while (start > foundDot) {
+            int node = ROOT;
+            for (int i = start; i > foundDot; i = name.before(i)) {
+                int code = ExtensionDictionary.code(name.at(i));
+                if (code == DOT && isBlocked(trie, node)) {
+                    found = trie.names[trie.terminals[node] - 1];
+                    foundDot = i;
+                    break;
+                }
+                node = code < 0 ? ROOT : next[node * ALPHABET + code];
+                if (node == ROOT) {
+                    break;
+                }
+            }
+            // 다음 구간은 start 왼쪽의 첫 점 바로 앞에서 시작
+            int dot = start;
+            while (dot > foundDot && ExtensionDictionary.code(name.at(dot)) != DOT) {
+                dot = name.before(dot);
+            }
+            if (dot <= foundDot) {
+                break;
+            }
+            start = name.before(dot);
+        }
+        return found;
+    }
+
+    /**
+     * 파일명에서 확장자 추출 (응답 표시용)
+     *
+     * @param filename 파일명 (예: "test.EXE", "evil.exe::$DATA")
+     * @return OS가 따르는 확장자 (점 제외, 소문자, 예: "exe"), 없으면 빈 문자열
+     */
+    public static String extractExtension(String filename) {
+        return CanonicalFilename.of(filename).extension();
+    }
+
+    /**
+     * 트라이에 담을 수 없는 규칙을 마지막 구간과 비교
+     */
+    private String findOther(CanonicalFilename name) {
+        String extension = name.extension();
+        return others.contains(extension) ? extension : null;
+    }
+
+    /**
+     * 노드에서 끝나는 확장자가 이 매처의 차단 대상인지 확인
+     */
+    private boolean isBlocked(ExtensionDictionary.Trie trie, int node) {
+        int terminal = trie.terminals[node];
+        return terminal != 0 && blocked.contains(terminal - 1);
+    }
+}
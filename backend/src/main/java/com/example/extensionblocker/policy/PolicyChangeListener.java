@@ -0,0 +1,189 @@
+package com.example.extensionblocker.policy;
+
+import com.example.extensionblocker.config.PolicySyncProperties;
+import com.example.extensionblocker.datasource.ReadYourWrites;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * 다른 인스턴스의 정책 변경 알림(PostgreSQL LISTEN/NOTIFY) 수신기
+ * 커넥션 풀과 별도로 전용 연결 하나를 유지하며, 알림을 받으면 해당 네임스페이스의 스냅샷만 교체
+ * 연결이 끊기면 지수 백오프로 재연결하고, 끊긴 동안 놓친 알림은 전체 재동기화로 보완
+ */
+@Component
+public class PolicyChangeListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyChangeListener.class);
+
+    /**
+     * 정책 변경 알림 채널 (payload: "버전:네임스페이스")
+     */
+    public static final String CHANNEL = "extension_policy_changed";
+
+    private final PolicySnapshotCache snapshotCache;
+    private final DataSourceProperties dataSourceProperties;
+    private final PolicySyncProperties properties;
+    private final ReadYourWrites readYourWrites;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread worker;
+
+    public PolicyChangeListener(PolicySnapshotCache snapshotCache, DataSourceProperties dataSourceProperties,
+            PolicySyncProperties properties, ReadYourWrites readYourWrites) {
+        this.snapshotCache = snapshotCache;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("[start] Policy change listener disabled");
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "policy-change-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(Duration.ofSeconds(5).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Duration backoff = properties.getReconnectInitialBackoff();
+        while (running) {
+            try (Connection conn = connect()) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("[run] Listening for policy changes on channel={}", CHANNEL);
+                backoff = properties.getReconnectInitialBackoff();
+
+                // LISTEN 이후에 재동기화해야 연결이 없던 동안의 변경을 놓치지 않음
+                snapshotCache.resync();
+                listen(conn.unwrap(PGConnection.class), conn);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("[run] Policy change listener disconnected, retrying in {}ms: {}",
+                        backoff.toMillis(), e.getMessage());
+                if (!sleep(backoff)) {
+                    break;
+                }
+                backoff = min(backoff.multipliedBy(2), properties.getReconnectMaxBackoff());
+            } finally {
+                connection = null;
+            }
+        }
+        log.info("[run] Policy change listener stopped");
+    }
+
+    private void listen(PGConnection pg, Connection conn) throws SQLException {
+        int timeout = (int) properties.getPollTimeout().toMillis();
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(timeout);
+            if (notifications == null || notifications.length == 0) {
+                // 알림이 없으면 조용히 끊긴 연결(NAT 타임아웃 등)인지 확인
+                if (!conn.isValid(timeout / 1000 + 1)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+
+    /**
+     * "버전:네임스페이스" 형식의 알림 처리
+     */
+    private void handle(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator <= 0) {
+            log.warn("[handle] Ignoring malformed policy change payload={}", payload);
+            return;
+        }
+        try {
+            long version = Long.parseLong(payload.substring(0, separator));
+            String namespace = payload.substring(separator + 1);
+            log.debug("[handle] Policy changed: namespace={}, version={}", namespace, version);
+            readYourWrites.markWritten(namespace);
+            snapshotCache.refreshIfNewer(namespace, version);
+        } catch (NumberFormatException e) {
+            log.warn("[handle] Ignoring malformed policy change payload={}", payload);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties info = new Properties();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        if (username != null) {
+            info.setProperty("user", username);
+        }
+        if (password != null) {
+            info.setProperty("password", password);
+        }
+        info.setProperty("ApplicationName", "extension-blocker-policy-listener");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), info);
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            log.debug("[closeQuietly] Failed to close listener connection: {}", e.getMessage());
+        }
+    }
+}
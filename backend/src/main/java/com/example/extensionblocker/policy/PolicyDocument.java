@@ -0,0 +1,32 @@
+package com.example.extensionblocker.policy;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 직렬화된 정책 조회 응답
+ * ETag는 정책 버전과 본문 해시로 만들어 인스턴스가 달라도 같은 내용이면 같은 값을 가짐
+ *
+ * @param body JSON 본문
+ * @param etag 강한 ETag (따옴표 포함)
+ */
+public record PolicyDocument(byte[] body, String etag) {
+
+    /**
+     * 본문으로 문서 생성
+     *
+     * @param version 정책 버전
+     * @param body    JSON 본문
+     * @return 정책 문서
+     */
+    public static PolicyDocument of(long version, byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String hash = HexFormat.of().formatHex(digest, 0, 12);
+            return new PolicyDocument(body, "\"" + version + "-" + hash + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
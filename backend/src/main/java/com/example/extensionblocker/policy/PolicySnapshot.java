@@ -0,0 +1,425 @@
+package com.example.extensionblocker.policy;
+
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.dto.CompiledPolicyResponse;
+import com.example.extensionblocker.dto.ExtensionDto;
+import com.example.extensionblocker.dto.PolicyResponse;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.MatchMode;
+import com.example.extensionblocker.type.RuleEffect;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 네임스페이스별로 컴파일된 불변 정책 스냅샷
+ * 파일 검증 시 DB 조회 없이 차단 확장자 집합만으로 판단할 수 있도록 사용
+ * 상위 네임스페이스가 있으면 상위 스냅샷의 유효 규칙에 자신의 규칙(BLOCK 추가, ALLOW 해제)을 덧씌워
+ * 평탄화한 결과로 컴파일하므로, 검증 시 계층을 따라 올라가지 않음
+ * 테넌트 수만큼 상주하므로 규칙은 객체 대신 전역 사전의 확장자 ID와 원시 타입 배열로만 보관하고,
+ * 정책 조회 응답은 요청될 때 배열에서 만듦
+ */
+@Getter
+public final class PolicySnapshot {
+
+    /**
+     * 규칙 종류 비트: 커스텀 확장자 (없으면 고정 확장자)
+     */
+    private static final byte CUSTOM = 1;
+
+    /**
+     * 규칙 종류 비트: 차단 해제 (없으면 차단)
+     */
+    private static final byte ALLOW = 2;
+
+    private static final int[] NO_KEYS = new int[0];
+    private static final long[] NO_IDS = new long[0];
+    private static final byte[] NO_KINDS = new byte[0];
+
+    private static final ExtensionMatcher EMPTY_MATCHER = ExtensionMatcher.compile(List.of());
+
+    /**
+     * 정책 네임스페이스
+     */
+    private final String namespace;
+
+    /**
+     * 정책 ID (정책이 없으면 null)
+     */
+    private final Long policyId;
+
+    /**
+     * 스냅샷을 만든 시점의 정책 버전 (정책이 없으면 -1)
+     */
+    private final long version;
+
+    /**
+     * 상위 정책 네임스페이스 (최상위 정책이면 null)
+     */
+    private final String parentNamespace;
+
+    /**
+     * 최상위 정책으로부터의 깊이 (최상위 정책이면 0)
+     */
+    private final int depth;
+
+    /**
+     * 차단 확장자 매처
+     */
+    private final ExtensionMatcher matcher;
+
+    /**
+     * 직렬화된 정책 조회 응답 (처음 요청될 때 생성)
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile PolicyDocument document;
+
+    /**
+     * 직렬화된 컴파일된 정책 조회 응답 (처음 요청될 때 생성)
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile PolicyDocument compiledDocument;
+
+    /**
+     * 이 네임스페이스에 직접 정의된 규칙 (규칙 ID, 확장자 ID, 종류 비트)
+     * 상위 정책이 바뀌었을 때 DB 조회 없이 다시 컴파일하기 위해 보관
+     */
+    @Getter(AccessLevel.NONE)
+    private final Rules own;
+
+    /**
+     * 상속을 반영한 차단 규칙 (순서 유지, 물려받은 규칙의 규칙 ID는 0)
+     * 차단 해제 규칙이 없는 최상위 정책이면 own과 같은 배열을 공유
+     */
+    @Getter(AccessLevel.NONE)
+    private final Rules effective;
+
+    /**
+     * 컴파일에 사용한 상위 스냅샷 (상위 스냅샷이 교체되었는지 확인하는 용도)
+     */
+    @Getter(AccessLevel.NONE)
+    private final PolicySnapshot parent;
+
+    private PolicySnapshot(String namespace, Long policyId, long version, PolicySnapshot parent,
+            ExtensionMatcher matcher, Rules own, Rules effective) {
+        this.namespace = namespace;
+        this.policyId = policyId;
+        this.version = version;
+        this.parentNamespace = parent != null ? parent.getNamespace() : null;
+        this.depth = parent != null ? parent.getDepth() + 1 : 0;
+        this.matcher = matcher;
+        this.own = own;
+        this.effective = effective;
+        this.parent = parent;
+    }
+
+    /**
+     * 정책과 규칙 목록으로 스냅샷 생성 (상위 정책 없음)
+     *
+     * @param policy 정책 객체
+     * @param rules  정책에 속한 규칙 목록
+     * @param mode   파일명 매칭 방식
+     * @return 컴파일된 스냅샷
+     */
+    public static PolicySnapshot compile(ExtensionPolicy policy, List<ExtensionRule> rules, MatchMode mode) {
+        return compile(policy, rules, null, mode);
+    }
+
+    /**
+     * 정책과 규칙 목록을 상위 스냅샷의 유효 규칙 위에 덧씌워 스냅샷 생성
+     * 규칙의 확장자는 전역 사전에 등록되고, 스냅샷은 규칙 객체를 보관하지 않음
+     *
+     * @param policy 정책 객체
+     * @param rules  정책에 속한 규칙 목록
+     * @param parent 상위 정책 스냅샷 (없으면 null)
+     * @param mode   파일명 매칭 방식
+     * @return 컴파일된 스냅샷
+     */
+    public static PolicySnapshot compile(ExtensionPolicy policy, List<ExtensionRule> rules, PolicySnapshot parent,
+            MatchMode mode) {
+        List<String> extensions = new ArrayList<>(rules.size());
+        for (ExtensionRule rule : rules) {
+            extensions.add(rule.getExtension());
+        }
+        int[] keys = ExtensionDictionary.global().intern(extensions);
+        long[] ids = new long[rules.size()];
+        byte[] kinds = new byte[rules.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ExtensionRule rule = rules.get(i);
+            ids[i] = rule.getId() != null ? rule.getId() : 0L;
+            kinds[i] = kindOf(rule);
+        }
+        long version = policy.getVersion() != null ? policy.getVersion() : 0L;
+        return build(policy.getNamespace(), policy.getId(), version, new Rules(ids, keys, kinds), parent, mode);
+    }
+
+    /**
+     * 정책이 존재하지 않는 네임스페이스의 빈 스냅샷 생성
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 모든 파일을 허용하는 스냅샷
+     */
+    public static PolicySnapshot empty(String namespace) {
+        return new PolicySnapshot(namespace, null, -1L, null, EMPTY_MATCHER, Rules.EMPTY, Rules.EMPTY);
+    }
+
+    /**
+     * 이 네임스페이스의 규칙은 그대로 두고 새 상위 스냅샷으로 다시 컴파일 (DB 조회 없음)
+     *
+     * @param parent 상위 정책 스냅샷 (없으면 null)
+     * @param mode   파일명 매칭 방식
+     * @return 다시 컴파일된 스냅샷 (정책이 없는 스냅샷이면 자기 자신)
+     */
+    PolicySnapshot recompile(PolicySnapshot parent, MatchMode mode) {
+        return policyId != null ? build(namespace, policyId, version, own, parent, mode) : this;
+    }
+
+    /**
+     * 주어진 상위 스냅샷으로 컴파일된 스냅샷인지 확인
+     *
+     * @param parent 상위 정책 스냅샷
+     * @return 같은 상위 스냅샷으로 컴파일되었으면 true (정책이 없는 스냅샷은 항상 true)
+     */
+    boolean isCompiledFrom(PolicySnapshot parent) {
+        return policyId == null || this.parent == parent;
+    }
+
+    /**
+     * 상위 스냅샷의 유효 규칙 위에 자신의 규칙을 덧씌워 스냅샷 생성
+     * 차단 해제 규칙은 같은 확장자를 제거하고, 차단 규칙은 같은 확장자가 있으면 그 자리를 대체하고 없으면 뒤에 추가
+     */
+    private static PolicySnapshot build(String namespace, Long policyId, long version, Rules own,
+            PolicySnapshot parent, MatchMode mode) {
+        Rules inherited = parent != null ? parent.effective : Rules.EMPTY;
+        int capacity = inherited.size() + own.size();
+        long[] ids = new long[capacity];
+        int[] keys = new int[capacity];
+        byte[] kinds = new byte[capacity];
+        Map<Integer, Integer> positions = new HashMap<>(capacity * 2);
+        int count = 0;
+        for (int i = 0; i < inherited.size(); i++) {
+            keys[count] = inherited.keys[i];
+            kinds[count] = inherited.kinds[i];
+            positions.put(keys[count], count);
+            count++;
+        }
+        for (int i = 0; i < own.size(); i++) {
+            int key = own.keys[i];
+            Integer position = positions.get(key);
+            if ((own.kinds[i] & ALLOW) != 0) {
+                if (position != null) {
+                    keys[position] = -1;
+                    positions.remove(key);
+                }
+                continue;
+            }
+            if (position == null) {
+                position = count++;
+                positions.put(key, position);
+            }
+            ids[position] = own.ids[i];
+            keys[position] = key;
+            kinds[position] = own.kinds[i];
+        }
+
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] >= 0) {
+                ids[size] = ids[i];
+                keys[size] = keys[i];
+                kinds[size] = kinds[i];
+                size++;
+            }
+        }
+        Rules effective = new Rules(Arrays.copyOf(ids, size), Arrays.copyOf(keys, size), Arrays.copyOf(kinds, size));
+        if (effective.sameAs(own)) {
+            effective = own;
+        }
+        ExtensionMatcher matcher = ExtensionMatcher.compile(ExtensionDictionary.global(), effective.keys.clone(), mode);
+        return new PolicySnapshot(namespace, policyId, version, parent, matcher, own, effective);
+    }
+
+    private static byte kindOf(ExtensionRule rule) {
+        byte kind = rule.getType() == ExtensionType.CUSTOM ? CUSTOM : 0;
+        return rule.getEffect() == RuleEffect.ALLOW ? (byte) (kind | ALLOW) : kind;
+    }
+
+    /**
+     * 정책 존재 여부
+     *
+     * @return 정책이 DB에 존재하면 true
+     */
+    public boolean exists() {
+        return policyId != null;
+    }
+
+    /**
+     * 확장자 차단 여부 확인
+     *
+     * @param extension 확장자 (소문자, 점 제외)
+     * @return true: 차단, false: 허용
+     */
+    public boolean isBlocked(String extension) {
+        return matcher.contains(extension);
+    }
+
+    /**
+     * 파일명의 확장자 차단 여부 확인 (문자열 생성 없이 판단)
+     *
+     * @param filename 파일명
+     * @return true: 차단, false: 허용 (확장자가 없으면 false)
+     */
+    public boolean isFileBlocked(CharSequence filename) {
+        return matcher.matches(filename);
+    }
+
+    /**
+     * 파일명과 일치한 차단 규칙 조회
+     *
+     * @param filename 파일명
+     * @return 일치한 규칙 (예: "tar.gz"), 차단 대상이 아니면 null
+     */
+    public String findBlockedExtension(CharSequence filename) {
+        return matcher.find(filename);
+    }
+
+    /**
+     * 응답에 표시할 확장자
+     * 차단된 파일은 일치한 규칙("a.exe.pdf" → "exe"), 그 외에는 정규화한 파일명의 마지막 점 이후
+     *
+     * @param filename 파일명
+     * @return 확장자 (점 제외, 소문자), 없으면 빈 문자열
+     */
+    public String describeExtension(String filename) {
+        CanonicalFilename name = CanonicalFilename.of(filename);
+        String blocked = matcher.find(name);
+        return blocked != null ? blocked : name.extension();
+    }
+
+    /**
+     * 정책 조회 응답 (고정/커스텀 확장자 목록)
+     * 스냅샷에는 응답 객체를 보관하지 않으므로 호출할 때마다 새로 만듦
+     *
+     * @return 정책 조회 응답
+     */
+    public PolicyResponse getResponse() {
+        ExtensionDictionary dictionary = ExtensionDictionary.global();
+        Map<String, Integer> ownFixed = new HashMap<>();
+        List<ExtensionDto> allowedCustom = new ArrayList<>();
+        for (int i = 0; i < own.size(); i++) {
+            if ((own.kinds[i] & CUSTOM) == 0) {
+                ownFixed.put(dictionary.extension(own.keys[i]), i);
+            } else if ((own.kinds[i] & ALLOW) != 0) {
+                allowedCustom.add(new ExtensionDto(own.ids[i], dictionary.extension(own.keys[i]), false));
+            }
+        }
+
+        Set<String> inheritedFixed = new HashSet<>();
+        List<ExtensionDto> custom = new ArrayList<>();
+        for (int i = 0; i < effective.size(); i++) {
+            String extension = dictionary.extension(effective.keys[i]);
+            if ((effective.kinds[i] & CUSTOM) == 0) {
+                inheritedFixed.add(extension);
+                continue;
+            }
+            boolean inherited = effective.ids[i] == 0L;
+            custom.add(new ExtensionDto(inherited ? null : effective.ids[i], extension, true, inherited));
+        }
+        custom.addAll(allowedCustom);
+
+        List<ExtensionDto> fixed = new ArrayList<>(ExtensionConst.DEFAULT_FIXED_EXTENSIONS.size());
+        for (String extension : ExtensionConst.DEFAULT_FIXED_EXTENSIONS) {
+            Integer index = ownFixed.get(extension);
+            if (index != null) {
+                fixed.add(new ExtensionDto(own.ids[index], extension, (own.kinds[index] & ALLOW) == 0));
+            } else {
+                boolean active = inheritedFixed.contains(extension);
+                fixed.add(new ExtensionDto(null, extension, active, active));
+            }
+        }
+        return new PolicyResponse(List.copyOf(fixed), List.copyOf(custom));
+    }
+
+    /**
+     * 직렬화된 정책 조회 응답
+     * 스냅샷은 불변이므로 처음 한 번만 직렬화하고 이후에는 같은 바이트를 재사용
+     *
+     * @param serializer 응답 직렬화 함수
+     * @return 직렬화된 응답과 ETag
+     */
+    public PolicyDocument getDocument(Function<PolicyResponse, byte[]> serializer) {
+        PolicyDocument current = document;
+        if (current == null) {
+            current = PolicyDocument.of(version, serializer.apply(getResponse()));
+            document = current;
+        }
+        return current;
+    }
+
+    /**
+     * 컴파일된 정책 조회 응답 (상속을 반영한 차단 확장자 목록과 매칭 방식)
+     *
+     * @return 컴파일된 정책 조회 응답
+     */
+    public CompiledPolicyResponse getCompiledResponse() {
+        ExtensionDictionary dictionary = ExtensionDictionary.global();
+        List<String> blocked = new ArrayList<>(effective.size());
+        for (int i = 0; i < effective.size(); i++) {
+            blocked.add(dictionary.extension(effective.keys[i]));
+        }
+        return new CompiledPolicyResponse(namespace, version, matcher.getMode(), List.copyOf(blocked));
+    }
+
+    /**
+     * 직렬화된 컴파일된 정책 조회 응답 (getDocument와 같이 처음 한 번만 직렬화)
+     *
+     * @param serializer 응답 직렬화 함수
+     * @return 직렬화된 응답과 ETag
+     */
+    public PolicyDocument getCompiledDocument(Function<CompiledPolicyResponse, byte[]> serializer) {
+        PolicyDocument current = compiledDocument;
+        if (current == null) {
+            current = PolicyDocument.of(version, serializer.apply(getCompiledResponse()));
+            compiledDocument = current;
+        }
+        return current;
+    }
+
+    /**
+     * 규칙 배열 묶음 (같은 인덱스가 한 규칙)
+     * ids: 규칙 ID (물려받은 규칙은 0), keys: 전역 사전의 확장자 ID, kinds: 종류 비트 (CUSTOM, ALLOW)
+     */
+    private static final class Rules {
+
+        static final Rules EMPTY = new Rules(NO_IDS, NO_KEYS, NO_KINDS);
+
+        final long[] ids;
+        final int[] keys;
+        final byte[] kinds;
+
+        Rules(long[] ids, int[] keys, byte[] kinds) {
+            this.ids = ids;
+            this.keys = keys;
+            this.kinds = kinds;
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        boolean sameAs(Rules other) {
+            return Arrays.equals(keys, other.keys) && Arrays.equals(kinds, other.kinds)
+                    && Arrays.equals(ids, other.ids);
+        }
+    }
+}
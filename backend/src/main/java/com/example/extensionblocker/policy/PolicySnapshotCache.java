@@ -0,0 +1,374 @@
+package com.example.extensionblocker.policy;
+
+import com.example.extensionblocker.config.ExtensionMatchingProperties;
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.mapper.ExtensionPolicyMapper;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.model.ExtensionRule;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 네임스페이스별 정책 스냅샷 캐시
+ * 검증 요청은 캐시된 스냅샷만 읽고, 규칙 변경이 커밋되면 해당 네임스페이스의 스냅샷을 통째로 교체
+ * 다른 인스턴스의 변경은 PolicyChangeListener가 받은 알림으로 반영
+ * 상위 네임스페이스의 스냅샷이 교체되면 캐시된 하위 네임스페이스만 DB 조회 없이 다시 컴파일
+ */
+@Component
+@RequiredArgsConstructor
+public class PolicySnapshotCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicySnapshotCache.class);
+
+    /**
+     * 정책이 없는 네임스페이스의 빈 스냅샷을 캐시할 최대 개수 (정책이 있는 스냅샷과 따로 셈)
+     * 임의의 네임스페이스 요청으로 캐시가 무한히 커지는 것을 막으면서, 정책 수와 관계없이
+     * 없는 네임스페이스의 검증도 DB 조회 없이 처리 (넘으면 가장 먼저 캐시한 빈 스냅샷부터 제거)
+     */
+    private static final int MAX_CACHED_EMPTY = 10_000;
+
+    /**
+     * 로드/교체 직렬화용 락 개수 (2의 거듭제곱)
+     */
+    private static final int REFRESH_LOCK_STRIPES = 64;
+
+    private final ExtensionPolicyMapper policyMapper;
+    private final ExtensionMatchingProperties matchingProperties;
+
+    private final ConcurrentMap<String, PolicySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 빈 스냅샷 수
+     */
+    private final AtomicInteger emptyCount = new AtomicInteger();
+
+    /**
+     * 빈 스냅샷을 캐시한 순서 (이미 교체된 스냅샷이 남아 있을 수 있으며 제거할 때 건너뜀)
+     */
+    private final ConcurrentLinkedQueue<PolicySnapshot> emptyOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 상위 네임스페이스 → 캐시된 하위 네임스페이스 목록
+     */
+    private final ConcurrentMap<String, Set<String>> children = new ConcurrentHashMap<>();
+
+    /**
+     * 네임스페이스 해시로 나눈 교체용 락 (DB 조회 중에는 잡지 않음)
+     * ConcurrentHashMap.compute의 synchronized 구간 안에서 리스너를 호출하면
+     * 가상 스레드가 캐리어 스레드에 고정되므로 ReentrantLock을 사용
+     */
+    private final ReentrantLock[] refreshLocks = createLocks();
+
+    /**
+     * 정책 버전이 바뀐 스냅샷을 넣을 때 호출할 함수 (변경 피드 대기 요청 처리용)
+     */
+    private final List<Consumer<PolicySnapshot>> versionListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 네임스페이스의 스냅샷 조회 (없으면 DB에서 로드)
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 정책 스냅샷
+     */
+    public PolicySnapshot get(String namespace) {
+        if (namespace == null) {
+            return PolicySnapshot.empty(null);
+        }
+        PolicySnapshot snapshot = snapshots.get(namespace);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return load(namespace, false, 0);
+    }
+
+    /**
+     * 캐시된 스냅샷만 조회 (DB를 조회하지 않음)
+     * DB를 기다릴 수 없는 스레드(바이너리 검증 I/O 스레드 등)에서 사용
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 캐시된 스냅샷, 없으면 null
+     */
+    public PolicySnapshot getIfPresent(String namespace) {
+        return namespace != null ? snapshots.get(namespace) : PolicySnapshot.empty(null);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 네임스페이스의 스냅샷을 다시 컴파일
+     * 트랜잭션이 없으면 즉시 교체
+     *
+     * @param namespace 정책 네임스페이스
+     */
+    public void refreshAfterCommit(String namespace) {
+        runAfterCommit(() -> refresh(namespace));
+    }
+
+    /**
+     * 다른 인스턴스의 변경 알림 처리
+     * 캐시된 스냅샷이 알림의 버전보다 오래된 경우에만 다시 컴파일하며,
+     * 캐시되지 않은 네임스페이스는 다음 조회 시 로드되므로 아무것도 하지 않음
+     *
+     * @param namespace 정책 네임스페이스
+     * @param version   변경된 정책 버전
+     */
+    public void refreshIfNewer(String namespace, long version) {
+        PolicySnapshot snapshot = snapshots.get(namespace);
+        if (snapshot == null || snapshot.getVersion() >= version) {
+            return;
+        }
+        load(namespace, true, 0);
+        log.debug("[refreshIfNewer] Recompiled policy snapshot: namespace={}, version={}", namespace, version);
+    }
+
+    /**
+     * 캐시 전체를 DB의 정책 버전과 비교하여 달라진 네임스페이스만 다시 컴파일
+     * 변경 알림을 놓쳤을 수 있는 경우(리스너 연결 재수립 등)에 사용
+     *
+     * @return 다시 컴파일한 네임스페이스 수
+     */
+    public int resync() {
+        Map<String, Long> versions = new HashMap<>();
+        for (ExtensionPolicy policy : policyMapper.getPolicyVersions()) {
+            versions.put(policy.getNamespace(), policy.getVersion());
+        }
+        int refreshed = 0;
+        for (PolicySnapshot snapshot : snapshots.values()) {
+            Long version = versions.get(snapshot.getNamespace());
+            boolean stale = version == null ? snapshot.exists() : snapshot.getVersion() != version;
+            if (stale) {
+                refresh(snapshot.getNamespace());
+                refreshed++;
+            }
+        }
+        log.info("[resync] Resynchronized policy snapshots: cached={}, refreshed={}", snapshots.size(), refreshed);
+        return refreshed;
+    }
+
+    /**
+     * 네임스페이스의 스냅샷을 DB에서 다시 컴파일하여 교체하고, 캐시된 하위 네임스페이스도 다시 컴파일
+     * 같은 네임스페이스에 대한 교체는 직렬화되며 오래된 스냅샷이 최신 스냅샷을 덮어쓰지 않음
+     *
+     * @param namespace 정책 네임스페이스
+     */
+    public void refresh(String namespace) {
+        load(namespace, true, 0);
+        log.debug("[refresh] Recompiled policy snapshot: namespace={}", namespace);
+    }
+
+    /**
+     * 스냅샷을 DB에서 로드하여 캐시에 넣음
+     * DB 조회는 락 밖에서 하고 교체만 락 안에서 하므로, 커넥션을 쥔 채 락을 기다리는 스레드(커밋 직후 갱신)와
+     * 락을 쥔 채 커넥션을 기다리는 스레드(알림 처리, 캐시 미스)가 서로를 기다리며 커넥션 풀이 고갈되지 않음
+     * 조회가 늦게 끝난 쪽이 더 최신 버전을 덮어쓰지 않도록 교체 시 버전을 비교하며,
+     * 상위 스냅샷이 아직 캐시에 없으면 상위부터 로드 (락을 쥔 채 다른 네임스페이스의 락을 잡지 않음)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param replace   이미 캐시된 스냅샷도 교체할지 여부
+     * @param depth     상위 정책을 따라 올라온 단계 수 (순환 방지)
+     * @return 캐시된 스냅샷
+     */
+    private PolicySnapshot load(String namespace, boolean replace, int depth) {
+        if (!replace) {
+            PolicySnapshot cached = snapshots.get(namespace);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        PolicySnapshot loaded;
+        ExtensionPolicy policy = policyMapper.getPolicyWithRules(namespace).orElse(null);
+        if (policy == null) {
+            loaded = PolicySnapshot.empty(namespace);
+        } else {
+            String parentNamespace = policy.getParentNamespace();
+            if (parentNamespace != null && depth >= ExtensionConst.MAX_NAMESPACE_DEPTH - 1) {
+                log.warn("[load] Namespace hierarchy too deep or cyclic, ignoring parent: namespace={}", namespace);
+                parentNamespace = null;
+            }
+            PolicySnapshot parent = parentNamespace != null ? snapshots.get(parentNamespace) : null;
+            if (parentNamespace != null && parent == null) {
+                parent = load(parentNamespace, false, depth + 1);
+            }
+            List<ExtensionRule> rules = policy.getRules() != null ? policy.getRules() : List.of();
+            loaded = PolicySnapshot.compile(policy, rules, parent, matchingProperties.getMode());
+        }
+
+        PolicySnapshot previous;
+        ReentrantLock lock = lockOf(namespace);
+        lock.lock();
+        try {
+            previous = snapshots.get(namespace);
+            if (previous != null
+                    && (!replace || (loaded.exists() && previous.getVersion() > loaded.getVersion()))) {
+                return previous;
+            }
+            loaded = put(namespace, loaded, previous);
+        } finally {
+            lock.unlock();
+        }
+        if (previous != null) {
+            recompileDescendants(namespace, depth);
+        }
+        if (!loaded.exists()) {
+            evictEmpty();
+        }
+        return loaded;
+    }
+
+    /**
+     * 스냅샷을 캐시에 넣고 하위 네임스페이스 목록 갱신 (네임스페이스 락을 쥔 상태에서 호출)
+     * 넣은 뒤 상위 스냅샷이 그 사이 교체되었으면 새 상위 스냅샷으로 다시 컴파일
+     * (목록에 등록한 뒤 확인하므로, 이후의 상위 교체는 recompileDescendants가 반영함)
+     *
+     * @return 최종적으로 캐시에 넣은 스냅샷
+     */
+    private PolicySnapshot put(String namespace, PolicySnapshot snapshot, PolicySnapshot previous) {
+        snapshots.put(namespace, snapshot);
+        boolean wasEmpty = previous != null && !previous.exists();
+        if (!snapshot.exists()) {
+            emptyOrder.add(snapshot);
+            if (!wasEmpty) {
+                emptyCount.incrementAndGet();
+            }
+        } else if (wasEmpty) {
+            emptyCount.decrementAndGet();
+        }
+        if (previous != null && previous.getVersion() != snapshot.getVersion()) {
+            for (Consumer<PolicySnapshot> listener : versionListeners) {
+                listener.accept(snapshot);
+            }
+        }
+
+        String oldParent = previous != null ? previous.getParentNamespace() : null;
+        String parentNamespace = snapshot.getParentNamespace();
+        if (oldParent != null && !oldParent.equals(parentNamespace)) {
+            Set<String> siblings = children.get(oldParent);
+            if (siblings != null) {
+                siblings.remove(namespace);
+            }
+        }
+        if (parentNamespace == null) {
+            return snapshot;
+        }
+        children.computeIfAbsent(parentNamespace, key -> ConcurrentHashMap.newKeySet()).add(namespace);
+
+        PolicySnapshot parent;
+        while ((parent = snapshots.get(parentNamespace)) != null && !snapshot.isCompiledFrom(parent)) {
+            snapshot = snapshot.recompile(parent, matchingProperties.getMode());
+            snapshots.put(namespace, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 빈 스냅샷이 MAX_CACHED_EMPTY를 넘으면 먼저 캐시한 것부터 제거 (락을 쥐지 않은 상태에서 호출)
+     * 제거할 스냅샷의 네임스페이스 락을 잡고, 그 사이 교체되지 않은 경우에만 제거
+     */
+    private void evictEmpty() {
+        PolicySnapshot oldest;
+        while (emptyCount.get() > MAX_CACHED_EMPTY && (oldest = emptyOrder.poll()) != null) {
+            ReentrantLock lock = lockOf(oldest.getNamespace());
+            lock.lock();
+            try {
+                if (snapshots.remove(oldest.getNamespace(), oldest)) {
+                    emptyCount.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 캐시된 하위 네임스페이스를 현재 상위 스냅샷으로 다시 컴파일 (하위의 하위까지 재귀)
+     */
+    private void recompileDescendants(String namespace, int depth) {
+        Set<String> descendants = children.get(namespace);
+        if (descendants == null || descendants.isEmpty()) {
+            return;
+        }
+        if (depth >= ExtensionConst.MAX_NAMESPACE_DEPTH) {
+            log.warn("[recompileDescendants] Namespace hierarchy too deep or cyclic: namespace={}", namespace);
+            return;
+        }
+        for (String child : descendants) {
+            ReentrantLock lock = lockOf(child);
+            lock.lock();
+            try {
+                PolicySnapshot current = snapshots.get(child);
+                if (current == null || !namespace.equals(current.getParentNamespace())) {
+                    descendants.remove(child);
+                    continue;
+                }
+                PolicySnapshot parent = snapshots.get(namespace);
+                if (parent != null) {
+                    put(child, current.recompile(parent, matchingProperties.getMode()), current);
+                }
+            } finally {
+                lock.unlock();
+            }
+            recompileDescendants(child, depth + 1);
+        }
+        log.debug("[recompileDescendants] Recompiled {} child namespaces of namespace={}", descendants.size(),
+                namespace);
+    }
+
+    /**
+     * 정책 버전이 바뀐 스냅샷이 캐시에 들어갈 때 호출할 함수 등록
+     * 네임스페이스 락을 쥔 상태에서 호출되므로 함수는 DB 조회 등 오래 걸리는 작업을 직접 하지 않아야 함
+     *
+     * @param listener 새 스냅샷을 받는 함수
+     */
+    public void addVersionListener(Consumer<PolicySnapshot> listener) {
+        versionListeners.add(listener);
+    }
+
+    /**
+     * 캐시된 스냅샷 수
+     *
+     * @return 캐시된 네임스페이스 수 (정책이 없는 네임스페이스 포함)
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    private ReentrantLock lockOf(String namespace) {
+        return refreshLocks[namespace.hashCode() & (REFRESH_LOCK_STRIPES - 1)];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[REFRESH_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
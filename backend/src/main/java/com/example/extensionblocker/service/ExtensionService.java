@@ -1,44 +1,117 @@
-package com.example.extensionblocker.service;
-
-import com.example.extensionblocker.dto.PolicyResponse;
-import com.example.extensionblocker.type.ExtensionType;
-
-/**
- * 확장자 차단 서비스 인터페이스
- * 정책 관리 및 파일 검증 기능 정의
- */
-public interface ExtensionService {
-
-    /**
-     * 특정 네임스페이스의 정책 조회
-     * 
-     * @param namespace 정책 네임스페이스 (예: "chat", "work")
-     * @return 고정 확장자 및 커스텀 확장자 목록
-     */
-    PolicyResponse getPolicy(String namespace);
-
-    /**
-     * 확장자 차단 규칙 등록
-     * 
-     * @param namespace    정책 네임스페이스
-     * @param type         확장자 유형 (FIXED/CUSTOM)
-     * @param rawExtension 등록할 확장자명
-     */
-    void regExtensionRule(String namespace, ExtensionType type, String rawExtension);
-
-    /**
-     * 확장자 차단 규칙 삭제
-     * 
-     * @param id 삭제할 규칙 ID
-     */
-    void delExtensionRule(Long id);
-
-    /**
-     * 파일 업로드 허용 여부 확인
-     * 
-     * @param filename  검증할 파일명
-     * @param namespace 정책 네임스페이스
-     * @return true: 허용, false: 차단
-     */
-    boolean isFileAllowed(String filename, String namespace);
-}
+package com.example.extensionblocker.service;
+
+import com.example.extensionblocker.dto.ExtensionImportResponse;
+import com.example.extensionblocker.dto.PolicyChangesResponse;
+import com.example.extensionblocker.dto.PolicyResponse;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.RuleEffect;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 확장자 차단 서비스 인터페이스
+ * 정책 관리 및 파일 검증 기능 정의
+ */
+public interface ExtensionService {
+
+    /**
+     * 특정 네임스페이스의 정책 조회
+     * 
+     * @param namespace 정책 네임스페이스 (예: "chat", "work")
+     * @return 고정 확장자 및 커스텀 확장자 목록
+     */
+    PolicyResponse getPolicy(String namespace);
+
+    /**
+     * 확장자 차단 규칙 등록
+     * 
+     * @param namespace    정책 네임스페이스
+     * @param type         확장자 유형 (FIXED/CUSTOM)
+     * @param rawExtension 등록할 확장자명
+     * @param effect       규칙 효과 (BLOCK: 차단, ALLOW: 상위 네임스페이스의 차단 해제)
+     */
+    void regExtensionRule(String namespace, ExtensionType type, String rawExtension, RuleEffect effect);
+
+    /**
+     * 상위 정책 지정
+     * 하위 네임스페이스는 상위 네임스페이스의 규칙을 물려받고 자신의 규칙으로 덮어씀
+     *
+     * @param namespace       정책 네임스페이스
+     * @param parentNamespace 상위 정책 네임스페이스 (null이면 최상위 정책으로 변경)
+     */
+    void setParentPolicy(String namespace, String parentNamespace);
+
+    /**
+     * 확장자 차단 규칙 삭제
+     * 
+     * @param id 삭제할 규칙 ID
+     */
+    void delExtensionRule(Long id);
+
+    /**
+     * 규칙이 속한 정책의 네임스페이스 조회 (삭제 요청의 요청 수 제한용)
+     *
+     * @param id 규칙 ID
+     * @return 네임스페이스, 규칙이 없으면 null
+     */
+    String getRuleNamespace(Long id);
+
+    /**
+     * 커스텀 확장자 일괄 등록
+     * 전체 목록을 한 트랜잭션에서 검증/등록하며, 등록할 수 없는 항목은 건너뛰고 항목별 결과로 알려줌
+     *
+     * @param namespace     정책 네임스페이스
+     * @param rawExtensions 등록할 확장자명 목록
+     * @return 항목별 등록 결과
+     */
+    ExtensionImportResponse importCustomExtensions(String namespace, List<String> rawExtensions);
+
+    /**
+     * 커스텀 확장자 내보내기
+     * 규칙을 ID 순으로 한 건씩 전달하며, 정책이 없으면 아무것도 전달하지 않음
+     *
+     * @param namespace 정책 네임스페이스
+     * @param consumer  규칙별 처리 함수
+     */
+    void exportCustomExtensions(String namespace, Consumer<ExtensionRule> consumer);
+
+    /**
+     * 정책 변경 기록 조회
+     * 이 네임스페이스에 직접 정의된 규칙의 추가/삭제와 상위 정책 변경만 포함 (상속된 규칙의 변경은 상위 정책의 기록에 있음)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param since     이미 반영한 정책 버전 (0이면 처음부터)
+     * @return since 이후의 변경 목록, 기록이 정리되어 이어서 줄 수 없으면 reset 응답
+     */
+    PolicyChangesResponse getPolicyChanges(String namespace, long since);
+
+    /**
+     * 파일 업로드 허용 여부 확인
+     * 
+     * @param filename  검증할 파일명
+     * @param namespace 정책 네임스페이스
+     * @return true: 허용, false: 차단
+     */
+    boolean isFileAllowed(String filename, String namespace);
+
+    /**
+     * 특정 네임스페이스의 컴파일된 정책 스냅샷 조회
+     * 여러 파일을 검증할 때 정책을 한 번만 조회하기 위해 사용
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 정책 스냅샷
+     */
+    PolicySnapshot getPolicySnapshot(String namespace);
+
+    /**
+     * 이미 조회한 정책 스냅샷으로 파일 업로드 허용 여부 확인
+     *
+     * @param filename 검증할 파일명
+     * @param snapshot 정책 스냅샷
+     * @return true: 허용, false: 차단
+     */
+    boolean isFileAllowed(String filename, PolicySnapshot snapshot);
+}
@@ -1,219 +1,503 @@
-package com.example.extensionblocker.service;
-
-import java.util.List;
-import com.example.extensionblocker.constrant.ExtensionConst;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import java.util.Optional;
-
-import com.example.extensionblocker.dto.ExtensionDto;
-import com.example.extensionblocker.dto.PolicyResponse;
-import com.example.extensionblocker.exception.BusinessException;
-import com.example.extensionblocker.exception.ErrorCode;
-import com.example.extensionblocker.exception.InvalidRequestException;
-import com.example.extensionblocker.model.ExtensionPolicy;
-import com.example.extensionblocker.model.ExtensionRule;
-import com.example.extensionblocker.type.ExtensionType;
-import com.example.extensionblocker.mapper.ExtensionPolicyMapper;
-import com.example.extensionblocker.mapper.ExtensionRuleMapper;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.stream.Collectors;
-
-/**
- * 확장자 차단 서비스 구현체
- * 정책 관리, 고정/커스텀 확장자 CRUD, 파일 검증 등의 기능 제공
- */
-@Service
-@RequiredArgsConstructor
-@Transactional(rollbackFor = Exception.class)
-public class ExtensionServiceImpl implements ExtensionService {
-
-    private static final Logger log = LoggerFactory.getLogger(ExtensionServiceImpl.class);
-
-    private final ExtensionPolicyMapper policyMapper;
-    private final ExtensionRuleMapper ruleMapper;
-
-    /**
-     * 정책 조회
-     * 고정 확장자와 커스텀 확장자 목록 반환
-     * 
-     * @param namespace 정책 네임스페이스
-     * @return 고정/커스텀 확장자 목록
-     */
-    @Transactional(readOnly = true)
-    public PolicyResponse getPolicy(String namespace) {
-        Optional<ExtensionPolicy> policyOpt = policyMapper.getPolicyByNamespace(namespace);
-        List<ExtensionRule> rules = policyOpt.isPresent()
-                ? ruleMapper.getRulesByPolicyId(policyOpt.get().getId())
-                : java.util.Collections.emptyList();
-
-        // 고정 확장자 처리
-        // DB에 있으면 차단(isActive=true), 없으면 허용(isActive=false)
-        List<ExtensionDto> fixed = ExtensionConst.DEFAULT_FIXED_EXTENSIONS.stream()
-                .map(ext -> {
-                    Optional<ExtensionRule> match = rules.stream()
-                            .filter(r -> r.getType() == ExtensionType.FIXED && r.getExtension().equals(ext))
-                            .findFirst();
-
-                    if (match.isPresent()) {
-                        return new ExtensionDto(match.get().getId(), ext, true);
-                    } else {
-                        return new ExtensionDto(null, ext, false);
-                    }
-                })
-                .collect(Collectors.toList());
-
-        // 커스텀 확장자 목록 생성 (DB에 있는 것만)
-        List<ExtensionDto> custom = rules.stream()
-                .filter(r -> r.getType() == ExtensionType.CUSTOM)
-                .map(r -> new ExtensionDto(r.getId(), r.getExtension(), true))
-                .collect(Collectors.toList());
-
-        return new PolicyResponse(fixed, custom);
-    }
-
-    /**
-     * 확장자 차단 규칙 등록 구현
-     * 확장자 유효성 검사 및 정규화 후 DB에 저장
-     * 
-     * @param namespace    정책 네임스페이스
-     * @param type         확장자 유형
-     * @param rawExtension 원본 확장자명
-     */
-    @Override
-    public void regExtensionRule(String namespace, ExtensionType type, String rawExtension) {
-        ExtensionPolicy policy = getOrCreatePolicy(namespace);
-        log.debug("[regExtensionRule] Found policy id={}", policy.getId());
-
-        // 1. Normalize
-        String extension = normalize(rawExtension);
-
-        // 2. Validate Check
-        if (type == ExtensionType.CUSTOM) {
-            if (extension.length() > ExtensionConst.MAX_EXTENSION_LENGTH) {
-                throw new InvalidRequestException(
-                        "Extension length cannot exceed " + ExtensionConst.MAX_EXTENSION_LENGTH + " characters");
-            }
-            if (!ExtensionConst.VALID_EXTENSION_PATTERN.matcher(extension).matches()) {
-                throw new InvalidRequestException("Invalid extension format (only a-z, 0-9 allowed)");
-            }
-
-            // Check if max limit reached
-            long customCount = ruleMapper.getCountByPolicyIdAndType(policy.getId(), ExtensionType.CUSTOM);
-            if (customCount >= ExtensionConst.MAX_CUSTOM_EXTENSIONS) {
-                throw new BusinessException(ErrorCode.POLICY_VIOLATION,
-                        "Max custom extensions limit (" + ExtensionConst.MAX_CUSTOM_EXTENSIONS + ") reached");
-            }
-        }
-
-        // Check DB for duplicates (Fixed or Custom)
-        if (ruleMapper.getRuleByPolicyIdAndExtension(policy.getId(), extension).isPresent()) {
-            throw new BusinessException(ErrorCode.ALREADY_EXISTS, "Extension already exists");
-        }
-
-        // Save new rule
-        ExtensionRule newRule = new ExtensionRule(policy.getId(), extension, type);
-        int result = ruleMapper.regExtensionRule(newRule);
-        if (result != 1) {
-            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Failed to save extension");
-        }
-        log.info("[regExtensionRule] SUCCESS - Saved extension={} with id={}", extension, newRule.getId());
-    }
-
-    /**
-     * 확장자 차단 규칙 삭제 구현
-     * ID를 기반으로 규칙 제거
-     * 
-     * @param id 삭제할 규칙 ID
-     */
-    @Override
-    public void delExtensionRule(Long id) {
-        ruleMapper.delExtensionRuleById(id);
-        log.info("[delExtensionRule] SUCCESS - Deleted extension={}", id);
-    }
-
-    /**
-     * 파일 업로드 허용 여부 확인
-     * 
-     * @param filename  검증할 파일명
-     * @param namespace 정책 네임스페이스
-     * @return true: 허용, false: 차단
-     */
-    @Transactional(readOnly = true)
-    public boolean isFileAllowed(String filename, String namespace) {
-        if (filename == null || filename.trim().isEmpty()) {
-            return false;
-        }
-
-        // Extract extension
-        String extension = extractExtension(filename);
-        if (extension.isEmpty()) {
-            return true; // No extension = allowed
-        }
-
-        // Get policy
-        ExtensionPolicy policy = policyMapper.getPolicyByNamespace(namespace).orElse(null);
-        if (policy == null) {
-            return true; // No policy = allowed
-        }
-
-        // Check if extension is actively blocked (Presence in DB = Blocked)
-        boolean isBlocked = ruleMapper.getRuleByPolicyIdAndExtension(policy.getId(), extension).isPresent();
-
-        return !isBlocked; // Blocked면 false(Not Allowed), 아니면 true(Allowed)
-    }
-
-    /**
-     * 특정 네임스페이스의 정책을 조회하거나, 없으면 새로 생성하여 반환합니다.
-     * 
-     * @param namespace 정책 네임스페이스
-     * @return 정책 객체
-     */
-    private ExtensionPolicy getOrCreatePolicy(String namespace) {
-        return policyMapper.getPolicyByNamespace(namespace)
-                .orElseGet(() -> {
-                    ExtensionPolicy newPolicy = new ExtensionPolicy(namespace, namespace + " Policy");
-                    policyMapper.regExtensionPolicy(newPolicy);
-                    log.info("[getOrCreatePolicy] Created new policy: namespace={}, id={}", namespace,
-                            newPolicy.getId());
-                    return newPolicy;
-                });
-    }
-
-    /**
-     * 확장자 정규화
-     * - 공백 제거
-     * - 소문자 변환
-     * - 앞에 점(.)이 있으면 제거
-     * 
-     * @param input 원본 확장자 문자열
-     * @return 정규화된 확장자
-     */
-    private String normalize(String input) {
-        if (input == null)
-            return "";
-        String clean = input.trim().toLowerCase();
-        if (clean.startsWith(".")) {
-            clean = clean.substring(1);
-        }
-        return clean;
-    }
-
-    /**
-     * 파일명에서 확장자 추출
-     * 
-     * @param filename 파일명
-     * @return 추출된 확장자 (소문자), 실패 시 빈 문자열
-     */
-    private String extractExtension(String filename) {
-        int lastDot = filename.lastIndexOf('.');
-        if (lastDot == -1 || lastDot == filename.length() - 1) {
-            return "";
-        }
-        return filename.substring(lastDot + 1).toLowerCase();
-    }
-
-}
+package com.example.extensionblocker.service;
+
+import com.example.extensionblocker.config.ChangeFeedProperties;
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.datasource.ReadYourWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.extensionblocker.dto.ExtensionImportResponse;
+import com.example.extensionblocker.dto.ExtensionImportResult;
+import com.example.extensionblocker.dto.PolicyChangeDto;
+import com.example.extensionblocker.dto.PolicyChangesResponse;
+import com.example.extensionblocker.dto.PolicyResponse;
+import com.example.extensionblocker.exception.BusinessException;
+import com.example.extensionblocker.exception.ErrorCode;
+import com.example.extensionblocker.exception.InvalidRequestException;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.model.PolicyChange;
+import com.example.extensionblocker.model.RuleRegistration;
+import com.example.extensionblocker.type.ChangeOperation;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.ImportStatus;
+import com.example.extensionblocker.type.RuleEffect;
+import com.example.extensionblocker.mapper.ExtensionPolicyMapper;
+import com.example.extensionblocker.mapper.ExtensionRuleMapper;
+import com.example.extensionblocker.mapper.PolicyChangeMapper;
+import com.example.extensionblocker.policy.PolicyChangeListener;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 확장자 차단 서비스 구현체
+ * 정책 관리, 고정/커스텀 확장자 CRUD, 파일 검증 등의 기능 제공
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(rollbackFor = Exception.class)
+public class ExtensionServiceImpl implements ExtensionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExtensionServiceImpl.class);
+
+    private final ExtensionPolicyMapper policyMapper;
+    private final ExtensionRuleMapper ruleMapper;
+    private final PolicySnapshotCache snapshotCache;
+    private final PolicyChangeMapper changeMapper;
+    private final ChangeFeedProperties changeFeedProperties;
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * 정책 조회
+     * 고정 확장자와 커스텀 확장자 목록 반환
+     * 정책 버전별로 컴파일된 스냅샷의 응답을 그대로 사용하므로 캐시된 경우 DB를 조회하지 않음
+     * 
+     * @param namespace 정책 네임스페이스
+     * @return 고정/커스텀 확장자 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PolicyResponse getPolicy(String namespace) {
+        return snapshotCache.get(namespace).getResponse();
+    }
+
+    /**
+     * 확장자 차단 규칙 등록 구현
+     * 확장자 유효성 검사 및 정규화 후 DB에 저장
+     * 정책 버전 증가(정책 행 잠금)와 조건부 저장 두 문장으로 처리하며,
+     * 같은 정책의 등록은 행 잠금으로 순서대로 진행되므로 동시에 등록해도 개수 제한과 중복 검사가 지켜짐
+     * 제한 초과/중복이면 예외로 트랜잭션을 롤백하여 증가시킨 버전과 변경 알림도 취소
+     * 
+     * @param namespace    정책 네임스페이스
+     * @param type         확장자 유형
+     * @param rawExtension 원본 확장자명
+     * @param effect       규칙 효과 (null이면 BLOCK)
+     */
+    @Override
+    @Timed(value = "extension.rule.register", description = "Extension rule registration", histogram = true)
+    public void regExtensionRule(String namespace, ExtensionType type, String rawExtension, RuleEffect effect) {
+        // 1. Normalize
+        String extension = normalize(rawExtension);
+
+        // 2. Validate Check
+        if (type == ExtensionType.CUSTOM) {
+            if (extension.length() > ExtensionConst.MAX_EXTENSION_LENGTH) {
+                throw new InvalidRequestException(
+                        "Extension length cannot exceed " + ExtensionConst.MAX_EXTENSION_LENGTH + " characters");
+            }
+            if (!ExtensionConst.VALID_EXTENSION_PATTERN.matcher(extension).matches()) {
+                throw new InvalidRequestException("Invalid extension format (only a-z, 0-9 segments separated by '.' allowed)");
+            }
+        }
+
+        // 3. Lock policy by bumping its version (create policy on first use)
+        ExtensionPolicy policy = policyMapper.bumpPolicyVersionByNamespace(namespace, PolicyChangeListener.CHANNEL)
+                .orElseGet(() -> {
+                    getOrCreatePolicy(namespace);
+                    return policyMapper.bumpPolicyVersionByNamespace(namespace, PolicyChangeListener.CHANNEL)
+                            .orElseThrow(() -> new BusinessException(ErrorCode.POLICY_VIOLATION,
+                                    "Policy is disabled: " + namespace));
+                });
+        log.debug("[regExtensionRule] Locked policy id={}, version={}", policy.getId(), policy.getVersion());
+
+        // 4. Check limit, save and record change in one statement
+        RuleRegistration registration = ruleMapper.regExtensionRuleIfAllowed(policy.getId(), policy.getVersion(),
+                extension, type, effect != null ? effect : RuleEffect.BLOCK,
+                type == ExtensionType.CUSTOM ? ExtensionConst.MAX_CUSTOM_EXTENSIONS : null,
+                changeFeedProperties.getRetainedVersions());
+        if (!registration.isAllowed()) {
+            throw new BusinessException(ErrorCode.POLICY_VIOLATION,
+                    "Max custom extensions limit (" + ExtensionConst.MAX_CUSTOM_EXTENSIONS + ") reached");
+        }
+        if (registration.getRuleId() == null) {
+            throw new BusinessException(ErrorCode.ALREADY_EXISTS, "Extension already exists");
+        }
+        onPolicyChanged(namespace);
+        log.info("[regExtensionRule] SUCCESS - Saved extension={} with id={}", extension, registration.getRuleId());
+    }
+
+    /**
+     * 확장자 차단 규칙 삭제 구현
+     * ID를 기반으로 규칙 제거
+     * 규칙이 속한 정책 행을 먼저 잠근 뒤 삭제하고, 실제로 삭제한 행이 있을 때만 버전을 올리고 변경을 기록
+     * (같은 규칙을 동시에 삭제해도 REMOVE 변경은 한 번만 남음)
+     * 
+     * @param id 삭제할 규칙 ID
+     */
+    @Override
+    public void delExtensionRule(Long id) {
+        ruleMapper.getRuleById(id).ifPresent(rule -> {
+            policyMapper.getPoliciesByIdsForUpdate(List.of(rule.getPolicyId()));
+            ruleMapper.delExtensionRuleById(id).ifPresent(deleted -> {
+                ExtensionPolicy policy = policyMapper.bumpPolicyVersion(deleted.getPolicyId(),
+                        PolicyChangeListener.CHANNEL);
+                changeMapper.regRemovedRule(policy.getVersion(), deleted);
+                compactChanges(policy);
+                onPolicyChanged(policy.getNamespace());
+                log.info("[delExtensionRule] SUCCESS - Deleted extension={} with id={}", deleted.getExtension(), id);
+            });
+        });
+    }
+
+    /**
+     * 규칙의 네임스페이스 조회 구현
+     * 복제본이 설정되어 있으면 복제본에서 읽음 (복제 지연으로 방금 만든 규칙이 없으면 null)
+     *
+     * @param id 규칙 ID
+     * @return 네임스페이스, 규칙이 없으면 null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getRuleNamespace(Long id) {
+        return ruleMapper.getNamespaceByRuleId(id).orElse(null);
+    }
+
+    /**
+     * 상위 정책 지정 구현
+     * 상위 정책이 없으면 생성하며, 계층에 순환이 생기거나 최대 깊이를 넘으면 거부
+     * 두 정책 행을 ID 순서로 잠근 뒤 상위 정책 목록을 읽으므로, 같은 두 정책을 서로의 상위로 동시에 지정해도 하나만 성공
+     * 서로 다른 정책들의 동시 변경이 함께 만드는 긴 순환은 DB 트리거(check_policy_parent)가 거부
+     * 하위 정책의 버전을 올려 이 정책과 캐시된 하위 정책의 스냅샷이 다시 컴파일되도록 함
+     *
+     * @param namespace       정책 네임스페이스
+     * @param parentNamespace 상위 정책 네임스페이스 (null이면 최상위 정책으로 변경)
+     */
+    @Override
+    public void setParentPolicy(String namespace, String parentNamespace) {
+        ExtensionPolicy policy = getOrCreatePolicy(namespace);
+        ExtensionPolicy parent = parentNamespace != null && !parentNamespace.isBlank()
+                ? getOrCreatePolicy(parentNamespace.trim()) : null;
+        policy = lockPolicies(policy, parent);
+
+        Long parentId = null;
+        if (parent != null) {
+            List<Long> ancestors = policyMapper.getAncestorIds(parent.getId(), ExtensionConst.MAX_NAMESPACE_DEPTH);
+            if (parent.getId().equals(policy.getId()) || ancestors.contains(policy.getId())) {
+                throw new InvalidRequestException("Namespace hierarchy cannot contain a cycle");
+            }
+            if (ancestors.size() + 2 > ExtensionConst.MAX_NAMESPACE_DEPTH) {
+                throw new InvalidRequestException(
+                        "Namespace hierarchy cannot be deeper than " + ExtensionConst.MAX_NAMESPACE_DEPTH);
+            }
+            parentId = parent.getId();
+        }
+        if (Objects.equals(parentId, policy.getParentId())) {
+            return;
+        }
+
+        try {
+            policyMapper.updatePolicyParent(policy.getId(), parentId);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[setParentPolicy] Rejected by hierarchy guard - namespace={}, parent={}",
+                    namespace, parentNamespace);
+            throw new InvalidRequestException("Namespace hierarchy cannot contain a cycle");
+        }
+        ExtensionPolicy bumped = policyMapper.bumpPolicyVersion(policy.getId(), PolicyChangeListener.CHANNEL);
+        changeMapper.regParentChange(bumped.getId(), bumped.getVersion(),
+                parentId != null ? parentNamespace.trim() : null);
+        compactChanges(bumped);
+        onPolicyChanged(namespace);
+        log.info("[setParentPolicy] SUCCESS - namespace={}, parent={}", namespace, parentNamespace);
+    }
+
+    /**
+     * 커스텀 확장자 일괄 등록 구현
+     * 정규화/형식 검사와 요청 내 중복 제거는 메모리에서 처리하고,
+     * 정책 행을 잠근 뒤 기존 확장자 확인, 개수 제한 확인, 등록을 각각 한 번의 쿼리로 처리
+     * (같은 정책의 다른 등록은 이 트랜잭션이 끝날 때까지 기다리므로 개수 제한을 넘지 않음)
+     *
+     * @param namespace     정책 네임스페이스
+     * @param rawExtensions 등록할 확장자명 목록
+     * @return 항목별 등록 결과
+     */
+    @Override
+    @Timed(value = "extension.rule.import", description = "Bulk extension rule import", histogram = true)
+    public ExtensionImportResponse importCustomExtensions(String namespace, List<String> rawExtensions) {
+        if (rawExtensions.size() > ExtensionConst.MAX_IMPORT_EXTENSIONS) {
+            throw new InvalidRequestException(
+                    "Cannot import more than " + ExtensionConst.MAX_IMPORT_EXTENSIONS + " extensions at once");
+        }
+        ExtensionPolicy policy = lockPolicy(namespace);
+
+        // 1. Normalize & validate in memory (첫 등장만 후보로 남김)
+        List<ExtensionImportResult> results = new ArrayList<>(rawExtensions.size());
+        Map<String, ExtensionImportResult> candidates = new LinkedHashMap<>();
+        for (String rawExtension : rawExtensions) {
+            String extension = normalize(rawExtension);
+            ExtensionImportResult result = new ExtensionImportResult(rawExtension, extension, null);
+            if (!isValidCustomExtension(extension)) {
+                result.setStatus(ImportStatus.INVALID);
+            } else if (candidates.putIfAbsent(extension, result) != null) {
+                result.setStatus(ImportStatus.DUPLICATE);
+            }
+            results.add(result);
+        }
+
+        // 2. Check DB for duplicates (Fixed or Custom) in one query
+        if (!candidates.isEmpty()) {
+            for (String existing : ruleMapper.getExistingExtensions(policy.getId(), candidates.keySet())) {
+                candidates.remove(existing).setStatus(ImportStatus.ALREADY_EXISTS);
+            }
+        }
+
+        // 3. Check max limit once; 입력 순서대로 남은 자리만큼만 등록
+        long customCount = ruleMapper.getCountByPolicyIdAndType(policy.getId(), ExtensionType.CUSTOM);
+        long capacity = Math.max(0, ExtensionConst.MAX_CUSTOM_EXTENSIONS - customCount);
+        List<String> extensions = new ArrayList<>(candidates.size());
+        for (ExtensionImportResult candidate : candidates.values()) {
+            if (extensions.size() < capacity) {
+                extensions.add(candidate.getExtension());
+            } else {
+                candidate.setStatus(ImportStatus.LIMIT_EXCEEDED);
+            }
+        }
+
+        // 4. Save in one batched insert (동시에 등록된 확장자는 ON CONFLICT로 건너뜀)
+        Set<String> inserted = Set.of();
+        if (!extensions.isEmpty()) {
+            inserted = new HashSet<>(
+                    ruleMapper.regExtensionRules(policy.getId(), ExtensionType.CUSTOM, extensions));
+            for (String extension : extensions) {
+                candidates.get(extension).setStatus(
+                        inserted.contains(extension) ? ImportStatus.IMPORTED : ImportStatus.ALREADY_EXISTS);
+            }
+        }
+        int imported = inserted.size();
+        if (imported > 0) {
+            ExtensionPolicy bumped = policyMapper.bumpPolicyVersion(policy.getId(), PolicyChangeListener.CHANNEL);
+            recordRuleChanges(bumped, ChangeOperation.ADD, inserted);
+            onPolicyChanged(namespace);
+        }
+        log.info("[importCustomExtensions] SUCCESS - namespace={}, requested={}, imported={}",
+                namespace, rawExtensions.size(), imported);
+        return new ExtensionImportResponse(rawExtensions.size(), imported, results);
+    }
+
+    /**
+     * 커스텀 확장자 내보내기 구현
+     * 결과 전체를 메모리에 올리지 않고 커서로 읽으며 한 건씩 전달
+     * 복제본이 설정되어 있으면 복제본에서 읽음 (최근에 바뀐 네임스페이스는 주 DB)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param consumer  규칙별 처리 함수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomExtensions(String namespace, Consumer<ExtensionRule> consumer) {
+        readYourWrites.routeToPrimaryIfRecent(namespace);
+        policyMapper.getPolicyByNamespace(namespace).ifPresent(policy -> ruleMapper.streamRulesByPolicyIdAndType(
+                policy.getId(), ExtensionType.CUSTOM, context -> consumer.accept(context.getResultObject())));
+    }
+
+    /**
+     * 정책 변경 기록 조회 구현
+     * 현재 버전이 요청한 버전과 같으면 변경 기록을 조회하지 않으며,
+     * 요청한 버전 바로 다음 버전의 기록이 없으면(정리되었거나 기록 도입 이전) reset 응답
+     * 복제본이 설정되어 있으면 복제본에서 읽음 (최근에 바뀐 네임스페이스는 주 DB)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param since     이미 반영한 정책 버전
+     * @return since 이후의 변경 목록 (최대 maxVersionsPerResponse개 버전)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PolicyChangesResponse getPolicyChanges(String namespace, long since) {
+        readYourWrites.routeToPrimaryIfRecent(namespace);
+        ExtensionPolicy policy = policyMapper.getPolicyByNamespace(namespace).orElse(null);
+        long current = policy != null && policy.getVersion() != null ? policy.getVersion() : 0L;
+        if (since == current) {
+            return PolicyChangesResponse.unchanged(namespace, current);
+        }
+        if (policy == null || since > current) {
+            return PolicyChangesResponse.reset(namespace, current);
+        }
+
+        long until = Math.min(current, since + changeFeedProperties.getMaxVersionsPerResponse());
+        List<PolicyChange> changes = changeMapper.getChangesBetween(policy.getId(), since, until);
+        if (changes.isEmpty() || changes.get(0).getVersion() != since + 1) {
+            return PolicyChangesResponse.reset(namespace, current);
+        }
+        List<PolicyChangeDto> items = new ArrayList<>(changes.size());
+        for (PolicyChange change : changes) {
+            items.add(PolicyChangeDto.of(change));
+        }
+        return new PolicyChangesResponse(namespace, until, false, until < current, items);
+    }
+
+    /**
+     * 파일 업로드 허용 여부 확인
+     * DB를 조회하지 않고 캐시된 정책 스냅샷으로 판단하므로 트랜잭션(커넥션)을 사용하지 않음
+     * 
+     * @param filename  검증할 파일명
+     * @param namespace 정책 네임스페이스
+     * @return true: 허용, false: 차단
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isFileAllowed(String filename, String namespace) {
+        return isFileAllowed(filename, snapshotCache.get(namespace));
+    }
+
+    /**
+     * 정책 스냅샷 조회
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 정책 스냅샷
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PolicySnapshot getPolicySnapshot(String namespace) {
+        return snapshotCache.get(namespace);
+    }
+
+    /**
+     * 이미 조회한 정책 스냅샷으로 파일 업로드 허용 여부 확인
+     *
+     * @param filename 검증할 파일명
+     * @param snapshot 정책 스냅샷
+     * @return true: 허용, false: 차단
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isFileAllowed(String filename, PolicySnapshot snapshot) {
+        if (filename == null || filename.isBlank()) {
+            return false;
+        }
+
+        // Check if extension is actively blocked (No extension or no policy = allowed)
+        boolean isBlocked = snapshot.isFileBlocked(filename);
+
+        return !isBlocked; // Blocked면 false(Not Allowed), 아니면 true(Allowed)
+    }
+
+    /**
+     * 정책이 바뀐 네임스페이스의 스냅샷을 커밋 후 다시 컴파일하고,
+     * 잠시 동안 그 네임스페이스의 읽기 전용 조회를 주 DB로 보내도록 기록
+     */
+    private void onPolicyChanged(String namespace) {
+        snapshotCache.refreshAfterCommit(namespace);
+        readYourWrites.markWritten(namespace);
+    }
+
+    /**
+     * 특정 네임스페이스의 정책을 조회하거나, 없으면 새로 생성하여 반환합니다.
+     * 같은 네임스페이스를 동시에 생성하면 한쪽만 저장되고 다른 쪽은 저장된 정책을 조회합니다.
+     * 
+     * @param namespace 정책 네임스페이스
+     * @return 정책 객체
+     */
+    private ExtensionPolicy getOrCreatePolicy(String namespace) {
+        return policyMapper.getPolicyByNamespace(namespace)
+                .orElseGet(() -> {
+                    ExtensionPolicy newPolicy = new ExtensionPolicy(namespace, namespace + " Policy");
+                    if (policyMapper.regExtensionPolicyIfAbsent(newPolicy) == 1) {
+                        log.info("[getOrCreatePolicy] Created new policy: namespace={}", namespace);
+                    }
+                    return policyMapper.getPolicyByNamespace(namespace)
+                            .orElseThrow(() -> new BusinessException(ErrorCode.POLICY_VIOLATION,
+                                    "Policy is disabled: " + namespace));
+                });
+    }
+
+    /**
+     * 특정 네임스페이스의 정책을 트랜잭션이 끝날 때까지 잠그고 반환합니다. (없으면 생성)
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 잠긴 정책 객체
+     */
+    private ExtensionPolicy lockPolicy(String namespace) {
+        return policyMapper.getPolicyByNamespaceForUpdate(namespace)
+                .orElseGet(() -> {
+                    getOrCreatePolicy(namespace);
+                    return policyMapper.getPolicyByNamespaceForUpdate(namespace)
+                            .orElseThrow(() -> new BusinessException(ErrorCode.POLICY_VIOLATION,
+                                    "Policy is disabled: " + namespace));
+                });
+    }
+
+    /**
+     * 정책과 상위 정책의 행을 ID 순서로 잠그고 잠근 뒤의 정책을 반환 (현재 상위 정책 ID를 다시 읽음)
+     *
+     * @param policy 정책
+     * @param parent 상위 정책 (없으면 null)
+     * @return 잠근 정책
+     */
+    private ExtensionPolicy lockPolicies(ExtensionPolicy policy, ExtensionPolicy parent) {
+        List<Long> ids = parent == null || parent.getId().equals(policy.getId())
+                ? List.of(policy.getId()) : List.of(policy.getId(), parent.getId());
+        return policyMapper.getPoliciesByIdsForUpdate(ids).stream()
+                .filter(locked -> locked.getId().equals(policy.getId()))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.POLICY_VIOLATION,
+                        "Policy is disabled: " + policy.getNamespace()));
+    }
+
+    /**
+     * 규칙 추가/삭제를 변경 기록에 남기고 보관 범위를 벗어난 기록 정리
+     *
+     * @param bumped     버전이 증가된 정책
+     * @param operation  ADD 또는 REMOVE
+     * @param extensions 변경된 확장자명 목록
+     */
+    private void recordRuleChanges(ExtensionPolicy bumped, ChangeOperation operation, Collection<String> extensions) {
+        changeMapper.regRuleChanges(bumped.getId(), bumped.getVersion(), operation, extensions);
+        compactChanges(bumped);
+    }
+
+    /**
+     * 최근 retainedVersions개 버전보다 오래된 변경 기록 삭제
+     *
+     * @param bumped 버전이 증가된 정책
+     */
+    private void compactChanges(ExtensionPolicy bumped) {
+        long oldest = bumped.getVersion() - changeFeedProperties.getRetainedVersions();
+        if (oldest > 0) {
+            changeMapper.delChangesUpTo(bumped.getId(), oldest);
+        }
+    }
+
+    /**
+     * 커스텀 확장자 형식 검사 (길이 및 허용 문자)
+     *
+     * @param extension 정규화된 확장자
+     * @return true: 올바른 형식
+     */
+    private boolean isValidCustomExtension(String extension) {
+        return extension.length() <= ExtensionConst.MAX_EXTENSION_LENGTH
+                && ExtensionConst.VALID_EXTENSION_PATTERN.matcher(extension).matches();
+    }
+
+    /**
+     * 확장자 정규화
+     * - 공백 제거
+     * - 소문자 변환
+     * - 앞에 점(.)이 있으면 제거
+     * 
+     * @param input 원본 확장자 문자열
+     * @return 정규화된 확장자
+     */
+    private String normalize(String input) {
+        if (input == null)
+            return "";
+        String clean = input.trim().toLowerCase();
+        if (clean.startsWith(".")) {
+            clean = clean.substring(1);
+        }
+        return clean;
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.example.extensionblocker.service;
+
+import com.example.extensionblocker.config.ChangeFeedProperties;
+import com.example.extensionblocker.dto.PolicyChangesResponse;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정책 변경 피드 롱 폴링
+ * 요청한 버전 이후 변경이 없으면 요청 스레드를 놓고 대기 목록에 등록해 두었다가,
+ * 해당 네임스페이스의 스냅샷 버전이 바뀌면(이 인스턴스의 변경 또는 다른 인스턴스의 변경 알림) 변경 목록으로 응답
+ * 대기 시간이 지나면 DB로 한 번 더 확인하고 응답 (알림을 받지 못한 경우에도 변경을 놓치지 않음)
+ */
+@Component
+public class PolicyChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyChangeFeed.class);
+
+    private final ExtensionService extensionService;
+    private final PolicySnapshotCache snapshotCache;
+    private final ChangeFeedProperties properties;
+    private final TaskExecutor executor;
+
+    /**
+     * 네임스페이스 → 대기 중인 요청
+     */
+    private final ConcurrentMap<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public PolicyChangeFeed(ExtensionService extensionService, PolicySnapshotCache snapshotCache,
+            ChangeFeedProperties properties, MeterRegistry registry,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor executor) {
+        this.extensionService = extensionService;
+        this.snapshotCache = snapshotCache;
+        this.properties = properties;
+        this.executor = executor;
+        Gauge.builder("extension.policy.changes.waiting", waiting, AtomicInteger::get)
+                .description("Change feed requests waiting for a policy change")
+                .register(registry);
+        snapshotCache.addVersionListener(this::onVersionChanged);
+    }
+
+    /**
+     * 변경 조회 (변경이 없으면 최대 wait만큼 기다림)
+     *
+     * @param namespace 정책 네임스페이스
+     * @param since     이미 반영한 정책 버전
+     * @param wait      변경이 없을 때 기다릴 시간 (0이면 바로 응답, maxWait로 제한)
+     * @return 변경 목록 응답
+     */
+    public DeferredResult<PolicyChangesResponse> watch(String namespace, long since, Duration wait) {
+        Duration timeout = wait.compareTo(properties.getMaxWait()) > 0 ? properties.getMaxWait() : wait;
+        if (timeout.isZero() || timeout.isNegative() || currentVersion(namespace) != since) {
+            return immediate(namespace, since);
+        }
+        if (waiting.incrementAndGet() > properties.getMaxWaiters()) {
+            waiting.decrementAndGet();
+            log.debug("[watch] Too many waiting change feed requests, responding immediately: namespace={}",
+                    namespace);
+            return immediate(namespace, since);
+        }
+
+        Waiter waiter = new Waiter(namespace, since, timeout);
+        waiters.computeIfAbsent(namespace, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        waiter.result.onCompletion(() -> remove(waiter));
+
+        // 등록 전에 바뀐 버전은 알림으로 받지 못하므로 한 번 더 확인
+        if (currentVersion(namespace) != since) {
+            complete(waiter);
+        }
+        return waiter.result;
+    }
+
+    private DeferredResult<PolicyChangesResponse> immediate(String namespace, long since) {
+        DeferredResult<PolicyChangesResponse> result = new DeferredResult<>();
+        result.setResult(extensionService.getPolicyChanges(namespace, since));
+        return result;
+    }
+
+    /**
+     * 스냅샷 버전이 바뀌면 그 네임스페이스에서 다른 버전을 기다리던 요청에 응답
+     * (스냅샷 캐시의 락 안에서 호출되므로 조회는 다른 스레드에서 실행)
+     */
+    private void onVersionChanged(PolicySnapshot snapshot) {
+        Set<Waiter> pending = waiters.get(snapshot.getNamespace());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        for (Waiter waiter : pending) {
+            if (waiter.since != Math.max(snapshot.getVersion(), 0L)) {
+                complete(waiter);
+            }
+        }
+    }
+
+    /**
+     * 대기 요청에 한 번만 응답 (변경 목록은 DB에서 조회)
+     */
+    private void complete(Waiter waiter) {
+        if (!waiter.completing.compareAndSet(false, true)) {
+            return;
+        }
+        remove(waiter);
+        executor.execute(() -> {
+            try {
+                waiter.result.setResult(extensionService.getPolicyChanges(waiter.namespace, waiter.since));
+            } catch (RuntimeException e) {
+                log.warn("[complete] Failed to load policy changes: namespace={}, since={}: {}", waiter.namespace,
+                        waiter.since, e.getMessage());
+                waiter.result.setErrorResult(e);
+            }
+        });
+    }
+
+    private void remove(Waiter waiter) {
+        Set<Waiter> pending = waiters.get(waiter.namespace);
+        if (pending != null && pending.remove(waiter)) {
+            waiting.decrementAndGet();
+            if (pending.isEmpty()) {
+                waiters.remove(waiter.namespace, pending);
+            }
+        }
+    }
+
+    /**
+     * 캐시된 스냅샷의 정책 버전 (정책이 없으면 0)
+     */
+    private long currentVersion(String namespace) {
+        return Math.max(snapshotCache.get(namespace).getVersion(), 0L);
+    }
+
+    /**
+     * 대기 중인 요청
+     * 대기 시간이 지나면 요청을 처리하는 스레드에서 바로 DB로 확인한 결과를 응답으로 사용
+     */
+    private final class Waiter {
+
+        final String namespace;
+        final long since;
+        final DeferredResult<PolicyChangesResponse> result;
+        final AtomicBoolean completing = new AtomicBoolean();
+
+        Waiter(String namespace, long since, Duration timeout) {
+            this.namespace = namespace;
+            this.since = since;
+            this.result = new DeferredResult<>(timeout.toMillis(), this::onTimeout);
+        }
+
+        private Object onTimeout() {
+            completing.set(true);
+            remove(this);
+            try {
+                return extensionService.getPolicyChanges(namespace, since);
+            } catch (RuntimeException e) {
+                return e;
+            }
+        }
+    }
+}
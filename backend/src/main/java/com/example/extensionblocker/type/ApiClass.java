@@ -0,0 +1,16 @@
+package com.example.extensionblocker.type;
+
+/**
+ * 요청 수 제한을 따로 적용하는 API 분류
+ */
+public enum ApiClass {
+    /**
+     * 파일 검증 (/api/validate/**)
+     */
+    VALIDATE,
+
+    /**
+     * 정책 변경 (규칙 추가/삭제, 상위 정책 지정, 일괄 등록)
+     */
+    MUTATION
+}
@@ -0,0 +1,16 @@
+package com.example.extensionblocker.type;
+
+/**
+ * 감사 로그 버퍼가 가득 찼을 때의 처리 방식
+ */
+public enum AuditOverflowPolicy {
+    /**
+     * 기록을 버리고 카운터만 증가 (요청 스레드는 대기하지 않음)
+     */
+    DROP,
+
+    /**
+     * 버퍼에 자리가 날 때까지 요청 스레드가 대기 (설정된 시간이 지나면 버림)
+     */
+    BLOCK
+}
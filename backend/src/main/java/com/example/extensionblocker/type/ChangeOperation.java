@@ -0,0 +1,21 @@
+package com.example.extensionblocker.type;
+
+/**
+ * 정책 변경 기록의 종류
+ */
+public enum ChangeOperation {
+    /**
+     * 규칙 추가
+     */
+    ADD,
+
+    /**
+     * 규칙 삭제
+     */
+    REMOVE,
+
+    /**
+     * 상위 정책 변경
+     */
+    PARENT
+}
@@ -1,18 +1,18 @@
-package com.example.extensionblocker.type;
-
-/**
- * 확장자 타입 열거형
- * FIXED: 고정 확장자 (시스템 정의)
- * CUSTOM: 커스텀 확장자 (사용자 정의)
- */
-public enum ExtensionType {
-    /**
-     * 고정 확장자
-     */
-    FIXED,
-
-    /**
-     * 커스텀 확장자
-     */
-    CUSTOM
-}
+package com.example.extensionblocker.type;
+
+/**
+ * 확장자 타입 열거형
+ * FIXED: 고정 확장자 (시스템 정의)
+ * CUSTOM: 커스텀 확장자 (사용자 정의)
+ */
+public enum ExtensionType {
+    /**
+     * 고정 확장자
+     */
+    FIXED,
+
+    /**
+     * 커스텀 확장자
+     */
+    CUSTOM
+}
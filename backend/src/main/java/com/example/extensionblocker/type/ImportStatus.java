@@ -0,0 +1,32 @@
+package com.example.extensionblocker.type;
+
+/**
+ * 확장자 일괄 등록 항목별 결과
+ */
+public enum ImportStatus {
+
+    /**
+     * 등록됨
+     */
+    IMPORTED,
+
+    /**
+     * 이미 등록된 확장자 (고정/커스텀)
+     */
+    ALREADY_EXISTS,
+
+    /**
+     * 같은 요청 안에서 중복된 확장자
+     */
+    DUPLICATE,
+
+    /**
+     * 형식이 잘못된 확장자
+     */
+    INVALID,
+
+    /**
+     * 최대 커스텀 확장자 개수 초과
+     */
+    LIMIT_EXCEEDED
+}
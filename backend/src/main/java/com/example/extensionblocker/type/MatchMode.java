@@ -0,0 +1,16 @@
+package com.example.extensionblocker.type;
+
+/**
+ * 파일명과 차단 규칙의 매칭 방식
+ */
+public enum MatchMode {
+    /**
+     * 파일명의 끝부분 구간("a.tar.gz"의 "gz", "tar.gz")만 비교
+     */
+    SUFFIX,
+
+    /**
+     * 이름 뒤의 모든 구간을 비교 ("a.exe.pdf"의 "exe"처럼 중간에 숨긴 확장자도 차단)
+     */
+    ANY_SEGMENT
+}
@@ -0,0 +1,18 @@
+package com.example.extensionblocker.type;
+
+/**
+ * 규칙 효과 열거형
+ * BLOCK: 확장자 차단
+ * ALLOW: 상위 네임스페이스에서 물려받은 차단을 해제
+ */
+public enum RuleEffect {
+    /**
+     * 차단
+     */
+    BLOCK,
+
+    /**
+     * 상속된 차단 해제
+     */
+    ALLOW
+}
@@ -0,0 +1,58 @@
+package com.example.extensionblocker.admission;
+
+import com.example.extensionblocker.config.RateLimitProperties;
+import com.example.extensionblocker.type.ApiClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일괄 검증이 파일 수만큼 토큰을 사용하고, 여러 네임스페이스 중 하나라도 거절되면 어느 토큰도 사용하지 않는지 확인
+ */
+class NamespaceRateLimiterTest {
+
+    private final NamespaceRateLimiter limiter = limiter(1, 10);
+
+    @Test
+    void chargesBatchByFileCount() {
+        limiter.acquire(ApiClass.VALIDATE, "a", 10);
+
+        assertThatThrownBy(() -> limiter.acquire(ApiClass.VALIDATE, "a"))
+                .isInstanceOf(RateLimitedException.class);
+    }
+
+    @Test
+    void batchLargerThanBurstLeavesDebt() {
+        limiter.acquire(ApiClass.VALIDATE, "a", 1000);
+
+        // 버킷 용량을 넘은 990개만큼 기다려야 하므로 Retry-After가 버킷이 다시 차는 시간보다 김
+        assertThatThrownBy(() -> limiter.acquire(ApiClass.VALIDATE, "a"))
+                .isInstanceOfSatisfying(RateLimitedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isGreaterThan(900));
+    }
+
+    @Test
+    void rejectedBatchSpendsNoTokens() {
+        limiter.acquire(ApiClass.VALIDATE, "b", 10);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("a", 10);
+        counts.put("b", 1);
+
+        assertThatThrownBy(() -> limiter.acquire(ApiClass.VALIDATE, counts))
+                .isInstanceOf(RateLimitedException.class);
+        assertThatCode(() -> limiter.acquire(ApiClass.VALIDATE, "a", 10)).doesNotThrowAnyException();
+    }
+
+    private static NamespaceRateLimiter limiter(double rate, int burst) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getValidate().setRate(rate);
+        properties.getValidate().setBurst(burst);
+        return new NamespaceRateLimiter(properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.extensionblocker.binary;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 확장자가 최대 길이를 넘을 때 UTF-8 문자 경계에서 잘리는지 확인
+ */
+class BinaryRequestHandlerTest {
+
+    @Test
+    void truncatesLongExtensionOnCharacterBoundary() {
+        // 3바이트 문자 86개 = 258바이트, 255바이트에서 자르면 85개 문자가 온전히 남음
+        String extension = "가".repeat(86);
+        String written = write(extension);
+        assertThat(written).isEqualTo("가".repeat(85));
+    }
+
+    @Test
+    void truncatesBeforeSplitCharacter() {
+        // 254바이트 ASCII 뒤의 2바이트 문자는 잘리면 통째로 빠짐
+        String extension = "a".repeat(254) + "é";
+        assertThat(write(extension)).isEqualTo("a".repeat(254));
+    }
+
+    @Test
+    void keepsExtensionWithinLimit() {
+        assertThat(write("tar.gz")).isEqualTo("tar.gz");
+    }
+
+    private static String write(String extension) {
+        ByteBuffer out = ByteBuffer.allocate(BinaryProtocol.MAX_RESPONSE);
+        BinaryRequestHandler.writeResponse(out, BinaryProtocol.STATUS_BLOCKED, extension);
+        out.flip();
+        assertThat(out.get()).isEqualTo(BinaryProtocol.STATUS_BLOCKED);
+        int length = out.get() & 0xFF;
+        assertThat(out.remaining()).isEqualTo(length);
+        byte[] bytes = new byte[length];
+        out.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.extensionblocker.inspect;
+
+import com.example.extensionblocker.config.ArchiveInspectionProperties;
+import com.example.extensionblocker.dto.FileValidationResponse;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.policy.PolicySnapshot;
+import com.example.extensionblocker.type.ExtensionType;
+import com.example.extensionblocker.type.MatchMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 파일 엔트리 이름도 단일 파일 검증과 같이 정규화한 뒤 비교하는지 확인
+ */
+class ArchiveInspectorTest {
+
+    private final ArchiveInspector inspector = new ArchiveInspector(null, new ArchiveInspectionProperties(), null,
+            null, null);
+
+    private final PolicySnapshot snapshot = blocking("exe");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void blocksEntryWithSoftHyphenInUtf8Name() throws IOException {
+        assertThat(inspect(zip("a.ex\u00ADe", false)).isAllowed()).isFalse();
+    }
+
+    @Test
+    void blocksEntryWithFullwidthExtension() throws IOException {
+        assertThat(inspect(zip("docs/a.\uFF45\uFF58\uFF45", false)).isAllowed()).isFalse();
+    }
+
+    @Test
+    void blocksEntryWithBidiOverride() throws IOException {
+        assertThat(inspect(zip("invoice\u202Efdp.exe", false)).isAllowed()).isFalse();
+    }
+
+    @Test
+    void blocksUtf8EntryWithoutLanguageEncodingFlag() throws IOException {
+        assertThat(inspect(zip("a.ex\u00ADe", true)).isAllowed()).isFalse();
+    }
+
+    @Test
+    void allowsArchiveWithoutBlockedEntries() throws IOException {
+        assertThat(inspect(zip("보고서.pdf", false)).isAllowed()).isTrue();
+    }
+
+    private FileValidationResponse inspect(Path archive) throws IOException {
+        return inspector.inspect(archive, "upload.zip", snapshot, "zip");
+    }
+
+    /**
+     * 엔트리 하나짜리 ZIP 생성 (clearUtf8Flag면 UTF-8 이름을 그대로 두고 EFS 플래그만 지움)
+     */
+    private Path zip(String entryName, boolean clearUtf8Flag) throws IOException {
+        Path archive = Files.createTempFile(dir, "test-", ".zip");
+        try (OutputStream output = Files.newOutputStream(archive);
+                ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry(entryName));
+            zip.write(new byte[] { 'M', 'Z' });
+            zip.closeEntry();
+        }
+        if (clearUtf8Flag) {
+            byte[] bytes = Files.readAllBytes(archive);
+            for (int i = 0; i + 10 < bytes.length; i++) {
+                boolean local = bytes[i] == 'P' && bytes[i + 1] == 'K' && bytes[i + 2] == 3 && bytes[i + 3] == 4;
+                boolean central = bytes[i] == 'P' && bytes[i + 1] == 'K' && bytes[i + 2] == 1 && bytes[i + 3] == 2;
+                if (local) {
+                    bytes[i + 7] &= ~0x08;
+                } else if (central) {
+                    bytes[i + 9] &= ~0x08;
+                }
+            }
+            Files.write(archive, bytes);
+        }
+        return archive;
+    }
+
+    private static PolicySnapshot blocking(String... extensions) {
+        ExtensionPolicy policy = new ExtensionPolicy();
+        policy.setId(1L);
+        policy.setNamespace("test");
+        policy.setVersion(1L);
+        List<ExtensionRule> rules = Arrays.stream(extensions)
+                .map(extension -> new ExtensionRule(1L, extension, ExtensionType.CUSTOM))
+                .toList();
+        return PolicySnapshot.compile(policy, rules, MatchMode.SUFFIX);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.extensionblocker.inspect;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * "MZ"로 시작한다는 것만으로 PE로 판별하지 않고 e_lfanew가 가리키는 PE 서명까지 확인하는지 확인
+ */
+class FileSignatureTest {
+
+    @Test
+    void detectsPeWithSignatureAtLfanew() {
+        byte[] head = pe(0x80);
+
+        assertThat(FileSignature.detect(head, head.length, true)).isEqualTo(FileSignature.PE);
+    }
+
+    @Test
+    void doesNotDetectTextStartingWithMzAsPe() {
+        byte[] head = "MZ-3 build notes\nThe MZ prefix here is plain text, not a DOS header.\n"
+                .getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(FileSignature.detect(head, head.length, true)).isEqualTo(FileSignature.UNKNOWN);
+    }
+
+    @Test
+    void rejectsLfanewOutsideSniffLimit() {
+        byte[] head = pe(0x80);
+        writeLfanew(head, FileSignature.SNIFF_LIMIT);
+
+        assertThat(FileSignature.detect(head, head.length, true)).isEqualTo(FileSignature.UNKNOWN);
+    }
+
+    @Test
+    void waitsForPeHeaderBeforeDeciding() {
+        byte[] head = pe(0x80);
+
+        assertThat(FileSignature.detect(head, 0x40, false)).isNull();
+        assertThat(FileSignature.detect(head, 0x82, false)).isNull();
+        assertThat(FileSignature.detect(head, 0x84, false)).isEqualTo(FileSignature.PE);
+    }
+
+    private static byte[] pe(int lfanew) {
+        byte[] head = new byte[lfanew + 0x40];
+        head[0] = 'M';
+        head[1] = 'Z';
+        writeLfanew(head, lfanew);
+        head[lfanew] = 'P';
+        head[lfanew + 1] = 'E';
+        return head;
+    }
+
+    private static void writeLfanew(byte[] head, int lfanew) {
+        for (int i = 0; i < 4; i++) {
+            head[0x3C + i] = (byte) (lfanew >>> (8 * i));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.extensionblocker.policy;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 클라이언트 모듈의 CanonicalFilename 사본이 서버 구현과 같은 결과를 내는지 같은 파일명 목록으로 확인
+ * 끝에서부터 읽은 결과(ExtensionMatcher가 읽는 방식)와 앞에서부터 정규화한 결과가 같은지도 함께 확인
+ * 클라이언트 소스를 테스트 중에 컴파일하므로 클라이언트 소스가 없는 빌드(backend만 복사한 이미지 빌드)에서는 건너뜀
+ */
+class CanonicalFilenameParityTest {
+
+    private static final Path CLIENT_SOURCE = Path.of("..", "client", "src", "main", "java",
+            "com", "example", "extensionblocker", "client", "CanonicalFilename.java");
+
+    private static final List<String> CORPUS = List.of(
+            "", " ", "...", ".bashrc", "a.EXE", "README_THIS_FILE_HAS_NO_EXTENSION_AT_ALL",
+            "quarterly_financial_statement_for_board_review_2024_final_v12_signed.pdf",
+            "backup.2024.01.15.db.snapshot.tar.gz", "\uD68C\uC758\uB85D_\uCD5C\uC885\uBCF8.Hwp",
+            "dir/sub\\file.Tar.GZ", "C:evil.exe", "C:\\Users\\a\\evil.exe", "c:/x.exe:y",
+            "invoice_2024.exe. . ", "invoice_2024.exe::$DATA", "invoice_2024\u202Efdp.exe",
+            "invoice_2024.\uFF45\uFF58\uFF45", "invoice\uFF0Eexe", "report.p\u00ADdf", "evil.exe\uDB40\uDC01",
+            "\uD83D\uDE00.png", "evil.ex\u200Be\u200B", "invoice_2024%2eexe", "invoice%252eexe", "a.ex%C2%ADe",
+            "a.%E2%80%AEexe", "x%2fy.exe", "x%5Cy.EXE", "a.exe%00.pdf", "a.exe\u0000.pdf", "a%2\u00ADeexe",
+            "evil.%EF%BD%85xe", "a.exe%", "a.exe%2", "a.exe%zz", "100%.txt");
+
+    private static final String ALPHABET = "aEx.. /\\%:2e5cfF0\u0000\u0007\u007F\u00AD\u202E\u200B"
+            + "\uFF45\uFF0E\uFF38\u00C9\u3000\uD83D\uDE00\uDB40\uDC01";
+
+    @TempDir
+    static Path classes;
+
+    private static Method clientOf;
+    private static Method clientExtension;
+
+    @BeforeAll
+    static void compileClientCopy() throws Exception {
+        assumeTrue(Files.exists(CLIENT_SOURCE), "client sources not available");
+        int result = ToolProvider.getSystemJavaCompiler()
+                .run(null, null, null, "-encoding", "UTF-8", "-d", classes.toString(), CLIENT_SOURCE.toString());
+        assertThat(result).isZero();
+
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null);
+        Class<?> type = loader.loadClass("com.example.extensionblocker.client.CanonicalFilename");
+        clientOf = type.getDeclaredMethod("of", CharSequence.class);
+        clientOf.setAccessible(true);
+        clientExtension = type.getDeclaredMethod("extension");
+        clientExtension.setAccessible(true);
+    }
+
+    @Test
+    void clientMatchesServerOnKnownBypasses() throws Exception {
+        for (String filename : CORPUS) {
+            assertSameResult(filename);
+        }
+    }
+
+    @Test
+    void clientMatchesServerOnRandomNames() throws Exception {
+        Random random = new Random(20261018L);
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder filename = new StringBuilder();
+            for (int length = random.nextInt(16); length > 0; length--) {
+                filename.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            assertSameResult(filename.toString());
+        }
+    }
+
+    private void assertSameResult(String filename) throws Exception {
+        String description = escape(filename);
+        CanonicalFilename server = CanonicalFilename.of(filename);
+        String extension = server.extension();
+        String fromEnd = readFromEnd(server);
+        String canonical = server.toString();
+
+        assertThat(fromEnd).as(description).isEqualTo(canonical);
+        assertThat(server.extension()).as(description).isEqualTo(extension);
+
+        Object client = clientOf.invoke(null, filename);
+        assertThat(clientExtension.invoke(client)).as(description).isEqualTo(extension);
+        assertThat(client.toString()).as(description).isEqualTo(canonical);
+    }
+
+    private static String readFromEnd(CanonicalFilename name) {
+        StringBuilder reversed = new StringBuilder();
+        for (int i = name.last(); i >= 0; i = name.before(i)) {
+            reversed.append(name.at(i));
+        }
+        char[] chars = new char[reversed.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = reversed.charAt(chars.length - 1 - i);
+        }
+        return new String(chars);
+    }
+
+    private static String escape(String filename) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : filename.toCharArray()) {
+            escaped.append(c >= 0x20 && c < 0x7F ? String.valueOf(c) : String.format("\\u%04X", (int) c));
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.extensionblocker.policy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 등록이 이미 공개된 트라이의 배열을 바꾸지 않고 새 트라이로만 공개하는지 확인
+ * 다른 네임스페이스가 확장자를 등록하는 동안에도 파일명의 확장자 조회가 실패하지 않는지 확인
+ */
+class ExtensionDictionaryTest {
+
+    @Test
+    void internDoesNotModifyPublishedTrie() {
+        ExtensionDictionary dictionary = new ExtensionDictionary();
+        dictionary.intern(List.of("exe", "tar.gz"));
+        ExtensionDictionary.Trie published = dictionary.trie();
+        int[] next = published.next.clone();
+        int[] terminals = published.terminals.clone();
+        String[] names = published.names.clone();
+
+        // 노드와 이름 배열이 모두 커지도록 초기 용량보다 많이 등록
+        List<String> extensions = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            extensions.add("x" + Integer.toString(i, 36));
+        }
+        dictionary.intern(extensions);
+        dictionary.intern("gz");
+
+        assertThat(published.next).isEqualTo(next);
+        assertThat(published.terminals).isEqualTo(terminals);
+        assertThat(published.names).isEqualTo(names);
+        assertThat(dictionary.trie()).isNotSameAs(published);
+        assertThat(dictionary.size()).isEqualTo(3003);
+    }
+
+    @Test
+    void extensionLookupSurvivesConcurrentIntern() throws Exception {
+        // 전역 사전을 쓰므로 다른 테스트와 겹치지 않는 확장자 사용, 배열이 커지는 1024, 2048, 4096번째를 지나도록 등록
+        int batch = 128;
+        int count = 4608;
+        AtomicInteger interned = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        // 등록 중인 묶음도 조회 (등록 전이면 사전 없이 만든 문자열로 같은 결과)
+                        int from = interned.get();
+                        for (int i = from; i < from + batch; i++) {
+                            String extension = concurrentExtension(i);
+                            assertThat(CanonicalFilename.of("report." + extension).extension()).isEqualTo(extension);
+                        }
+                    }
+                }));
+            }
+            for (int from = 0; from < count; from += batch) {
+                List<String> extensions = new ArrayList<>();
+                for (int i = from; i < from + batch; i++) {
+                    extensions.add(concurrentExtension(i));
+                }
+                ExtensionDictionary.global().intern(extensions);
+                interned.set(from + batch);
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void publishedTerminalsResolveWithinTheirTrie() {
+        ExtensionDictionary dictionary = new ExtensionDictionary();
+        for (int i = 0; i < 2100; i++) {
+            dictionary.intern("y" + Integer.toString(i, 36));
+            ExtensionDictionary.Trie trie = dictionary.trie();
+            for (int node = 0; node < trie.nodes; node++) {
+                assertThat(trie.terminals[node]).isLessThanOrEqualTo(trie.size);
+            }
+        }
+    }
+
+    private static String concurrentExtension(int i) {
+        return "cq" + Integer.toString(i, 36);
+    }
+}
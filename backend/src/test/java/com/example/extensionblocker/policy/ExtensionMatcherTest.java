@@ -0,0 +1,52 @@
+package com.example.extensionblocker.policy;
+
+import com.example.extensionblocker.type.MatchMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ANY_SEGMENT 모드가 파일명 끝에 가까운 점에서 시작하는 규칙을 우선하고,
+ * 다른 네임스페이스의 규칙이 공유 트라이에 있어도 중간 구간의 확장자를 놓치지 않는지 확인
+ */
+class ExtensionMatcherTest {
+
+    @Test
+    void findsExtensionHiddenInMiddleSegment() {
+        ExtensionMatcher matcher = matcher(List.of("exe"), List.of("exe"));
+
+        assertThat(matcher.find("invoice.exe.pdf")).isEqualTo("exe");
+        assertThat(matcher.find("exe.pdf")).isNull();
+    }
+
+    @Test
+    void prefersRuleStartingAtDotClosestToEnd() {
+        ExtensionMatcher matcher = matcher(List.of("exe.tar.gz", "tar"), List.of("exe.tar.gz", "tar"));
+
+        assertThat(matcher.find("a.exe.tar.gz")).isEqualTo("tar");
+        assertThat(matcher.find("a.exe.tar.gz.pdf")).isEqualTo("tar");
+        assertThat(matcher.find("a.exe.tar.gz.tar")).isEqualTo("tar");
+    }
+
+    @Test
+    void findsSegmentWhileOtherNamespacesRulesShareTrie() {
+        // 다른 네임스페이스의 긴 규칙(b.a.b.a)을 따라가는 중에도 새 구간마다 비교를 다시 시작해야 함
+        ExtensionMatcher matcher = matcher(List.of("pdf", "b.a.b.a", "a.b.a", "a"), List.of("pdf"));
+
+        assertThat(matcher.find("report.exe.pdf.b.a.b.a")).isEqualTo("pdf");
+        assertThat(matcher.find("report.pdf.a.b.a.b.a.b")).isEqualTo("pdf");
+    }
+
+    /**
+     * 전역 사전 대신 새 사전에 registered를 등록하고 그중 blocked만 차단하는 매처 생성
+     */
+    private static ExtensionMatcher matcher(List<String> registered, List<String> blocked) {
+        ExtensionDictionary dictionary = new ExtensionDictionary();
+        int[] ids = dictionary.intern(registered);
+        int[] blockedIds = Arrays.stream(ids).filter(id -> blocked.contains(dictionary.extension(id))).toArray();
+        return ExtensionMatcher.compile(dictionary, blockedIds, MatchMode.ANY_SEGMENT);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.extensionblocker.policy;
+
+import com.example.extensionblocker.config.ExtensionMatchingProperties;
+import com.example.extensionblocker.mapper.ExtensionPolicyMapper;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 정책이 없는 네임스페이스의 빈 스냅샷이 정책 스냅샷 수와 관계없이 캐시되고 따로 제한되는지 확인
+ */
+class PolicySnapshotCacheTest {
+
+    private static final int POLICIES = 12_000;
+    private static final int MAX_EMPTY = 10_000;
+
+    private final ExtensionPolicyMapper policyMapper = mock(ExtensionPolicyMapper.class);
+    private final PolicySnapshotCache cache = new PolicySnapshotCache(policyMapper, new ExtensionMatchingProperties());
+
+    @BeforeEach
+    void setUp() {
+        when(policyMapper.getPolicyWithRules(anyString())).thenAnswer(invocation -> {
+            String namespace = invocation.getArgument(0);
+            if (!namespace.startsWith("team-")) {
+                return Optional.empty();
+            }
+            return Optional.of(new ExtensionPolicy(1L, namespace, null, "ACTIVE", 1L, null, null, List.of()));
+        });
+    }
+
+    @Test
+    void cachesUnknownNamespaceWhenManyPoliciesAreCached() {
+        for (int i = 0; i < POLICIES; i++) {
+            cache.get("team-" + i);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("unknown").exists()).isFalse();
+        }
+        verify(policyMapper, times(1)).getPolicyWithRules("unknown");
+    }
+
+    @Test
+    void boundsEmptySnapshotsSeparatelyFromPolicies() {
+        for (int i = 0; i < POLICIES; i++) {
+            cache.get("team-" + i);
+        }
+        for (int i = 0; i < MAX_EMPTY * 2; i++) {
+            cache.get("unknown-" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(POLICIES + MAX_EMPTY);
+        // 가장 최근에 캐시한 빈 스냅샷과 정책 스냅샷은 남아 있음
+        cache.get("unknown-" + (MAX_EMPTY * 2 - 1));
+        cache.get("team-0");
+        verify(policyMapper, times(1)).getPolicyWithRules("unknown-" + (MAX_EMPTY * 2 - 1));
+        verify(policyMapper, times(1)).getPolicyWithRules("team-0");
+    }
+
+    @Test
+    void stopsCountingNamespaceAsEmptyOnceItHasPolicy() {
+        cache.get("team-new");
+        cache.get("later");
+        when(policyMapper.getPolicyWithRules("later")).thenReturn(
+                Optional.of(new ExtensionPolicy(2L, "later", null, "ACTIVE", 1L, null, null, List.of())));
+        cache.refresh("later");
+        for (int i = 0; i < MAX_EMPTY; i++) {
+            cache.get("unknown-" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(2 + MAX_EMPTY);
+        assertThat(cache.getIfPresent("later").exists()).isTrue();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.extensionblocker.service;
+
+import com.example.extensionblocker.config.ChangeFeedProperties;
+import com.example.extensionblocker.constrant.ExtensionConst;
+import com.example.extensionblocker.datasource.ReadYourWrites;
+import com.example.extensionblocker.exception.InvalidRequestException;
+import com.example.extensionblocker.mapper.ExtensionPolicyMapper;
+import com.example.extensionblocker.mapper.ExtensionRuleMapper;
+import com.example.extensionblocker.mapper.PolicyChangeMapper;
+import com.example.extensionblocker.model.ExtensionPolicy;
+import com.example.extensionblocker.model.ExtensionRule;
+import com.example.extensionblocker.policy.PolicyChangeListener;
+import com.example.extensionblocker.policy.PolicySnapshotCache;
+import com.example.extensionblocker.type.ExtensionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상위 정책 지정이 두 정책 행을 잠근 뒤에 순환을 검사하고, DB 트리거의 거부를 요청 오류로 돌려주는지 확인
+ * 규칙 삭제가 정책 행을 잠근 뒤 실제로 삭제한 경우에만 REMOVE 변경을 기록하는지 확인
+ */
+class ExtensionServiceImplTest {
+
+    private static final ExtensionPolicy CHILD = policy(7L, "child", null);
+    private static final ExtensionPolicy PARENT = policy(3L, "parent", null);
+
+    private final ExtensionPolicyMapper policyMapper = mock(ExtensionPolicyMapper.class);
+    private final ExtensionRuleMapper ruleMapper = mock(ExtensionRuleMapper.class);
+    private final PolicyChangeMapper changeMapper = mock(PolicyChangeMapper.class);
+    private final ExtensionServiceImpl service = new ExtensionServiceImpl(policyMapper, ruleMapper,
+            mock(PolicySnapshotCache.class), changeMapper, new ChangeFeedProperties(), mock(ReadYourWrites.class));
+
+    @BeforeEach
+    void setUp() {
+        when(policyMapper.getPolicyByNamespace("child")).thenReturn(Optional.of(CHILD));
+        when(policyMapper.getPolicyByNamespace("parent")).thenReturn(Optional.of(PARENT));
+        when(policyMapper.bumpPolicyVersion(anyLong(), anyString())).thenReturn(policy(7L, "child", 3L));
+    }
+
+    @Test
+    void locksBothPoliciesBeforeWalkingAncestors() {
+        when(policyMapper.getPoliciesByIdsForUpdate(any())).thenReturn(List.of(PARENT, CHILD));
+        when(policyMapper.getAncestorIds(3L, ExtensionConst.MAX_NAMESPACE_DEPTH)).thenReturn(List.of());
+
+        service.setParentPolicy("child", "parent");
+
+        InOrder order = inOrder(policyMapper);
+        order.verify(policyMapper).getPoliciesByIdsForUpdate(List.of(7L, 3L));
+        order.verify(policyMapper).getAncestorIds(3L, ExtensionConst.MAX_NAMESPACE_DEPTH);
+        order.verify(policyMapper).updatePolicyParent(7L, 3L);
+    }
+
+    @Test
+    void rejectsCycleSeenAfterLocking() {
+        // 잠그기 전 조회에서는 상위 정책이 없었지만, 잠근 뒤 다른 트랜잭션이 child를 parent의 상위로 지정한 것을 봄
+        when(policyMapper.getPoliciesByIdsForUpdate(any())).thenReturn(List.of(policy(3L, "parent", 7L), CHILD));
+        when(policyMapper.getAncestorIds(3L, ExtensionConst.MAX_NAMESPACE_DEPTH)).thenReturn(List.of(7L));
+
+        assertThatThrownBy(() -> service.setParentPolicy("child", "parent"))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(policyMapper, never()).updatePolicyParent(anyLong(), any());
+    }
+
+    @Test
+    void reportsHierarchyGuardRejectionAsInvalidRequest() {
+        when(policyMapper.getPoliciesByIdsForUpdate(any())).thenReturn(List.of(PARENT, CHILD));
+        when(policyMapper.getAncestorIds(3L, ExtensionConst.MAX_NAMESPACE_DEPTH)).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("check_policy_parent"))
+                .when(policyMapper).updatePolicyParent(7L, 3L);
+
+        assertThatThrownBy(() -> service.setParentPolicy("child", "parent"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("cycle");
+        verify(policyMapper, never()).bumpPolicyVersion(anyLong(), anyString());
+    }
+
+    @Test
+    void locksPolicyBeforeDeletingRule() {
+        ExtensionRule rule = rule(11L, 7L, "exe");
+        when(ruleMapper.getRuleById(11L)).thenReturn(Optional.of(rule));
+        when(ruleMapper.delExtensionRuleById(11L)).thenReturn(Optional.of(rule));
+
+        service.delExtensionRule(11L);
+
+        InOrder order = inOrder(policyMapper, ruleMapper, changeMapper);
+        order.verify(policyMapper).getPoliciesByIdsForUpdate(List.of(7L));
+        order.verify(ruleMapper).delExtensionRuleById(11L);
+        order.verify(policyMapper).bumpPolicyVersion(7L, PolicyChangeListener.CHANNEL);
+        order.verify(changeMapper).regRemovedRule(1L, rule);
+    }
+
+    @Test
+    void skipsChangeWhenRuleWasAlreadyDeleted() {
+        // 동시에 같은 규칙을 삭제한 트랜잭션이 먼저 커밋해 DELETE ... RETURNING이 행을 돌려주지 않음
+        when(ruleMapper.getRuleById(11L)).thenReturn(Optional.of(rule(11L, 7L, "exe")));
+        when(ruleMapper.delExtensionRuleById(11L)).thenReturn(Optional.empty());
+
+        service.delExtensionRule(11L);
+
+        verify(policyMapper).getPoliciesByIdsForUpdate(List.of(7L));
+        verify(policyMapper, never()).bumpPolicyVersion(anyLong(), anyString());
+        verify(changeMapper, never()).regRemovedRule(anyLong(), any());
+    }
+
+    private static ExtensionPolicy policy(Long id, String namespace, Long parentId) {
+        return new ExtensionPolicy(id, namespace, null, "Y", 1L, parentId, null, List.of());
+    }
+
+    private static ExtensionRule rule(Long id, Long policyId, String extension) {
+        ExtensionRule rule = new ExtensionRule(policyId, extension, ExtensionType.CUSTOM);
+        rule.setId(id);
+        return rule;
+    }
+}
@@ -0,0 +1,588 @@
+package com.example.extensionblocker.client;
+
+import java.util.Locale;
+
+/**
+ * OS가 실제로 따르는 형태로 정규화한 파일명 (마지막 경로 구성 요소, 문자는 소문자로 읽힘)
+ * 파일명을 한 번만 읽으며 아래를 처리하고, 정규식이나 중간 문자열을 만들지 않음
+ * - 퍼센트 인코딩: "%2e" → ".", 다시 인코딩된 "%252e"와 UTF-8 여러 바이트("%EF%BC%8E")도 풀어냄
+ *   (다른 문자를 지우거나 바꾼 뒤 새로 생기는 "%2\u00ADe" 같은 "%XX"도 풀어냄)
+ * - 경로: '/', '\'(디코딩된 "%2f", "%5c" 포함)와 드라이브 문자("C:") 앞은 버림
+ * - NUL: 그 뒤는 버림 (C 문자열로 다루는 API는 NUL에서 끝남)
+ * - NTFS 대체 데이터 스트림: 첫 ':' 뒤("evil.exe::$DATA"의 "::$DATA")는 버림
+ * - 보이지 않는 문자: 방향 제어(U+202E 등), 폭 없는 문자, BOM 같은 서식 문자와 제어 문자는 제거
+ * - 전각 문자: 전각 영숫자와 전각 마침표는 ASCII로 바꿈 (NFKC와 같은 결과)
+ * - 끝의 점과 공백: Windows처럼 제거 ("evil.exe. " → "evil.exe")
+ * 바꿀 문자가 없으면 원본의 구간을 그대로 참조하고, 처음 바꿔야 할 때만 파일명 길이의 배열 하나를 만듦
+ * 멀리 떨어진 문자에 영향을 주는 '%', ':', NUL이 없으면 나머지 규칙은 문자 하나씩만 보므로 앞에서부터 정규화하지 않고
+ * last, before, at으로 끝에서부터 필요한 만큼만 읽음 (확장자 비교는 파일명 길이가 아니라 확장자 길이만큼만 읽음)
+ * (서버의 CanonicalFilename과 동일하게 유지, 서버와 달리 확장자 사전을 거치지 않음, 서버 테스트 CanonicalFilenameParityTest가 같은 파일명 목록으로 비교)
+ * 인스턴스는 호출 하나 안에서만 사용 (length, charAt, toString을 처음 호출할 때 앞에서부터 정규화한 결과를 채움)
+ */
+final class CanonicalFilename implements CharSequence {
+
+    private static final CanonicalFilename EMPTY = new CanonicalFilename("");
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    /**
+     * NUL, '%', ':' (hasNonLocalChar에서 0x40 미만 문자를 비트로 확인)
+     */
+    private static final long NON_LOCAL = 1L | 1L << '%' | 1L << ':';
+
+    private static final int INDEX_OF_MIN_LENGTH = 32;
+
+    // 빠른 경로의 문자 분류 (점과 공백도 PLAIN, 끝부분은 scanTail에서 따로 확인)
+    private static final byte PLAIN = 0;
+    private static final byte SEPARATOR = 1;
+    private static final byte SPECIAL = 2;
+
+    private static final byte[] ASCII_KINDS = new byte[0x80];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ASCII_KINDS[c] = SPECIAL;
+        }
+        ASCII_KINDS[0x7F] = SPECIAL;
+        ASCII_KINDS['%'] = SPECIAL;
+        ASCII_KINDS[':'] = SPECIAL;
+        ASCII_KINDS['/'] = SEPARATOR;
+        ASCII_KINDS['\\'] = SEPARATOR;
+    }
+
+    private final CharSequence source;
+
+    /**
+     * 바꾼 문자를 담은 배열 (바꿀 문자가 없으면 null이고 source의 구간을 그대로 사용)
+     */
+    private char[] buffer;
+
+    /**
+     * 마지막 경로 구성 요소의 시작 (buffer가 null이면 source 기준, deferred면 0)
+     */
+    private int start;
+
+    /**
+     * 끝의 점과 공백을 제외한 끝
+     */
+    private int end;
+
+    /**
+     * 앞에서부터 정규화하지 않고 끝에서부터 읽는 중인지 여부 ('%', ':', NUL이 없는 파일명)
+     * 이때 end는 source에서 마지막으로 남는 문자 다음 위치이고, 위치 사이의 지운 문자는 before가 건너뜀
+     */
+    private boolean deferred;
+
+    /**
+     * end 앞의 마지막 점 (확장자 구분), 없으면 -1
+     */
+    private int dot = -1;
+
+    // 아래는 정규화 중에만 사용
+    private int length;
+    private int lastDot = -1;
+    private boolean separated;
+    private boolean stream;
+
+    private CanonicalFilename(CharSequence source) {
+        this.source = source;
+        if (source.length() > 0 && !hasNonLocalChar(source)) {
+            deferred = true;
+            scanFromEnd();
+        } else {
+            canonicalizeForward();
+        }
+    }
+
+    /**
+     * 끝의 점·공백과 지울 문자를 건너뛰어 end를 정함 (흔한 파일명은 마지막 문자 하나만 읽음)
+     */
+    private void scanFromEnd() {
+        int k = source.length() - 1;
+        char c = source.charAt(k);
+        if (!isAsciiText(c) || c == '.' || c == ' ') {
+            k = previous(k);
+            while (k >= 0 && (at(k) == '.' || at(k) == ' ')) {
+                k = previous(k - 1);
+            }
+        }
+        end = k + 1;
+    }
+
+    /**
+     * 파일명 전체를 앞에서부터 정규화
+     */
+    private void canonicalizeForward() {
+        int n = source.length();
+        int i = 0;
+        int componentStart = 0;
+        // 바꿀 문자가 나오기 전까지는 문자 종류만 확인하는 빠른 경로
+        for (; i < n; i++) {
+            char c = source.charAt(i);
+            int kind = c < 0x80 ? ASCII_KINDS[c] : isPlain(c) ? PLAIN : SPECIAL;
+            if (kind != PLAIN) {
+                if (kind == SPECIAL) {
+                    break;
+                }
+                componentStart = i + 1;
+            }
+        }
+        start = componentStart;
+        separated = componentStart > 0;
+        scanTail(i);
+        if (i < n) {
+            canonicalize(i);
+        }
+    }
+
+    /**
+     * 빠른 경로에서 읽은 [start, position) 구간의 끝(끝의 점·공백 제외)과 확장자 점을 뒤에서부터 찾음
+     * (끝부분의 확장자 길이만큼만 다시 읽음)
+     */
+    private void scanTail(int position) {
+        int k = position - 1;
+        while (k >= start && (source.charAt(k) == '.' || source.charAt(k) == ' ')) {
+            k--;
+        }
+        end = k + 1;
+        int lastDotBeforeEnd = -1;
+        for (; k >= start; k--) {
+            if (source.charAt(k) == '.') {
+                lastDotBeforeEnd = k;
+                break;
+            }
+        }
+        dot = lastDotBeforeEnd;
+        lastDot = position > end ? lastIndexOfDot(end, position) : dot;
+        length = position;
+    }
+
+    private int lastIndexOfDot(int from, int to) {
+        for (int k = to - 1; k >= from; k--) {
+            if (source.charAt(k) == '.') {
+                return k;
+            }
+        }
+        return dot;
+    }
+
+    /**
+     * from 위치부터 나머지를 정규화 (퍼센트 인코딩, ':', NUL, 보이지 않는 문자, 전각 문자 처리)
+     *
+     * @param from 처음 만난 특수 문자 위치
+     */
+    private void canonicalize(int from) {
+        int n = source.length();
+        for (int i = from; i < n; i++) {
+            int c = source.charAt(i);
+            int next = i + 1;
+            boolean rewritten = false;
+            if (c == '%') {
+                long decoded = decodePercent(source, i);
+                if (decoded >= 0) {
+                    c = (int) decoded;
+                    next = (int) (decoded >>> 32);
+                    rewritten = true;
+                }
+            } else if (Character.isHighSurrogate((char) c) && next < n
+                    && Character.isLowSurrogate(source.charAt(next))) {
+                int codePoint = Character.toCodePoint((char) c, source.charAt(next));
+                if (Character.getType(codePoint) == Character.FORMAT) {
+                    c = codePoint;
+                    next++;
+                }
+            }
+            if (!accept(c, rewritten, i, next)) {
+                break;
+            }
+            i = next - 1;
+        }
+    }
+
+    /**
+     * 문자 하나를 현재 구성 요소에 반영
+     *
+     * @param c         문자 (디코딩한 코드 포인트일 수 있음)
+     * @param rewritten 원본과 다른 문자인지 여부
+     * @param position  원본에서 이 문자가 시작하는 위치
+     * @param next      원본에서 다음에 읽을 위치
+     * @return false면 NUL을 만나 정규화를 끝냄
+     */
+    private boolean accept(int c, boolean rewritten, int position, int next) {
+        int ascii = fullwidthToAscii(c);
+        if (ascii != c) {
+            c = ascii;
+            rewritten = true;
+        }
+        if (c == 0) {
+            return false;
+        }
+        if (c == '/' || c == '\\') {
+            newComponent(next);
+            separated = true;
+            stream = false;
+        } else if (stream) {
+            // NTFS 스트림 이름은 다음 경로 구분자까지 버림
+        } else if (c == ':') {
+            if (!separated && length - start == 1 && isAsciiLetter(charAt(0))) {
+                newComponent(next);
+                separated = true;
+            } else {
+                stream = true;
+            }
+        } else if (isInvisible(c)) {
+            toBuffer(position);
+        } else {
+            append(c > 0xFFFF ? REPLACEMENT : (char) c, rewritten, position);
+            // 보이지 않는 문자를 지우거나 전각 문자를 바꾼 결과, 또는 "%25" 디코딩 결과가 새 "%XX"를 이루면 다시 디코딩
+            if (buffer != null && length - start >= 3 && buffer[length - 3] == '%') {
+                int decoded = hexValue(buffer[length - 2], buffer[length - 1]);
+                if (decoded >= 0 && decoded < 0x80) {
+                    length -= 3;
+                    rescanTail();
+                    return accept(decoded, true, position, next);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 파일명 정규화
+     *
+     * @param filename 파일명 (경로 포함 가능, null이면 빈 파일명)
+     * @return 정규화한 파일명 (이미 정규화한 파일명이면 그대로)
+     */
+    static CanonicalFilename of(CharSequence filename) {
+        if (filename instanceof CanonicalFilename canonical) {
+            return canonical;
+        }
+        return filename == null || filename.length() == 0 ? EMPTY : new CanonicalFilename(filename);
+    }
+
+    /**
+     * OS가 따르는 확장자 (마지막 점 이후)
+     *
+     * @return 확장자 (점 제외, 소문자, 예: "evil.EXE::$DATA" → "exe"), 없으면 빈 문자열
+     */
+    String extension() {
+        int extensionDot = dot;
+        boolean plain = buffer == null;
+        if (deferred) {
+            // 확장자가 바꿀 문자 없는 ASCII면 한 번의 비교로 끝나고, 아니면 before로 지운 문자를 건너뛰며 찾음
+            int k = end - 1;
+            while (k >= 0 && isAsciiText(source.charAt(k)) && source.charAt(k) != '.') {
+                k--;
+            }
+            plain = k < 0 || source.charAt(k) == '.' || source.charAt(k) == '/' || source.charAt(k) == '\\';
+            if (plain) {
+                extensionDot = k >= 0 && source.charAt(k) == '.' ? k : -1;
+            } else {
+                extensionDot = k;
+                while (extensionDot >= 0 && at(extensionDot) != '.') {
+                    extensionDot = before(extensionDot);
+                }
+            }
+        }
+        if (extensionDot < 0) {
+            return "";
+        }
+        if (plain) {
+            return source.subSequence(extensionDot + 1, end).toString().toLowerCase(Locale.ROOT);
+        }
+        int last = last();
+        char[] chars = new char[last - extensionDot];
+        int k = chars.length;
+        for (int i = last; i != extensionDot; i = before(i)) {
+            chars[--k] = at(i);
+        }
+        return new String(chars, k, chars.length - k);
+    }
+
+    /**
+     * 끝에서부터 읽을 때 마지막 문자의 위치 (at, before에만 쓰는 위치로 charAt의 인덱스와 다를 수 있음)
+     *
+     * @return 위치, 빈 파일명이면 -1
+     */
+    int last() {
+        return end > start ? end - 1 : -1;
+    }
+
+    /**
+     * 끝에서부터 읽을 때 position 바로 앞 문자의 위치 (지운 문자는 건너뜀)
+     *
+     * @return 위치, 구성 요소의 시작이면 -1
+     */
+    int before(int position) {
+        if (deferred) {
+            int k = position - 1;
+            return k >= 0 && isAsciiText(source.charAt(k)) ? k : previous(k);
+        }
+        return position > start ? position - 1 : -1;
+    }
+
+    /**
+     * position 위치의 정규화한 문자 (소문자)
+     */
+    char at(int position) {
+        if (buffer != null) {
+            return buffer[position];
+        }
+        return lower(fullwidthToAscii(source.charAt(position)));
+    }
+
+    @Override
+    public int length() {
+        materialize();
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        materialize();
+        return lower(buffer != null ? buffer[start + index] : source.charAt(start + index));
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return toString().substring(from, to);
+    }
+
+    @Override
+    public String toString() {
+        materialize();
+        if (buffer != null) {
+            return new String(buffer, start, end - start);
+        }
+        return source.subSequence(start, end).toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 끝에서부터 읽던 파일명을 앞에서부터 정규화한 결과로 채움 (CharSequence 인덱스로 읽을 때만 필요)
+     */
+    private void materialize() {
+        if (deferred) {
+            deferred = false;
+            canonicalizeForward();
+        }
+    }
+
+    /**
+     * position부터 앞으로 가며 정규화 후 남는 첫 문자의 source 위치 (deferred일 때만 사용)
+     * '%', ':', NUL이 없으므로 지울 문자(제어·서식 문자)만 건너뛰고, 경로 구분자를 만나면 -1
+     */
+    private int previous(int position) {
+        for (int k = position; k >= 0; k--) {
+            char c = source.charAt(k);
+            if (c < 0x80) {
+                if (c == '/' || c == '\\') {
+                    return -1;
+                }
+                if (c >= 0x20 && c != 0x7F) {
+                    return k;
+                }
+            } else if (Character.isLowSurrogate(c) && k > 0 && Character.isHighSurrogate(source.charAt(k - 1))) {
+                if (Character.getType(Character.toCodePoint(source.charAt(k - 1), c)) != Character.FORMAT) {
+                    return k;
+                }
+                k--;
+            } else if (!isInvisible(c)) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 멀리 떨어진 문자에 영향을 주는 문자('%' 디코딩, ':' 뒤 버림, NUL 뒤 버림)가 있는지 확인
+     * 긴 String은 벡터화된 indexOf 세 번이, 짧은 파일명은 한 번의 순회가 빠름
+     */
+    private static boolean hasNonLocalChar(CharSequence s) {
+        if (s.length() >= INDEX_OF_MIN_LENGTH && s instanceof String string) {
+            return string.indexOf('%') >= 0 || string.indexOf(':') >= 0 || string.indexOf(0) >= 0;
+        }
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x40 && (NON_LOCAL >>> c & 1) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void append(char c, boolean rewritten, int position) {
+        if (rewritten) {
+            toBuffer(position);
+        }
+        if (buffer == null) {
+            length = position + 1;
+        } else {
+            buffer[length++] = lower(c);
+        }
+        if (c == '.') {
+            lastDot = length - 1;
+        } else if (c != ' ') {
+            end = length;
+            dot = lastDot;
+        }
+    }
+
+    /**
+     * 경로 구분자 다음부터 새 구성 요소 시작
+     */
+    private void newComponent(int next) {
+        start = buffer == null ? next : 0;
+        length = start;
+        end = start;
+        lastDot = -1;
+        dot = -1;
+    }
+
+    /**
+     * 원본 구간 참조에서 배열로 전환 (position 앞까지 읽은 현재 구성 요소를 복사)
+     */
+    private void toBuffer(int position) {
+        if (buffer != null) {
+            return;
+        }
+        buffer = new char[source.length()];
+        for (int k = start; k < position; k++) {
+            buffer[k - start] = lower(source.charAt(k));
+        }
+        length = position - start;
+        end -= start;
+        lastDot = lastDot < 0 ? -1 : lastDot - start;
+        dot = dot < 0 ? -1 : dot - start;
+        start = 0;
+    }
+
+    /**
+     * 배열 끝에서 문자를 지운 뒤 end, dot, lastDot을 다시 계산
+     */
+    private void rescanTail() {
+        int k = length - 1;
+        while (k >= start && (buffer[k] == '.' || buffer[k] == ' ')) {
+            k--;
+        }
+        end = k + 1;
+        lastDot = -1;
+        dot = -1;
+        for (k = length - 1; k >= start; k--) {
+            if (buffer[k] == '.') {
+                if (lastDot < 0) {
+                    lastDot = k;
+                }
+                if (k < end) {
+                    dot = k;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * i 위치의 "%XX"를 디코딩
+     * 0x80 이상이면 뒤따르는 "%XX"를 UTF-8 연속 바이트로 읽음 (최소 길이 인코딩 여부는 확인하지 않음)
+     * 다시 인코딩된 "%252e"는 "%25"를 '%'로 디코딩한 뒤 accept에서 이어지는 "2e"와 함께 다시 디코딩됨
+     *
+     * @return (다음에 읽을 위치 << 32) | 코드 포인트, 디코딩할 수 없으면 -1
+     */
+    private static long decodePercent(CharSequence s, int i) {
+        int value = hexByte(s, i + 1);
+        if (value < 0) {
+            return -1;
+        }
+        int next = i + 3;
+        if (value >= 0x80) {
+            int continuation = value >= 0xF0 ? 3 : value >= 0xE0 ? 2 : value >= 0xC0 ? 1 : -1;
+            if (continuation < 0) {
+                return -1;
+            }
+            int codePoint = value & (0x3F >> continuation);
+            for (int k = 0; k < continuation; k++) {
+                int b = next < s.length() && s.charAt(next) == '%' ? hexByte(s, next + 1) : -1;
+                if (b < 0x80 || b > 0xBF) {
+                    return -1;
+                }
+                codePoint = codePoint << 6 | b & 0x3F;
+                next += 3;
+            }
+            value = codePoint;
+        }
+        return (long) next << 32 | value;
+    }
+
+    /**
+     * i 위치부터의 16진수 두 자리, 아니면 -1
+     */
+    private static int hexByte(CharSequence s, int i) {
+        return i + 1 < s.length() ? hexValue(s.charAt(i), s.charAt(i + 1)) : -1;
+    }
+
+    private static int hexValue(char high, char low) {
+        int h = hexDigit(high);
+        int l = hexDigit(low);
+        return h < 0 || l < 0 ? -1 : h << 4 | l;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return c >= 'A' && c <= 'F' ? c - 'A' + 10 : -1;
+    }
+
+    /**
+     * 전각 영숫자와 전각 마침표는 ASCII로, 나머지는 그대로
+     */
+    private static int fullwidthToAscii(int c) {
+        return c >= 0xFF10 && c <= 0xFF5A && Character.isLetterOrDigit(c) || c == 0xFF0E ? c - 0xFEE0 : c;
+    }
+
+    private static char fullwidthToAscii(char c) {
+        return (char) fullwidthToAscii((int) c);
+    }
+
+    /**
+     * 화면에 보이지 않거나 파일명에 쓸 수 없는 문자 (제어 문자, 서식 문자)
+     */
+    private static boolean isInvisible(int c) {
+        if (c < 0x80) {
+            return c < 0x20 || c == 0x7F;
+        }
+        int type = Character.getType(c);
+        return type == Character.FORMAT || type == Character.CONTROL;
+    }
+
+    /**
+     * 빠른 경로에서 그대로 둘 수 있는 비 ASCII 문자 (전각 영역, 상위 서로게이트, 서식·제어 문자가 아님)
+     */
+    private static boolean isPlain(char c) {
+        if (c >= 0xFF0E && c <= 0xFF5A || Character.isHighSurrogate(c)) {
+            return false;
+        }
+        int type = Character.getType(c);
+        return type != Character.FORMAT && type != Character.CONTROL;
+    }
+
+    /**
+     * 정규화해도 바뀌지 않는 ASCII 문자 (제어 문자와 경로 구분자가 아님, 점과 공백 포함)
+     */
+    private static boolean isAsciiText(char c) {
+        return c >= 0x20 && c < 0x7F && c != '/' && c != '\\';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static char lower(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+}
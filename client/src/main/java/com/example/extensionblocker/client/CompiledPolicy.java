@@ -0,0 +1,14 @@
+package com.example.extensionblocker.client;
+
+import java.util.List;
+
+/**
+ * GET /api/policies/{namespace}/compiled 응답
+ *
+ * @param namespace 정책 네임스페이스
+ * @param version   정책 버전 (정책이 없으면 -1)
+ * @param mode      파일명 매칭 방식 (SUFFIX, ANY_SEGMENT)
+ * @param blocked   상속과 차단 해제를 반영한 차단 확장자 목록
+ */
+record CompiledPolicy(String namespace, long version, String mode, List<String> blocked) {
+}
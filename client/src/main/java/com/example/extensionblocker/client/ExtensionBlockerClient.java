@@ -0,0 +1,311 @@
+package com.example.extensionblocker.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 확장자 차단 정책을 프로세스 안에서 판정하는 클라이언트 (스레드 안전)
+ * 네임스페이스를 처음 사용할 때 서버에서 컴파일된 정책을 한 번 받아 오고, 이후에는 네트워크 호출 없이 로컬 매처로 판정
+ * 백그라운드 스레드가 refreshInterval마다 조건부 조회(If-None-Match)로 정책을 갱신하며,
+ * 마지막으로 서버와 확인한 시점이 maxStaleness를 넘은 정책은 사용하지 않고 FailureMode로 판정
+ */
+public class ExtensionBlockerClient implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ExtensionBlockerClient.class);
+
+    private final PolicyFetcher fetcher;
+    private final Duration refreshInterval;
+    private final long maxStalenessNanos;
+    private final FailureMode failureMode;
+    private final int maxNamespaces;
+    private final ConcurrentHashMap<String, PolicyEntry> entries = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private ExtensionBlockerClient(Builder builder) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(builder.connectTimeout)
+                .build();
+        this.fetcher = new PolicyFetcher(httpClient, builder.baseUrl, builder.requestTimeout);
+        this.refreshInterval = builder.refreshInterval;
+        this.maxStalenessNanos = builder.maxStaleness.toNanos();
+        this.failureMode = builder.failureMode;
+        this.maxNamespaces = builder.maxNamespaces;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "extension-blocker-client-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static Builder builder(String baseUrl) {
+        return new Builder(baseUrl);
+    }
+
+    /**
+     * 미리 지정한 네임스페이스의 정책을 받아 오고 백그라운드 갱신 시작
+     *
+     * @param namespaces 미리 받아 올 네임스페이스 목록
+     */
+    private void start(List<String> namespaces) {
+        for (String namespace : namespaces) {
+            entry(namespace);
+        }
+        long interval = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 파일 업로드 허용 여부 확인
+     *
+     * @param namespace 정책 네임스페이스
+     * @param filename  파일명
+     * @return true: 허용, false: 차단 (파일명이 비어 있으면 false)
+     */
+    public boolean isAllowed(String namespace, String filename) {
+        if (filename == null || filename.isBlank()) {
+            return false;
+        }
+        LocalPolicy policy = usablePolicy(namespace);
+        if (policy == null) {
+            return failureMode == FailureMode.FAIL_OPEN;
+        }
+        return policy.matcher().find(filename) == null;
+    }
+
+    /**
+     * 파일 업로드 허용 여부와 판정에 사용한 확장자 확인
+     *
+     * @param namespace 정책 네임스페이스
+     * @param filename  파일명
+     * @return 판정 결과
+     */
+    public Verdict validate(String namespace, String filename) {
+        String extension = ExtensionNames.extractExtension(filename);
+        if (filename == null || filename.isBlank()) {
+            return new Verdict(false, extension, false);
+        }
+        LocalPolicy policy = usablePolicy(namespace);
+        if (policy == null) {
+            return new Verdict(failureMode == FailureMode.FAIL_OPEN, extension, true);
+        }
+        String blocked = policy.matcher().find(filename);
+        return new Verdict(blocked == null, blocked != null ? blocked : extension, false);
+    }
+
+    /**
+     * 네임스페이스 정책의 현재 버전
+     *
+     * @param namespace 정책 네임스페이스
+     * @return 보유한 정책 버전, 받아 온 정책이 없으면 null
+     */
+    public Long getPolicyVersion(String namespace) {
+        PolicyEntry entry = entries.get(namespace);
+        LocalPolicy policy = entry != null ? entry.policy : null;
+        return policy != null ? policy.version() : null;
+    }
+
+    /**
+     * 판정에 사용할 정책 (없거나 maxStaleness를 넘었으면 null)
+     */
+    private LocalPolicy usablePolicy(String namespace) {
+        PolicyEntry entry = entry(Objects.requireNonNull(namespace, "namespace"));
+        if (entry == null) {
+            return null;
+        }
+        LocalPolicy policy = entry.policy;
+        if (policy == null || System.nanoTime() - entry.verifiedAt > maxStalenessNanos) {
+            return null;
+        }
+        return policy;
+    }
+
+    /**
+     * 네임스페이스 항목 조회 (처음 사용하는 네임스페이스면 등록하고 정책을 한 번 받아 옴)
+     * 같은 네임스페이스를 동시에 처음 사용하는 스레드들은 첫 조회가 끝날 때까지 기다림
+     *
+     * @return 항목, 네임스페이스 수 상한에 도달했으면 null
+     */
+    private PolicyEntry entry(String namespace) {
+        PolicyEntry entry = entries.get(namespace);
+        if (entry != null && entry.initialized) {
+            return entry;
+        }
+        if (entry == null) {
+            if (entries.size() >= maxNamespaces) {
+                log.warn("[entry] Namespace limit {} reached, not tracking {}", maxNamespaces, namespace);
+                return null;
+            }
+            entry = entries.computeIfAbsent(namespace, PolicyEntry::new);
+        }
+        synchronized (entry) {
+            if (!entry.initialized) {
+                refresh(entry);
+                entry.initialized = true;
+            }
+        }
+        return entry;
+    }
+
+    private void refreshAll() {
+        for (PolicyEntry entry : entries.values()) {
+            refresh(entry);
+        }
+    }
+
+    /**
+     * 정책 조건부 조회 (실패하면 기존 정책과 확인 시점을 그대로 둠)
+     */
+    private void refresh(PolicyEntry entry) {
+        try {
+            LocalPolicy current = entry.policy;
+            LocalPolicy next = fetcher.fetch(entry.namespace, current);
+            if (next != current) {
+                log.debug("[refresh] Policy updated: namespace={}, version={}", entry.namespace, next.version());
+            }
+            entry.policy = next;
+            entry.verifiedAt = System.nanoTime();
+            if (entry.failing) {
+                log.info("[refresh] Policy refresh recovered: namespace={}", entry.namespace);
+                entry.failing = false;
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!entry.failing) {
+                log.warn("[refresh] Failed to refresh policy {}: {}", entry.namespace, e.getMessage());
+                entry.failing = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 중지
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 네임스페이스별 정책과 마지막으로 서버와 확인한 시점
+     */
+    private static final class PolicyEntry {
+
+        final String namespace;
+        volatile LocalPolicy policy;
+        volatile long verifiedAt;
+        volatile boolean initialized;
+
+        /**
+         * 갱신이 연속으로 실패하는 중인지 (실패 로그를 한 번만 남기기 위해 사용)
+         */
+        volatile boolean failing;
+
+        PolicyEntry(String namespace) {
+            this.namespace = namespace;
+        }
+    }
+
+    /**
+     * 클라이언트 설정
+     */
+    public static final class Builder {
+
+        private final String baseUrl;
+        private final List<String> namespaces = new ArrayList<>();
+        private Duration refreshInterval = Duration.ofSeconds(5);
+        private Duration maxStaleness = Duration.ofMinutes(1);
+        private FailureMode failureMode = FailureMode.FAIL_OPEN;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration requestTimeout = Duration.ofSeconds(2);
+        private int maxNamespaces = 1000;
+
+        private Builder(String baseUrl) {
+            this.baseUrl = Objects.requireNonNull(baseUrl, "baseUrl");
+        }
+
+        /**
+         * 생성 시 미리 받아 올 네임스페이스 (그 외 네임스페이스는 처음 사용할 때 받아 옴)
+         */
+        public Builder namespaces(String... namespaces) {
+            this.namespaces.addAll(List.of(namespaces));
+            return this;
+        }
+
+        /**
+         * 백그라운드 갱신 주기 (기본 5초)
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * 마지막으로 서버와 확인한 뒤 정책을 계속 사용할 최대 시간 (기본 1분, refreshInterval보다 커야 함)
+         */
+        public Builder maxStaleness(Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+            return this;
+        }
+
+        /**
+         * 정책을 사용할 수 없을 때의 판정 방식 (기본 FAIL_OPEN)
+         */
+        public Builder failureMode(FailureMode failureMode) {
+            this.failureMode = failureMode;
+            return this;
+        }
+
+        /**
+         * 서버 연결 제한 시간 (기본 2초)
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * 정책 조회 요청 제한 시간 (기본 2초, 처음 사용하는 네임스페이스의 판정이 기다리는 최대 시간)
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * 추적할 최대 네임스페이스 수 (기본 1000, 넘으면 새 네임스페이스는 FailureMode로 판정)
+         */
+        public Builder maxNamespaces(int maxNamespaces) {
+            this.maxNamespaces = maxNamespaces;
+            return this;
+        }
+
+        /**
+         * 클라이언트 생성 (미리 지정한 네임스페이스의 정책을 받아 온 뒤 반환)
+         *
+         * @return 백그라운드 갱신이 시작된 클라이언트
+         */
+        public ExtensionBlockerClient build() {
+            if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+                throw new IllegalArgumentException("refreshInterval must be positive");
+            }
+            if (maxStaleness.compareTo(refreshInterval) <= 0) {
+                throw new IllegalArgumentException("maxStaleness must be longer than refreshInterval");
+            }
+            ExtensionBlockerClient client = new ExtensionBlockerClient(this);
+            client.start(namespaces);
+            return client;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.extensionblocker.client;
+
+/**
+ * 서버와 같은 확장자 정규화 규칙
+ * (ExtensionServiceImpl.normalize, ExtensionMatcher.extractExtension과 동일하게 유지)
+ */
+final class ExtensionNames {
+
+    private ExtensionNames() {
+    }
+
+    /**
+     * 규칙 확장자 정규화 (앞뒤 공백 제거, 소문자, 앞의 점 하나 제거)
+     *
+     * @param input 확장자 (예: " .EXE")
+     * @return 정규화된 확장자 (예: "exe"), null이면 빈 문자열
+     */
+    static String normalize(String input) {
+        if (input == null) {
+            return "";
+        }
+        String clean = input.trim().toLowerCase();
+        if (clean.startsWith(".")) {
+            clean = clean.substring(1);
+        }
+        return clean;
+    }
+
+    /**
+     * 파일명에서 확장자 추출 (정규화한 파일명의 마지막 점 이후, 소문자)
+     *
+     * @param filename 파일명 (예: "test.EXE", "evil.exe::$DATA")
+     * @return 확장자 (예: "exe"), 없으면 빈 문자열
+     */
+    static String extractExtension(String filename) {
+        return CanonicalFilename.of(filename).extension();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.extensionblocker.client;
+
+/**
+ * 정책을 사용할 수 없을 때의 판정 방식
+ * (처음 조회에 실패했거나, 마지막으로 확인한 정책이 허용된 최대 경과 시간을 넘긴 경우)
+ */
+public enum FailureMode {
+    /**
+     * 모든 파일 허용 (검증 서버 장애가 업로드 장애로 번지지 않음)
+     */
+    FAIL_OPEN,
+
+    /**
+     * 모든 파일 차단 (오래된 정책으로 새로 차단된 확장자를 통과시키지 않음)
+     */
+    FAIL_CLOSED
+}
@@ -0,0 +1,155 @@
+package com.example.extensionblocker.client;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 서버의 ExtensionMatcher와 같은 규칙으로 판정하는 로컬 매처 (불변)
+ * - 규칙은 점 바로 뒤에서 시작하는 구간과 일치할 때만 매칭 (파일명의 첫 부분은 매칭되지 않음)
+ * - SUFFIX: 파일명 끝까지의 구간("a.tar.gz"의 "gz", "tar.gz"), ANY_SEGMENT: 이름 뒤의 모든 구간 연속
+ * - 경로 구분자('/', '\') 앞은 보지 않고, 영문 대소문자와 소문자로 바꾸면 ASCII가 되는 문자는 같은 문자로 취급
+ * - 영문/숫자/점 외의 문자가 들어간 규칙은 마지막 점 이후와만 비교
+ * 일치한 규칙이 여러 개면 파일명 끝에 가까운 점에서 시작하는 것을 반환
+ */
+final class LocalMatcher {
+
+    /**
+     * 허용 문자 외의 문자를 접은 값 (규칙에는 나타나지 않음)
+     */
+    private static final char INVALID = 0;
+
+    private final boolean anySegment;
+
+    /**
+     * 영문/숫자와 구분자 점으로만 이루어진 규칙
+     */
+    private final Set<String> blocked;
+
+    /**
+     * 그 외 문자가 들어간 규칙
+     */
+    private final Set<String> others;
+
+    /**
+     * 가장 긴 규칙의 길이 (더 긴 구간은 비교하지 않음)
+     */
+    private final int maxLength;
+
+    LocalMatcher(Collection<String> extensions, boolean anySegment) {
+        Set<String> keys = new HashSet<>();
+        Set<String> rest = new HashSet<>();
+        int longest = 0;
+        for (String extension : extensions) {
+            String normalized = ExtensionNames.normalize(extension);
+            if (isKey(normalized)) {
+                keys.add(normalized);
+                longest = Math.max(longest, normalized.length());
+            } else if (!normalized.isEmpty()) {
+                rest.add(normalized);
+            }
+        }
+        this.anySegment = anySegment;
+        this.blocked = Set.copyOf(keys);
+        this.others = Set.copyOf(rest);
+        this.maxLength = longest;
+    }
+
+    /**
+     * 파일명과 일치하는 차단 규칙 조회
+     *
+     * @param filename 파일명
+     * @return 일치한 규칙, 없으면 null
+     */
+    String find(String filename) {
+        CanonicalFilename name = CanonicalFilename.of(filename);
+        String found = blocked.isEmpty() ? null : findKey(name);
+        if (found != null || others.isEmpty()) {
+            return found;
+        }
+        String extension = name.extension();
+        return others.contains(extension) ? extension : null;
+    }
+
+    private String findKey(CanonicalFilename name) {
+        char[] folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(name.charAt(i));
+        }
+
+        // 오른쪽부터 점마다 그 뒤의 구간을 비교 (ANY_SEGMENT는 구간이 끝나는 위치도 오른쪽 점부터 차례로)
+        int[] ends = anySegment ? new int[folded.length + 1] : null;
+        int endCount = 0;
+        if (anySegment) {
+            ends[endCount++] = folded.length;
+        }
+        for (int dot = folded.length - 1; dot >= 0; dot--) {
+            char c = folded[dot];
+            if (c == INVALID && !anySegment) {
+                return null;
+            }
+            if (c != '.') {
+                continue;
+            }
+            if (!anySegment) {
+                String match = lookup(folded, dot + 1, folded.length);
+                if (match != null) {
+                    return match;
+                }
+                continue;
+            }
+            for (int k = 0; k < endCount; k++) {
+                String match = lookup(folded, dot + 1, ends[k]);
+                if (match != null) {
+                    return match;
+                }
+            }
+            ends[endCount++] = dot;
+        }
+        return null;
+    }
+
+    private String lookup(char[] folded, int from, int to) {
+        int length = to - from;
+        if (length <= 0 || length > maxLength) {
+            return null;
+        }
+        String candidate = new String(folded, from, length);
+        return blocked.contains(candidate) ? candidate : null;
+    }
+
+    /**
+     * 서버 사전과 같은 방식으로 대소문자를 접은 문자 (영문 소문자, 숫자, 점), 그 외는 INVALID
+     */
+    private static char fold(char c) {
+        if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '.') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c >= 0x80) {
+            char lower = Character.toLowerCase(c);
+            return lower < 0x80 ? fold(lower) : INVALID;
+        }
+        return INVALID;
+    }
+
+    /**
+     * 빈 구간 없이 ASCII 영문 소문자/숫자와 구분자 점으로만 이루어진 규칙인지 확인
+     */
+    private static boolean isKey(String extension) {
+        int length = extension.length();
+        if (length == 0 || extension.charAt(0) == '.' || extension.charAt(length - 1) == '.') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = extension.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '.';
+            if (!valid || (c == '.' && extension.charAt(i - 1) == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.extensionblocker.client;
+
+import java.util.List;
+
+/**
+ * 클라이언트가 보유한 네임스페이스 정책 (불변)
+ *
+ * @param namespace 정책 네임스페이스
+ * @param version   정책 버전
+ * @param etag      조회 응답의 ETag (조건부 조회에 사용)
+ * @param matcher   로컬 매처
+ */
+record LocalPolicy(String namespace, long version, String etag, LocalMatcher matcher) {
+
+    static LocalPolicy of(CompiledPolicy policy, String etag) {
+        List<String> blocked = policy.blocked() != null ? policy.blocked() : List.of();
+        boolean anySegment = "ANY_SEGMENT".equals(policy.mode());
+        return new LocalPolicy(policy.namespace(), policy.version(), etag, new LocalMatcher(blocked, anySegment));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.extensionblocker.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 컴파일된 정책 조회 (GET /api/policies/{namespace}/compiled)
+ * 이전 응답의 ETag를 If-None-Match로 보내, 정책이 바뀌지 않았으면 본문 없는 304만 받음
+ */
+final class PolicyFetcher {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ObjectReader reader = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(CompiledPolicy.class);
+
+    PolicyFetcher(HttpClient httpClient, String baseUrl, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 정책 조회
+     *
+     * @param namespace 정책 네임스페이스
+     * @param current   현재 보유한 정책 (없으면 null)
+     * @return 새 정책, 바뀌지 않았으면 current
+     * @throws IOException          요청 실패 또는 2xx/304 외의 응답
+     * @throws InterruptedException 요청 중 인터럽트된 경우
+     */
+    LocalPolicy fetch(String namespace, LocalPolicy current) throws IOException, InterruptedException {
+        String path = "/api/policies/" + URLEncoder.encode(namespace, StandardCharsets.UTF_8).replace("+", "%20")
+                + "/compiled";
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET();
+        if (current != null && current.etag() != null) {
+            request.header("If-None-Match", current.etag());
+        }
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        int status = response.statusCode();
+        if (status == 304 && current != null) {
+            return current;
+        }
+        if (status / 100 != 2) {
+            throw new IOException("Unexpected status " + status + " for policy " + namespace);
+        }
+        CompiledPolicy policy = reader.readValue(response.body());
+        return LocalPolicy.of(policy, response.headers().firstValue("ETag").orElse(null));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.extensionblocker.client;
+
+/**
+ * 로컬 판정 결과
+ *
+ * @param allowed   허용 여부
+ * @param extension 차단된 파일은 일치한 규칙, 그 외에는 마지막 점 이후 (점 제외, 소문자, 없으면 빈 문자열)
+ * @param degraded  정책을 사용할 수 없어 FailureMode로 판정했으면 true
+ */
+public record Verdict(boolean allowed, String extension, boolean degraded) {
+}
@@ -24,8 +24,39 @@ psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-E
         id BIGSERIAL PRIMARY KEY,
         namespace VARCHAR(50) NOT NULL UNIQUE,
         status CHAR(1) DEFAULT 'Y',
-        description VARCHAR(255)
+        description VARCHAR(255),
+        version BIGINT NOT NULL DEFAULT 0,
+        parent_id BIGINT,
+        CONSTRAINT fk_policy_parent FOREIGN KEY (parent_id) REFERENCES extension_policy(id),
+        CONSTRAINT ck_policy_parent CHECK (parent_id <> id)
     );
+    CREATE INDEX IF NOT EXISTS idx_policy_parent ON extension_policy (parent_id);
+
+    -- Reject parent changes that would form a cycle. Parent changes are serialized by a transaction-level advisory
+    -- lock and the check runs after taking it, so concurrent changes to different policies cannot form a cycle together
+    CREATE OR REPLACE FUNCTION check_policy_parent() RETURNS trigger AS \$\$
+    BEGIN
+        IF NEW.parent_id IS NULL THEN
+            RETURN NEW;
+        END IF;
+        PERFORM pg_advisory_xact_lock(hashtext('extension_policy.parent_id'));
+        IF EXISTS (
+            WITH RECURSIVE ancestors (id, parent_id) AS (
+                SELECT id, parent_id FROM extension_policy WHERE id = NEW.parent_id
+                UNION
+                SELECT p.id, p.parent_id FROM extension_policy p JOIN ancestors a ON p.id = a.parent_id
+            )
+            SELECT 1 FROM ancestors WHERE id = NEW.id
+        ) THEN
+            RAISE EXCEPTION 'Namespace hierarchy cannot contain a cycle (policy %, parent %)', NEW.id, NEW.parent_id
+                USING ERRCODE = 'check_violation';
+        END IF;
+        RETURN NEW;
+    END
+    \$\$ LANGUAGE plpgsql;
+    CREATE OR REPLACE TRIGGER trg_policy_parent
+        BEFORE INSERT OR UPDATE OF parent_id ON extension_policy
+        FOR EACH ROW EXECUTE FUNCTION check_policy_parent();
 
     -- Extension Rule Table
     CREATE TABLE IF NOT EXISTS extension_rule (
@@ -33,18 +64,52 @@ psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-E
         policy_id BIGINT NOT NULL,
         extension VARCHAR(20) NOT NULL,
         type VARCHAR(10) NOT NULL,
+        effect VARCHAR(10) NOT NULL DEFAULT 'BLOCK',
         created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
         CONSTRAINT fk_policy FOREIGN KEY (policy_id) REFERENCES extension_policy(id) ON DELETE CASCADE,
-        CONSTRAINT uk_policy_extension UNIQUE (policy_id, extension)
+        CONSTRAINT uk_policy_extension UNIQUE (policy_id, extension),
+        CONSTRAINT ck_rule_effect CHECK (effect IN ('BLOCK', 'ALLOW'))
     );
 
+    -- Policy Change Log Table (one row per rule added/removed or parent changed, tagged with the policy version it produced)
+    CREATE TABLE IF NOT EXISTS extension_policy_change (
+        id BIGSERIAL PRIMARY KEY,
+        policy_id BIGINT NOT NULL,
+        version BIGINT NOT NULL,
+        operation VARCHAR(10) NOT NULL,
+        rule_id BIGINT,
+        extension VARCHAR(20),
+        type VARCHAR(10),
+        effect VARCHAR(10),
+        parent_namespace VARCHAR(50),
+        changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+        CONSTRAINT fk_change_policy FOREIGN KEY (policy_id) REFERENCES extension_policy(id) ON DELETE CASCADE,
+        CONSTRAINT ck_change_operation CHECK (operation IN ('ADD', 'REMOVE', 'PARENT'))
+    );
+    CREATE INDEX IF NOT EXISTS idx_policy_change_version ON extension_policy_change (policy_id, version);
+
+    -- Validation Audit Table (daily partitions are created by the application, default partition catches the rest)
+    CREATE TABLE IF NOT EXISTS validation_audit (
+        decided_at TIMESTAMPTZ NOT NULL,
+        namespace TEXT,
+        filename TEXT,
+        extension TEXT,
+        allowed BOOLEAN NOT NULL
+    ) PARTITION BY RANGE (decided_at);
+    CREATE TABLE IF NOT EXISTS validation_audit_default PARTITION OF validation_audit DEFAULT;
+    CREATE INDEX IF NOT EXISTS idx_validation_audit_namespace ON validation_audit (namespace, decided_at);
+
     -- Set table ownership to appuser
     ALTER TABLE extension_policy OWNER TO $APP_USER;
     ALTER TABLE extension_rule OWNER TO $APP_USER;
+    ALTER TABLE extension_policy_change OWNER TO $APP_USER;
+    ALTER TABLE validation_audit OWNER TO $APP_USER;
+    ALTER TABLE validation_audit_default OWNER TO $APP_USER;
 
     -- Set sequence ownership to appuser
     ALTER SEQUENCE extension_policy_id_seq OWNER TO $APP_USER;
     ALTER SEQUENCE extension_rule_id_seq OWNER TO $APP_USER;
+    ALTER SEQUENCE extension_policy_change_id_seq OWNER TO $APP_USER;
 
     -- Grant all privileges on tables to appuser
     GRANT ALL PRIVILEGES ON ALL TABLES IN SCHEMA public TO $APP_USER;
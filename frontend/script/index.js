@@ -15,7 +15,7 @@ const scenarioDescription = document.getElementById('scenario-description'); //
 
 // 상수 정의
 const MAX_CUSTOM = 200;                 // 최대 커스텀 확장자 개수
-const VALID_REGEX = /^[a-z0-9]+$/;      // 유효한 확장자 형식 (영문 소문자, 숫자만)
+const VALID_REGEX = /^[a-z0-9]+(\.[a-z0-9]+)*$/;      // 유효한 확장자 형식 (영문 소문자, 숫자 구간을 점으로 연결, 예: tar.gz)
 
 /**
  * 페이지 로드 시 초기화
@@ -97,14 +97,20 @@ function renderFixed(list) {
  */
 function renderCustom(list) {
     customContainer.innerHTML = '';
-    counter.textContent = list.length;
+    counter.textContent = list.filter(item => !item.inherited).length;
 
     list.forEach(item => {
         const tag = document.createElement('div');
         tag.className = 'tag';
+        // 상위 네임스페이스에서 물려받은 항목은 삭제 대신 차단 해제(ALLOW) 규칙을 추가
+        const action = item.inherited
+            ? `allowInherited('${item.name}')`
+            : `deleteCustom(${item.id})`;
+        if (item.inherited) tag.title = '상위 네임스페이스에서 상속됨';
+        if (!item.active) tag.style.textDecoration = 'line-through';
         tag.innerHTML = `
             ${item.name}
-            <span class="close" onclick="deleteCustom(${item.id})">&times;</span>
+            <span class="close" onclick="${action}">&times;</span>
         `;
         customContainer.appendChild(tag);
     });
@@ -117,19 +123,17 @@ function renderCustom(list) {
 async function toggleFixed(item) {
     try {
         let res;
-        if (item.active) {
-            // 이미 차단됨(active) -> 차단 해제 (DELETE)
-            // item.id가 존재해야 함
-            if (!item.id) throw new Error('ID not found for active item');
+        if (item.id) {
+            // 이 네임스페이스의 규칙이 있음 -> 규칙 삭제 (DELETE, 상위 네임스페이스의 상태로 돌아감)
             res = await fetch(`${API_BASE}/extensions/${item.id}`, {
                 method: 'DELETE'
             });
         } else {
-            // 차단 안 됨(!active) -> 차단 (POST)
+            // 규칙 없음 -> 차단 (POST), 상위에서 물려받은 차단이면 차단 해제 규칙 추가 (ALLOW)
             res = await fetch(`${API_BASE}/policies/${currentNamespace}/fixed`, {
                 method: 'POST',
                 headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify({ extension: item.name })
+                body: JSON.stringify({ extension: item.name, effect: item.active ? 'ALLOW' : 'BLOCK' })
             });
         }
 
@@ -160,7 +164,7 @@ async function addCustom() {
         return;
     }
     if (!VALID_REGEX.test(val)) {
-        alert('영문 소문자와 숫자만 입력 가능합니다.');
+        alert('영문 소문자와 숫자만 입력 가능합니다. (여러 구간은 점으로 구분, 예: tar.gz)');
         return;
     }
 
@@ -205,6 +209,29 @@ window.deleteCustom = /**
         }
     };
 
+/**
+ * 상위 네임스페이스에서 물려받은 커스텀 확장자의 차단을 이 네임스페이스에서만 해제
+ * @param {string} name - 차단 해제할 확장자명
+ */
+window.allowInherited = async function allowInherited(name) {
+    if (!confirm('상위 네임스페이스에서 상속된 확장자입니다. 이 네임스페이스에서 차단을 해제하시겠습니까?')) return;
+
+    try {
+        const res = await fetch(`${API_BASE}/policies/${currentNamespace}/custom`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ extension: name, effect: 'ALLOW' })
+        });
+        if (!res.ok) {
+            const errorData = await res.json();
+            throw new Error(errorData.message);
+        }
+        fetchData();  // 목록 새로고침
+    } catch (err) {
+        alert('차단 해제 실패: ' + err.message);
+    }
+};
+
 // 이벤트 리스너 등록
 addBtn.addEventListener('click', addCustom);
 customInput.addEventListener('keypress', (e) => {
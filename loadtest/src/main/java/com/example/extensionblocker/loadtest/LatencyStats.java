@@ -0,0 +1,118 @@
+package com.example.extensionblocker.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 지연 시간과 결과 집계 (스레드 안전)
+ * 응답 시간은 요청을 보내야 했던 시각(스케줄상 도착 시각)부터 재므로, 서버가 느려져 요청을 늦게 보낸 시간까지 포함됨
+ * (coordinated omission 보정). 비교를 위해 실제로 보낸 시각부터 잰 서비스 시간도 따로 기록
+ * 워밍업 구간에 도착한 요청은 건수만 세고 통계에는 넣지 않으며, 지연 시간은 마이크로초 단위로 기록
+ */
+final class LatencyStats {
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder warmupCompleted = new LongAdder();
+
+    LatencyStats() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * 응답 기록
+     *
+     * @param operation     요청 종류
+     * @param measured      측정 구간에 도착한 요청인지 여부
+     * @param intendedNanos 스케줄상 도착 시각 (System.nanoTime)
+     * @param sentNanos     실제로 보낸 시각
+     * @param doneNanos     응답을 받은 시각
+     * @param status        HTTP 상태 코드 (응답을 받지 못했으면 0)
+     */
+    void record(Operation operation, boolean measured, long intendedNanos, long sentNanos, long doneNanos,
+            int status) {
+        if (!measured) {
+            warmupCompleted.increment();
+            return;
+        }
+        OperationStats target = stats.get(operation);
+        target.responseTime.recordValue(Math.max(0, (doneNanos - intendedNanos) / 1000));
+        target.serviceTime.recordValue(Math.max(0, (doneNanos - sentNanos) / 1000));
+        if (status == 0) {
+            target.failed.increment();
+        } else if (status == 429) {
+            target.rateLimited.increment();
+        } else if (status >= 500) {
+            target.serverErrors.increment();
+        } else if (status >= 400) {
+            target.clientErrors.increment();
+        } else {
+            target.ok.increment();
+        }
+    }
+
+    /**
+     * 지난 호출 이후의 구간 응답 시간을 꺼내 누적 통계에 더함
+     *
+     * @return 요청 종류별 구간 응답 시간
+     */
+    Map<Operation, Histogram> interval() {
+        Map<Operation, Histogram> intervals = new EnumMap<>(Operation.class);
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            intervals.put(entry.getKey(), entry.getValue().interval());
+        }
+        return intervals;
+    }
+
+    long getWarmupCompleted() {
+        return warmupCompleted.sum();
+    }
+
+    OperationStats get(Operation operation) {
+        return stats.get(operation);
+    }
+
+    /**
+     * 요청 종류 하나의 통계
+     */
+    static final class OperationStats {
+
+        private final Recorder responseTime = new Recorder(3);
+        private final Recorder serviceTime = new Recorder(3);
+        private Histogram responseInterval;
+        private Histogram serviceInterval;
+
+        /**
+         * 측정 구간 누적 응답 시간 (coordinated omission 보정)
+         */
+        final Histogram totalResponse = new Histogram(3);
+
+        /**
+         * 측정 구간 누적 서비스 시간 (보정 없음)
+         */
+        final Histogram totalService = new Histogram(3);
+
+        final LongAdder ok = new LongAdder();
+        final LongAdder clientErrors = new LongAdder();
+        final LongAdder rateLimited = new LongAdder();
+        final LongAdder serverErrors = new LongAdder();
+        final LongAdder failed = new LongAdder();
+
+        long completed() {
+            return ok.sum() + clientErrors.sum() + rateLimited.sum() + serverErrors.sum() + failed.sum();
+        }
+
+        private synchronized Histogram interval() {
+            responseInterval = responseTime.getIntervalHistogram(responseInterval);
+            serviceInterval = serviceTime.getIntervalHistogram(serviceInterval);
+            totalResponse.add(responseInterval);
+            totalService.add(serviceInterval);
+            return responseInterval.copy();
+        }
+    }
+}
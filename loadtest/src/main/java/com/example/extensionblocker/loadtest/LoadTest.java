@@ -0,0 +1,244 @@
+package com.example.extensionblocker.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST API 부하 테스트 진입점
+ * 워밍업 후 측정 구간 동안 열린 모델로 요청을 보내고, 주기적으로 구간 처리량/지연 시간을 출력한 뒤
+ * 요청 종류별 처리량, 결과 건수, 응답 시간 백분위수(coordinated omission 보정)와 서비스 시간 백분위수를 출력
+ */
+public final class LoadTest {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final LoadTestOptions options;
+    private final PrintStream out;
+
+    private LoadTest(LoadTestOptions options, PrintStream out) {
+        this.options = options;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage() != null && !e.getMessage().isEmpty()) {
+                System.err.println(e.getMessage());
+            }
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        boolean completed = new LoadTest(options, System.out).run();
+        System.exit(completed ? 0 : 1);
+    }
+
+    /**
+     * 부하 테스트 실행
+     *
+     * @return 남은 응답을 시간 안에 모두 받았는지 여부
+     */
+    private boolean run() throws IOException, InterruptedException {
+        StubServer stub = options.stub ? new StubServer(Math.max(4, options.clientThreads)) : null;
+        String baseUrl = stub != null ? stub.baseUrl() : options.target;
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(options.clientThreads, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout)
+                .executor(clientExecutor)
+                .build();
+
+        LatencyStats stats = new LatencyStats();
+        OpenLoopDriver driver = new OpenLoopDriver(httpClient, new Workload(options, baseUrl), stats, options);
+        HistogramLogWriter logWriter = openLog();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        out.println(options.describe());
+        out.println(stub != null ? "stub server: " + baseUrl : "target: " + baseUrl);
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup.toNanos();
+        long end = measureStart + options.duration.toNanos();
+        long interval = options.reportInterval.toNanos();
+        reporter.scheduleAtFixedRate(() -> report(stats, driver, logWriter, start, measureStart), interval,
+                interval, TimeUnit.NANOSECONDS);
+
+        boolean drained = driver.run(start, measureStart, end, options.timeout.toMillis() + 1000);
+        reporter.shutdown();
+        reporter.awaitTermination(options.reportInterval.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        report(stats, driver, logWriter, start, measureStart);
+        long measuredNanos = Math.min(System.nanoTime(), end) - measureStart;
+
+        summarize(stats, driver, measuredNanos, drained);
+        if (logWriter != null) {
+            logWriter.close();
+        }
+        if (options.csv != null) {
+            writeCsv(stats, measuredNanos);
+        }
+        clientExecutor.shutdownNow();
+        if (stub != null) {
+            stub.close();
+        }
+        return drained;
+    }
+
+    /**
+     * 구간 출력 (워밍업 중에는 완료 건수만 출력)
+     */
+    private synchronized void report(LatencyStats stats, OpenLoopDriver driver, HistogramLogWriter logWriter,
+            long start, long measureStart) {
+        long now = System.nanoTime();
+        Map<Operation, Histogram> intervals = stats.interval();
+        double elapsed = (now - start) / 1e9;
+        if (now < measureStart) {
+            out.printf(Locale.ROOT, "[%6.1fs] warmup: sent=%d completed=%d in-flight=%d%n", elapsed,
+                    driver.getSent(), stats.getWarmupCompleted(), driver.getInFlight());
+            return;
+        }
+        Histogram combined = new Histogram(3);
+        long intervalStart = Long.MAX_VALUE;
+        long intervalEnd = 0;
+        for (Map.Entry<Operation, Histogram> entry : intervals.entrySet()) {
+            Histogram histogram = entry.getValue();
+            combined.add(histogram);
+            if (logWriter != null && histogram.getTotalCount() > 0) {
+                histogram.setTag(entry.getKey().label());
+                logWriter.outputIntervalHistogram(histogram);
+            }
+            if (histogram.getTotalCount() > 0) {
+                intervalStart = Math.min(intervalStart, histogram.getStartTimeStamp());
+                intervalEnd = Math.max(intervalEnd, histogram.getEndTimeStamp());
+            }
+        }
+        double seconds = intervalEnd > intervalStart ? (intervalEnd - intervalStart) / 1000.0
+                : options.reportInterval.toMillis() / 1000.0;
+        out.printf(Locale.ROOT, "[%6.1fs] rate=%8.1f/s p50=%8.2fms p99=%8.2fms max=%8.2fms in-flight=%d late=%d%n",
+                elapsed, combined.getTotalCount() / seconds, millis(combined.getValueAtPercentile(50)),
+                millis(combined.getValueAtPercentile(99)), millis(combined.getMaxValue()), driver.getInFlight(),
+                driver.getLate());
+    }
+
+    private void summarize(LatencyStats stats, OpenLoopDriver driver, long measuredNanos, boolean drained) {
+        double seconds = measuredNanos / 1e9;
+        out.println();
+        out.printf(Locale.ROOT, "measured %.1fs, target rate %.0f/s, sent %d (late %d)%s%n", seconds, options.rate,
+                driver.getSent(), driver.getLate(), drained ? "" : ", NOT all responses received before timeout");
+        out.println("response time = from scheduled arrival (coordinated-omission corrected),"
+                + " service time = from actual send");
+        out.printf(Locale.ROOT, "%-9s %9s %9s %7s %7s %7s %7s | %9s %9s %9s %9s %9s | %9s%n", "operation",
+                "count", "rate/s", "4xx", "429", "5xx", "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                "max ms", "svc p99");
+        Histogram allResponse = new Histogram(3);
+        Histogram allService = new Histogram(3);
+        long[] totals = new long[6];
+        for (Operation operation : Operation.values()) {
+            LatencyStats.OperationStats operationStats = stats.get(operation);
+            if (operationStats.completed() == 0) {
+                continue;
+            }
+            allResponse.add(operationStats.totalResponse);
+            allService.add(operationStats.totalService);
+            long[] counts = counts(operationStats);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += counts[i];
+            }
+            printRow(operation.label(), counts, seconds, operationStats.totalResponse, operationStats.totalService);
+        }
+        printRow("total", totals, seconds, allResponse, allService);
+    }
+
+    private void printRow(String label, long[] counts, double seconds, Histogram response, Histogram service) {
+        out.printf(Locale.ROOT, "%-9s %9d %9.1f %7d %7d %7d %7d | %9.2f %9.2f %9.2f %9.2f %9.2f | %9.2f%n", label,
+                counts[0], counts[0] / seconds, counts[2], counts[3], counts[4], counts[5],
+                millis(response.getValueAtPercentile(PERCENTILES[0])),
+                millis(response.getValueAtPercentile(PERCENTILES[1])),
+                millis(response.getValueAtPercentile(PERCENTILES[2])),
+                millis(response.getValueAtPercentile(PERCENTILES[3])), millis(response.getMaxValue()),
+                millis(service.getValueAtPercentile(99)));
+    }
+
+    /**
+     * 측정 요약을 CSV 한 줄씩 추가 (파일이 없으면 헤더부터 작성, 빌드 간 비교용)
+     */
+    private void writeCsv(LatencyStats stats, long measuredNanos) throws IOException {
+        boolean header = !Files.exists(options.csv);
+        StringBuilder csv = new StringBuilder();
+        if (header) {
+            csv.append("timestamp,target,rate,operation,count,throughput,ok,4xx,429,5xx,failed,")
+                    .append("p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms\n");
+        }
+        String timestamp = Instant.now().toString();
+        String target = options.stub ? "stub" : options.target;
+        for (Operation operation : Operation.values()) {
+            LatencyStats.OperationStats operationStats = stats.get(operation);
+            if (operationStats.completed() == 0) {
+                continue;
+            }
+            long[] counts = counts(operationStats);
+            Histogram response = operationStats.totalResponse;
+            csv.append(String.format(Locale.ROOT,
+                    "%s,%s,%.0f,%s,%d,%.1f,%d,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n", timestamp, target,
+                    options.rate, operation.label(), counts[0], counts[0] / (measuredNanos / 1e9), counts[1],
+                    counts[2], counts[3], counts[4], counts[5], millis(response.getValueAtPercentile(50)),
+                    millis(response.getValueAtPercentile(90)), millis(response.getValueAtPercentile(99)),
+                    millis(response.getValueAtPercentile(99.9)), millis(response.getMaxValue()),
+                    millis(operationStats.totalService.getValueAtPercentile(99))));
+        }
+        try (Writer writer = Files.newBufferedWriter(options.csv, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            writer.write(csv.toString());
+        }
+        out.println("summary appended to " + options.csv);
+    }
+
+    private HistogramLogWriter openLog() throws IOException {
+        if (options.hlog == null) {
+            return null;
+        }
+        HistogramLogWriter writer = new HistogramLogWriter(options.hlog.toFile());
+        writer.outputComment("extension-blocker load test: " + options.describe());
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(System.currentTimeMillis());
+        writer.setBaseTime(System.currentTimeMillis());
+        writer.outputLegend();
+        return writer;
+    }
+
+    /**
+     * 전체, 2xx, 4xx, 429, 5xx, 실패 건수
+     */
+    private static long[] counts(LatencyStats.OperationStats stats) {
+        return new long[] { stats.completed(), stats.ok.sum(), stats.clientErrors.sum(), stats.rateLimited.sum(),
+                stats.serverErrors.sum(), stats.failed.sum() };
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.extensionblocker.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 명령행 옵션 (--이름=값 또는 --이름 값)
+ */
+final class LoadTestOptions {
+
+    static final String USAGE = String.join(System.lineSeparator(),
+            "usage: java -jar extension-blocker-loadtest.jar [options]",
+            "  --target=URL              server base URL (default http://localhost:8080)",
+            "  --stub                    start an in-memory stand-in server instead of using --target",
+            "  --rate=N                  arrivals per second, open model (default 1000)",
+            "  --arrival=poisson|uniform inter-arrival distribution (default poisson)",
+            "  --duration=D              measured duration (default 60s)",
+            "  --warmup=D                unmeasured warmup before --duration (default 10s)",
+            "  --mix=validate=95,read=4,write=1  operation weights",
+            "  --namespaces=N            number of namespaces (default 100)",
+            "  --namespace-skew=S        Zipf exponent for namespaces (default 1.0, 0 = uniform)",
+            "  --extensions=N            number of distinct file extensions (default 200)",
+            "  --extension-skew=S        Zipf exponent for extensions (default 1.1)",
+            "  --max-in-flight=N         outstanding requests before arrivals queue (default 1000)",
+            "  --client-threads=N        HTTP client threads (default: available processors)",
+            "  --timeout=D               per-request timeout (default 10s)",
+            "  --report-interval=D       progress report interval (default 5s)",
+            "  --seed=N                  random seed for a reproducible request sequence",
+            "  --csv=FILE                append a summary row per operation",
+            "  --hlog=FILE               write per-operation HdrHistogram interval logs",
+            "durations: 500ms, 30s, 2m");
+
+    String target = "http://localhost:8080";
+    boolean stub;
+    double rate = 1000;
+    boolean poisson = true;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    Map<Operation, Integer> mix = defaultMix();
+    int namespaces = 100;
+    double namespaceSkew = 1.0;
+    int extensions = 200;
+    double extensionSkew = 1.1;
+    int maxInFlight = 1000;
+    int clientThreads = Runtime.getRuntime().availableProcessors();
+    Duration timeout = Duration.ofSeconds(10);
+    Duration reportInterval = Duration.ofSeconds(5);
+    long seed = System.nanoTime();
+    Path csv;
+    Path hlog;
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String name = arg.substring(2);
+            String value = null;
+            int separator = name.indexOf('=');
+            if (separator >= 0) {
+                value = name.substring(separator + 1);
+                name = name.substring(0, separator);
+            } else if (!name.equals("stub") && !name.equals("help")) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for --" + name);
+                }
+                value = args[++i];
+            }
+            options.set(name, value);
+        }
+        options.validate();
+        return options;
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+            case "help" -> throw new IllegalArgumentException("");
+            case "target" -> target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+            case "stub" -> stub = value == null || Boolean.parseBoolean(value);
+            case "rate" -> rate = Double.parseDouble(value);
+            case "arrival" -> poisson = switch (value.toLowerCase(Locale.ROOT)) {
+                case "poisson" -> true;
+                case "uniform" -> false;
+                default -> throw new IllegalArgumentException("Unknown arrival distribution: " + value);
+            };
+            case "duration" -> duration = parseDuration(value);
+            case "warmup" -> warmup = parseDuration(value);
+            case "mix" -> mix = parseMix(value);
+            case "namespaces" -> namespaces = Integer.parseInt(value);
+            case "namespace-skew" -> namespaceSkew = Double.parseDouble(value);
+            case "extensions" -> extensions = Integer.parseInt(value);
+            case "extension-skew" -> extensionSkew = Double.parseDouble(value);
+            case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+            case "client-threads" -> clientThreads = Integer.parseInt(value);
+            case "timeout" -> timeout = parseDuration(value);
+            case "report-interval" -> reportInterval = parseDuration(value);
+            case "seed" -> seed = Long.parseLong(value);
+            case "csv" -> csv = Path.of(value);
+            case "hlog" -> hlog = Path.of(value);
+            default -> throw new IllegalArgumentException("Unknown option: --" + name);
+        }
+    }
+
+    private void validate() {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        if (duration.isZero() || duration.isNegative() || warmup.isNegative()) {
+            throw new IllegalArgumentException("--duration must be positive and --warmup must not be negative");
+        }
+        if (namespaces <= 0 || extensions <= 0 || maxInFlight <= 0 || clientThreads <= 0) {
+            throw new IllegalArgumentException(
+                    "--namespaces, --extensions, --max-in-flight and --client-threads must be positive");
+        }
+        if (reportInterval.isZero() || reportInterval.isNegative()) {
+            throw new IllegalArgumentException("--report-interval must be positive");
+        }
+    }
+
+    /**
+     * "validate=95,read=4,write=1" 형식의 비율 (생략한 종류는 0)
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, 0);
+        }
+        int total = 0;
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid --mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative --mix weight: " + part);
+            }
+            weights.put(Operation.fromLabel(pair[0].trim()), weight);
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("--mix must contain a positive weight");
+        }
+        return weights;
+    }
+
+    /**
+     * "500ms", "30s", "2m" 또는 ISO-8601("PT30S") 형식의 시간
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.startsWith("pt")) {
+            return Duration.parse(text.toUpperCase(Locale.ROOT));
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofMillis(Math.round(Double.parseDouble(text.substring(0, text.length() - 1)) * 1000));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)) * 60);
+        }
+        throw new IllegalArgumentException("Invalid duration: " + value);
+    }
+
+    private static Map<Operation, Integer> defaultMix() {
+        return parseMix("validate=95,read=4,write=1");
+    }
+
+    String describe() {
+        return String.format(Locale.ROOT,
+                "target=%s rate=%.0f/s arrival=%s warmup=%ds duration=%ds mix=%s namespaces=%d(skew %.2f)"
+                        + " extensions=%d(skew %.2f) max-in-flight=%d seed=%d",
+                stub ? "stub" : target, rate, poisson ? "poisson" : "uniform", warmup.toSeconds(),
+                duration.toSeconds(), mix, namespaces, namespaceSkew, extensions, extensionSkew, maxInFlight, seed);
+    }
+}
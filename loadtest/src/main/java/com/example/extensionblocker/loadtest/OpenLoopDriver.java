@@ -0,0 +1,113 @@
+package com.example.extensionblocker.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하 생성기
+ * 응답을 기다리지 않고 정해진 도착률(초당 rate건, 포아송 또는 균등 간격)로 요청을 보냄
+ * 미리 정한 도착 시각에 맞춰 스케줄러 스레드 하나가 요청을 만들어 비동기로 보내고, 응답 시간은 도착 시각부터 잼
+ * 보내지 못한 요청이 maxInFlight개에 이르면 자리가 날 때까지 다음 요청을 보내지 않지만,
+ * 도착 시각은 그대로이므로 기다린 시간은 그 요청들의 응답 시간에 포함됨
+ */
+final class OpenLoopDriver {
+
+    private final HttpClient httpClient;
+    private final Workload workload;
+    private final LatencyStats stats;
+    private final SplittableRandom random;
+    private final double meanIntervalNanos;
+    private final boolean poisson;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final AtomicLong sent = new AtomicLong();
+
+    /**
+     * 도착 시각이 지난 뒤에야 보낸 요청 수 (스케줄러 또는 maxInFlight 때문에 늦어진 요청)
+     */
+    private final AtomicLong late = new AtomicLong();
+
+    OpenLoopDriver(HttpClient httpClient, Workload workload, LatencyStats stats, LoadTestOptions options) {
+        this.httpClient = httpClient;
+        this.workload = workload;
+        this.stats = stats;
+        this.random = new SplittableRandom(options.seed);
+        this.meanIntervalNanos = 1_000_000_000d / options.rate;
+        this.poisson = options.poisson;
+        this.maxInFlight = options.maxInFlight;
+        this.inFlight = new Semaphore(options.maxInFlight);
+    }
+
+    /**
+     * 정해진 시간 동안 요청을 보내고, 보낸 요청의 응답을 모두 받을 때까지 기다림
+     *
+     * @param startNanos   첫 도착 시각 기준 (System.nanoTime)
+     * @param measureNanos 이 시각 이후에 도착한 요청만 측정 (워밍업 종료 시각)
+     * @param endNanos     이 시각 이후에는 요청을 보내지 않음
+     * @param drainMillis  남은 응답을 기다리는 최대 시간
+     * @return 시간 안에 응답을 모두 받았는지 여부
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    boolean run(long startNanos, long measureNanos, long endNanos, long drainMillis) throws InterruptedException {
+        double next = startNanos;
+        while (true) {
+            next += poisson ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            long intended = (long) next;
+            if (intended >= endNanos) {
+                break;
+            }
+            waitUntil(intended);
+            inFlight.acquire();
+            send(workload.next(random), intended, intended >= measureNanos);
+        }
+        if (!inFlight.tryAcquire(maxInFlight, drainMillis, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        inFlight.release(maxInFlight);
+        return true;
+    }
+
+    private void send(Workload.Request request, long intended, boolean measured) {
+        long sentAt = System.nanoTime();
+        sent.incrementAndGet();
+        if (sentAt - intended > 1_000_000) {
+            late.incrementAndGet();
+        }
+        HttpResponse.BodyHandler<String> handler = request.operation() == Operation.READ
+                ? HttpResponse.BodyHandlers.ofString()
+                : HttpResponse.BodyHandlers.replacing(null);
+        httpClient.sendAsync(request.http(), handler).whenComplete((response, error) -> {
+            long done = System.nanoTime();
+            inFlight.release();
+            int status = error == null ? response.statusCode() : 0;
+            stats.record(request.operation(), measured, intended, sentAt, done, status);
+            if (error == null) {
+                workload.onResponse(request, status, response.body());
+            }
+        });
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    long getSent() {
+        return sent.get();
+    }
+
+    long getLate() {
+        return late.get();
+    }
+
+    int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+}
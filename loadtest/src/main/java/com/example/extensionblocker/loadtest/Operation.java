@@ -0,0 +1,41 @@
+package com.example.extensionblocker.loadtest;
+
+/**
+ * 부하 테스트 요청 종류
+ */
+enum Operation {
+
+    /**
+     * POST /api/validate/file
+     */
+    VALIDATE("validate"),
+
+    /**
+     * GET /api/policies/{namespace}
+     */
+    READ("read"),
+
+    /**
+     * POST /api/policies/{namespace}/custom 또는 DELETE /api/extensions/{id}
+     */
+    WRITE("write");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Operation fromLabel(String label) {
+        for (Operation operation : values()) {
+            if (operation.label.equalsIgnoreCase(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + label);
+    }
+}
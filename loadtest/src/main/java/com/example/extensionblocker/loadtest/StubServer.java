@@ -0,0 +1,163 @@
+package com.example.extensionblocker.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 백엔드 대신 사용하는 인메모리 서버 (--stub)
+ * 부하 테스트가 사용하는 API만 같은 경로와 상태 코드로 흉내 내며, 규칙은 메모리에만 저장
+ * DB 없이 부하 생성기 자체의 처리 한계와 측정 오차를 확인하는 용도
+ */
+final class StubServer implements AutoCloseable {
+
+    private static final Pattern EXTENSION = Pattern.compile("\"extension\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern FILENAME = Pattern.compile("\"filename\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern NAMESPACE = Pattern.compile("\"namespace\"\\s*:\\s*\"([^\"]*)\"");
+    private static final int MAX_CUSTOM_EXTENSIONS = 200;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong ids = new AtomicLong();
+
+    /**
+     * 네임스페이스 → (규칙 ID → 확장자)
+     */
+    private final Map<String, Map<Long, String>> rules = new ConcurrentHashMap<>();
+
+    /**
+     * 규칙 ID → 네임스페이스
+     */
+    private final Map<Long, String> owners = new ConcurrentHashMap<>();
+
+    StubServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/api/validate/file", this::validate);
+        server.createContext("/api/policies/", this::policies);
+        server.createContext("/api/extensions/", this::delete);
+        server.start();
+    }
+
+    String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void validate(HttpExchange exchange) throws IOException {
+        String body = readBody(exchange);
+        String filename = group(FILENAME, body);
+        String namespace = group(NAMESPACE, body);
+        if (filename == null || namespace == null) {
+            respond(exchange, 400, "{\"code\":\"E001\"}");
+            return;
+        }
+        int dot = filename.lastIndexOf('.');
+        String extension = dot >= 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        boolean blocked = rules.getOrDefault(namespace, Map.of()).containsValue(extension);
+        respond(exchange, 200, "{\"allowed\":" + !blocked + ",\"extension\":\"" + extension + "\"}");
+    }
+
+    private void policies(HttpExchange exchange) throws IOException {
+        String[] path = exchange.getRequestURI().getPath().split("/");
+        // /api/policies/{namespace}[/custom]
+        String namespace = path.length > 3 ? path[3] : "";
+        if ("GET".equals(exchange.getRequestMethod()) && path.length == 4) {
+            StringBuilder json = new StringBuilder("{\"fixed\":[],\"custom\":[");
+            boolean first = true;
+            for (Map.Entry<Long, String> rule : rules.getOrDefault(namespace, Map.of()).entrySet()) {
+                json.append(first ? "" : ",").append("{\"id\":").append(rule.getKey())
+                        .append(",\"name\":\"").append(rule.getValue()).append("\",\"isActive\":true}");
+                first = false;
+            }
+            respond(exchange, 200, json.append("]}").toString());
+            return;
+        }
+        if ("POST".equals(exchange.getRequestMethod()) && path.length == 5 && "custom".equals(path[4])) {
+            String extension = group(EXTENSION, readBody(exchange));
+            if (extension == null || extension.isEmpty()) {
+                respond(exchange, 400, "{\"code\":\"E001\"}");
+                return;
+            }
+            Map<Long, String> policy = rules.computeIfAbsent(namespace, key -> new ConcurrentHashMap<>());
+            int status;
+            synchronized (policy) {
+                if (policy.containsValue(extension)) {
+                    status = 409;
+                } else if (policy.size() >= MAX_CUSTOM_EXTENSIONS) {
+                    status = 400;
+                } else {
+                    long id = ids.incrementAndGet();
+                    policy.put(id, extension);
+                    owners.put(id, namespace);
+                    status = 200;
+                }
+            }
+            respond(exchange, status, status == 200 ? "" : "{}");
+            return;
+        }
+        respond(exchange, 404, "{}");
+    }
+
+    private void delete(HttpExchange exchange) throws IOException {
+        if (!"DELETE".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "{}");
+            return;
+        }
+        String path = exchange.getRequestURI().getPath();
+        try {
+            long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+            String namespace = owners.remove(id);
+            if (namespace != null) {
+                Map<Long, String> policy = rules.get(namespace);
+                synchronized (policy) {
+                    policy.remove(id);
+                }
+            }
+            respond(exchange, 200, "");
+        } catch (NumberFormatException e) {
+            respond(exchange, 400, "{}");
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String group(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.extensionblocker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 요청 생성기
+ * 요청 종류는 비율(mix)대로, 네임스페이스와 파일 확장자는 각각 Zipf 분포로 고름
+ * 쓰기는 커스텀 확장자 추가와 삭제를 반씩 섞으며, 삭제할 규칙 ID는 조회 응답에서 이 도구가 추가한 규칙(WRITE_PREFIX)만 모아 둠
+ * (모아 둔 ID가 없는 네임스페이스는 추가로 대신함)
+ * next는 도착 스케줄러 스레드 하나에서만 호출
+ */
+final class Workload {
+
+    /**
+     * 이 도구가 추가하는 커스텀 확장자의 접두사
+     */
+    static final String WRITE_PREFIX = "lt";
+
+    /**
+     * 쓰기에 사용할 커스텀 확장자 종류 수 (같은 이름을 다시 추가하면 409)
+     */
+    private static final int WRITE_EXTENSIONS = 1000;
+
+    /**
+     * 많이 쓰이는 순서로 나열한 실제 확장자 (나머지 순위는 "ext" + 순위로 채움)
+     */
+    private static final List<String> COMMON_EXTENSIONS = List.of(
+            "pdf", "jpg", "png", "docx", "xlsx", "txt", "zip", "pptx", "csv", "gif",
+            "mp4", "hwp", "jpeg", "doc", "xls", "json", "mp3", "heic", "svg", "tar.gz",
+            "ppt", "webp", "mov", "7z", "rar", "html", "xml", "log", "md", "exe",
+            "sh", "bat", "js", "dll", "cmd", "msi", "jar", "scr", "com", "cpl");
+
+    private final String baseUrl;
+    private final Duration timeout;
+    private final int[] thresholds;
+    private final Operation[] operations;
+    private final int totalWeight;
+    private final ZipfDistribution namespaceRanks;
+    private final ZipfDistribution extensionRanks;
+    private final String[] namespaces;
+    private final String[] extensions;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * 네임스페이스 → 삭제할 수 있는 규칙 ID
+     */
+    private final Map<String, ConcurrentLinkedQueue<Long>> deletable = new ConcurrentHashMap<>();
+
+    private long fileCounter;
+
+    Workload(LoadTestOptions options, String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.timeout = options.timeout;
+        this.operations = Operation.values();
+        this.thresholds = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += options.mix.getOrDefault(operations[i], 0);
+            thresholds[i] = total;
+        }
+        this.totalWeight = total;
+        this.namespaceRanks = new ZipfDistribution(options.namespaces, options.namespaceSkew);
+        this.extensionRanks = new ZipfDistribution(options.extensions, options.extensionSkew);
+        this.namespaces = new String[options.namespaces];
+        for (int i = 0; i < namespaces.length; i++) {
+            namespaces[i] = String.format("lt-ns-%05d", i + 1);
+        }
+        this.extensions = new String[options.extensions];
+        for (int i = 0; i < extensions.length; i++) {
+            extensions[i] = i < COMMON_EXTENSIONS.size() ? COMMON_EXTENSIONS.get(i) : "ext" + i;
+        }
+    }
+
+    /**
+     * 다음 요청 생성
+     *
+     * @param random 스케줄러 스레드의 난수 생성기
+     * @return 요청
+     */
+    Request next(SplittableRandom random) {
+        Operation operation = pickOperation(random);
+        String namespace = namespaces[namespaceRanks.sample(random)];
+        return switch (operation) {
+            case VALIDATE -> validate(namespace, random);
+            case READ -> new Request(Operation.READ, namespace, builder("/api/policies/" + namespace).GET().build());
+            case WRITE -> write(namespace, random);
+        };
+    }
+
+    /**
+     * 응답 처리 (조회 응답에서 삭제할 수 있는 규칙 ID 수집)
+     */
+    void onResponse(Request request, int status, String body) {
+        if (request.operation() != Operation.READ || status != 200 || body == null) {
+            return;
+        }
+        try {
+            JsonNode custom = mapper.readTree(body).path("custom");
+            ConcurrentLinkedQueue<Long> ids = new ConcurrentLinkedQueue<>();
+            for (JsonNode rule : custom) {
+                if (rule.path("name").asText("").startsWith(WRITE_PREFIX) && !rule.path("inherited").asBoolean()) {
+                    ids.add(rule.path("id").asLong());
+                }
+            }
+            deletable.put(request.namespace(), ids);
+        } catch (IOException e) {
+            // 형식이 다른 응답은 무시 (삭제 대신 추가를 보냄)
+        }
+    }
+
+    private Operation pickOperation(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < thresholds.length; i++) {
+            if (value < thresholds[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private Request validate(String namespace, SplittableRandom random) {
+        String extension = extensions[extensionRanks.sample(random)];
+        String filename = "file-" + (fileCounter++) + "." + extension;
+        String body = "{\"filename\":\"" + filename + "\",\"namespace\":\"" + namespace + "\"}";
+        return new Request(Operation.VALIDATE, namespace, builder("/api/validate/file")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private Request write(String namespace, SplittableRandom random) {
+        if (random.nextBoolean()) {
+            ConcurrentLinkedQueue<Long> ids = deletable.get(namespace);
+            Long id = ids != null ? ids.poll() : null;
+            if (id != null) {
+                return new Request(Operation.WRITE, namespace, builder("/api/extensions/" + id).DELETE().build());
+            }
+        }
+        String body = "{\"extension\":\"" + WRITE_PREFIX + random.nextInt(WRITE_EXTENSIONS) + "\"}";
+        return new Request(Operation.WRITE, namespace, builder("/api/policies/" + namespace + "/custom")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+    }
+
+    /**
+     * 생성한 요청
+     */
+    record Request(Operation operation, String namespace, HttpRequest http) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.extensionblocker.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 순위 0..n-1을 Zipf 분포(순위 k의 확률 ∝ 1 / (k + 1)^skew)로 뽑는 생성기 (불변)
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑으므로 한 번에 O(log n)
+ * skew가 0이면 균등 분포, 클수록 상위 순위에 요청이 몰림
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double skew) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("skew must not be negative");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, skew);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+        cumulative[n - 1] = 1.0;
+    }
+
+    /**
+     * 순위 하나를 뽑음
+     *
+     * @param random 난수 생성기 (호출하는 스레드 전용)
+     * @return 0부터 시작하는 순위
+     */
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+}